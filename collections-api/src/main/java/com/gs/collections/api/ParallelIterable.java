@@ -24,10 +24,13 @@ import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -35,6 +38,8 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.set.MutableSet;
@@ -89,41 +94,55 @@ public interface ParallelIterable<T>
 //     * Returns a parallel BooleanIterable which will transform the underlying iterable data to boolean values based on the booleanFunction.
 //     */
 //    ParallelBooleanIterable collectBoolean(BooleanFunction<? super T> booleanFunction);
-//
-//    /**
-//     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
-//     */
-//    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
-//
-//    /**
-//     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
-//     */
-//    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
-//
-//    /**
-//     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
-//     */
-//    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
-//
-//    /**
-//     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
-//     */
-//    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
-//
-//    /**
-//     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
-//     */
-//    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
-//
-//    /**
-//     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
-//     */
-//    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
-//
-//    /**
-//     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
-//     */
-//    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
+
+    /**
+     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
+     *
+     * @since 6.2
+     */
+    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
+
+    /**
+     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
+     *
+     * @since 6.2
+     */
+    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
+
+    /**
+     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
+     *
+     * @since 6.2
+     */
+    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
+
+    /**
+     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
+     *
+     * @since 6.2
+     */
+    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
+
+    /**
+     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
+     *
+     * @since 6.2
+     */
+    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
+
+    /**
+     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
+     *
+     * @since 6.2
+     */
+    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
+
+    /**
+     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
+     *
+     * @since 6.2
+     */
+    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
 
     void forEach(Procedure<? super T> procedure);
 
@@ -231,6 +250,45 @@ public interface ParallelIterable<T>
      */
     double sumOfDouble(DoubleFunction<? super T> function);
 
+    /**
+     * Groups and sums the values using the two specified functions. Each batch is aggregated into its own primitive
+     * map and the partial results are merged once all batches have completed.
+     *
+     * @since 6.2
+     */
+    <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch is aggregated into its own primitive
+     * map and the partial results are merged once all batches have completed.
+     *
+     * @since 6.2
+     */
+    <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch is aggregated into its own primitive
+     * map and the partial results are merged once all batches have completed.
+     *
+     * @since 6.2
+     */
+    <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch is aggregated into its own primitive
+     * map and the partial results are merged once all batches have completed.
+     *
+     * @since 6.2
+     */
+    <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function);
+
+    /**
+     * Returns a map from each key computed by the specified function to the number of elements that produced it.
+     *
+     * @since 6.2
+     */
+    <V> ObjectLongMap<V> countBy(Function<? super T, ? extends V> function);
+
     String makeString();
 
     String makeString(String separator);
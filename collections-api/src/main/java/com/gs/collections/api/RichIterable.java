@@ -1224,6 +1224,28 @@ public interface
      */
     <V extends Comparable<? super V>> T maxBy(Function<? super T, ? extends V> function);
 
+    /**
+     * Returns the k elements out of this container with the greatest values of the attribute returned by Function,
+     * from the greatest down. If the container has fewer than k elements, all of them are returned. Elements whose
+     * attribute ties with the last one returned may or may not be included.
+     * <p>
+     * The elements are selected with a heap of size k, so this takes O(n log k) time rather than sorting the
+     * whole container.
+     *
+     * @throws IllegalArgumentException if k is negative
+     * @since 6.2
+     */
+    <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function);
+
+    /**
+     * Returns the k elements out of this container with the least values of the attribute returned by Function,
+     * from the least up. This is the counterpart of {@link #topKBy(int, Function)}.
+     *
+     * @throws IllegalArgumentException if k is negative
+     * @since 6.2
+     */
+    <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function);
+
     /**
      * Returns the final long result of evaluating function for each element of the iterable and adding the results
      * together.
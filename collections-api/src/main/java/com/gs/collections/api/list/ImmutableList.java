@@ -18,6 +18,7 @@ package com.gs.collections.api.list;
 
 import java.util.List;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.primitive.BooleanFunction;
@@ -132,4 +133,13 @@ public interface ImmutableList<T>
     ImmutableList<T> subList(int fromIndex, int toIndex);
 
     ImmutableList<T> toReversed();
+
+    /**
+     * Returns a {@link TransientList} that starts with the elements of this list. Use it to apply a batch of additions
+     * without creating an intermediate immutable list for each one.
+     *
+     * @since 6.2
+     */
+    @Beta
+    TransientList<T> toTransient();
 }
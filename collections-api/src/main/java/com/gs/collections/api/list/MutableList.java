@@ -115,6 +115,14 @@ public interface MutableList<T>
      */
     MutableList<T> sortThis();
 
+    /**
+     * Sorts the internal data structure of this list in parallel batches and returns the list itself as a convenience.
+     * The sort is stable, and a null comparator sorts the elements in their natural order.
+     *
+     * @since 6.2
+     */
+    MutableList<T> sortThisParallel(Comparator<? super T> comparator);
+
     /**
      * Sorts the internal data structure of this list based on the natural order of the attribute returned by {@code
      * function}.
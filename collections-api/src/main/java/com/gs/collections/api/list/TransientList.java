@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.api.list;
+
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * A TransientList is a single-threaded builder obtained from {@link ImmutableList#toTransient()}. It appends elements
+ * in place, reusing the structure of the list it was created from, and {@link #toImmutable()} freezes the result
+ * without copying the elements. Adding to the TransientList after {@link #toImmutable()} does not affect the lists it
+ * has already returned.
+ * <p>
+ * A TransientList is not thread-safe and should not be shared between threads.
+ *
+ * @since 6.2
+ */
+@Beta
+public interface TransientList<T>
+{
+    TransientList<T> with(T element);
+
+    TransientList<T> withAll(Iterable<? extends T> elements);
+
+    /**
+     * @see java.util.List#get(int)
+     */
+    T get(int index);
+
+    int size();
+
+    ImmutableList<T> toImmutable();
+}
@@ -16,6 +16,7 @@
 
 package com.gs.collections.api.map;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.ImmutableBag;
 import com.gs.collections.api.bag.primitive.ImmutableBooleanBag;
 import com.gs.collections.api.bag.primitive.ImmutableByteBag;
@@ -147,4 +148,13 @@ public interface ImmutableMap<K, V>
             Function2<? super V2, ? super V, ? extends V2> nonMutatingAggregator);
 
     ImmutableMap<V, K> flipUniqueValues();
+
+    /**
+     * Returns a {@link TransientMap} that starts with the entries of this map. Use it to apply a batch of updates
+     * without creating an intermediate immutable map for each one.
+     *
+     * @since 6.2
+     */
+    @Beta
+    TransientMap<K, V> toTransient();
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.api.map;
+
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.tuple.Pair;
+
+/**
+ * A ParallelMapIterable is a view of a map which splits the map's storage into batches. The views returned by
+ * keysView, valuesView and keyValuesView defer evaluation just like any other ParallelIterable. Evaluation occurs in
+ * parallel. All code blocks passed in must be stateless or thread-safe.
+ *
+ * @since 6.2
+ */
+@Beta
+public interface ParallelMapIterable<K, V>
+{
+    /**
+     * Calls the procedure with each key-value pair of the map, in parallel.
+     */
+    void forEachKeyValue(Procedure2<? super K, ? super V> procedure);
+
+    /**
+     * Returns a parallel view of the keys of the map.
+     */
+    ParallelUnsortedSetIterable<K> keysView();
+
+    /**
+     * Returns a parallel view of the values of the map.
+     */
+    ParallelIterable<V> valuesView();
+
+    /**
+     * Returns a parallel view of the key-value pairs of the map.
+     */
+    ParallelIterable<Pair<K, V>> keyValuesView();
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.api.map;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.tuple.Pair;
+
+/**
+ * A TransientMap is a single-threaded builder obtained from {@link ImmutableMap#toTransient()}. It applies updates in
+ * place, reusing the structure of the map it was created from, and {@link #toImmutable()} freezes the result without
+ * copying the entries. Updating the TransientMap after {@link #toImmutable()} does not affect the maps it has already
+ * returned.
+ * <p>
+ * A TransientMap is not thread-safe and should not be shared between threads.
+ *
+ * @since 6.2
+ */
+@Beta
+public interface TransientMap<K, V>
+{
+    TransientMap<K, V> withKeyValue(K key, V value);
+
+    TransientMap<K, V> withAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues);
+
+    TransientMap<K, V> withoutKey(K key);
+
+    /**
+     * @see java.util.Map#get(Object)
+     */
+    V get(Object key);
+
+    /**
+     * @see java.util.Map#containsKey(Object)
+     */
+    boolean containsKey(Object key);
+
+    int size();
+
+    ImmutableMap<K, V> toImmutable();
+}
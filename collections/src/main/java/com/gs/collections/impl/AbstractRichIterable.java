@@ -92,6 +92,7 @@ import com.gs.collections.impl.block.procedure.SumOfDoubleProcedure;
 import com.gs.collections.impl.block.procedure.SumOfFloatProcedure;
 import com.gs.collections.impl.block.procedure.SumOfIntProcedure;
 import com.gs.collections.impl.block.procedure.SumOfLongProcedure;
+import com.gs.collections.impl.block.procedure.TopKByProcedure;
 import com.gs.collections.impl.block.procedure.ZipWithIndexProcedure;
 import com.gs.collections.impl.block.procedure.primitive.CollectBooleanProcedure;
 import com.gs.collections.impl.block.procedure.primitive.CollectByteProcedure;
@@ -388,6 +389,20 @@ public abstract class AbstractRichIterable<T> implements RichIterable<T>
         return maxByProcedure.getResult();
     }
 
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        TopKByProcedure<T, V> topKByProcedure = TopKByProcedure.top(k, function);
+        this.forEach(topKByProcedure);
+        return topKByProcedure.getResult();
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        TopKByProcedure<T, V> bottomKByProcedure = TopKByProcedure.bottom(k, function);
+        this.forEach(bottomKByProcedure);
+        return bottomKByProcedure.getResult();
+    }
+
     public LazyIterable<T> asLazy()
     {
         return LazyIterate.adapt(this);
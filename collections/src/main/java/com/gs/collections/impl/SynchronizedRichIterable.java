@@ -801,6 +801,22 @@ public class SynchronizedRichIterable<T>
         }
     }
 
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.topKBy(k, function);
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.bottomKBy(k, function);
+        }
+    }
+
     public long sumOfInt(IntFunction<? super T> function)
     {
         synchronized (this.lock)
@@ -397,6 +397,16 @@ public class UnmodifiableRichIterable<T>
         return this.iterable.maxBy(function);
     }
 
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.iterable.topKBy(k, function);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.iterable.bottomKBy(k, function);
+    }
+
     public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
     {
         return this.iterable.detectIfNone(predicate, function);
@@ -75,11 +75,11 @@ import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.collection.immutable.AbstractImmutableCollection;
 import com.gs.collections.impl.factory.Bags;
-import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.partition.bag.PartitionHashBag;
 import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
 import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.internal.BagIterables;
 
 /**
  * @since 1.0
@@ -731,44 +731,11 @@ public abstract class AbstractImmutableBag<T>
 
     public ImmutableList<ObjectIntPair<T>> topOccurrences(int n)
     {
-        return this.occurrencesSortingBy(n, new IntFunction<ObjectIntPair<T>>()
-        {
-            public int intValueOf(ObjectIntPair<T> item)
-            {
-                return -item.getTwo();
-            }
-        }).toImmutable();
+        return BagIterables.topOccurrences(this, n).toImmutable();
     }
 
     public ImmutableList<ObjectIntPair<T>> bottomOccurrences(int n)
     {
-        return this.occurrencesSortingBy(n, new IntFunction<ObjectIntPair<T>>()
-        {
-            public int intValueOf(ObjectIntPair<T> item)
-            {
-                return item.getTwo();
-            }
-        }).toImmutable();
-    }
-
-    private MutableList<ObjectIntPair<T>> occurrencesSortingBy(int n, IntFunction<ObjectIntPair<T>> function)
-    {
-        if (n < 0)
-        {
-            throw new IllegalArgumentException("Cannot use a value of n < 0");
-        }
-        if (n == 0)
-        {
-            return Lists.fixedSize.empty();
-        }
-        int keySize = Math.min(n, this.sizeDistinct());
-        MutableList<ObjectIntPair<T>> sorted = this.toListWithOccurrences().sortThisByInt(function);
-        MutableList<ObjectIntPair<T>> results = sorted.subList(0, keySize).toList();
-        while (keySize < sorted.size() && results.getLast().getTwo() == sorted.get(keySize).getTwo())
-        {
-            results.add(sorted.get(keySize));
-            keySize++;
-        }
-        return results;
+        return BagIterables.bottomOccurrences(this, n).toImmutable();
     }
 }
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.Comparator;
 
 import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.bag.MutableBagIterable;
 import com.gs.collections.api.bag.primitive.MutableBooleanBag;
 import com.gs.collections.api.bag.primitive.MutableByteBag;
 import com.gs.collections.api.bag.primitive.MutableCharBag;
@@ -64,14 +65,16 @@ import com.gs.collections.api.tuple.primitive.ObjectIntPair;
 import com.gs.collections.impl.Counter;
 import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
 import com.gs.collections.impl.collection.mutable.AbstractMutableCollection;
-import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.factory.Sets;
 import com.gs.collections.impl.factory.SortedSets;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
 import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.internal.BagIterables;
 
-public abstract class AbstractMutableBag<T> extends AbstractMutableCollection<T>
+public abstract class AbstractMutableBag<T>
+        extends AbstractMutableCollection<T>
+        implements MutableBagIterable<T>
 {
     public abstract void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure);
 
@@ -812,44 +815,11 @@ public abstract class AbstractMutableBag<T> extends AbstractMutableCollection<T>
 
     public MutableList<ObjectIntPair<T>> topOccurrences(int n)
     {
-        return this.occurrencesSortingBy(n, new IntFunction<ObjectIntPair<T>>()
-        {
-            public int intValueOf(ObjectIntPair<T> item)
-            {
-                return -item.getTwo();
-            }
-        });
+        return BagIterables.topOccurrences(this, n);
     }
 
     public MutableList<ObjectIntPair<T>> bottomOccurrences(int n)
     {
-        return this.occurrencesSortingBy(n, new IntFunction<ObjectIntPair<T>>()
-        {
-            public int intValueOf(ObjectIntPair<T> item)
-            {
-                return item.getTwo();
-            }
-        });
-    }
-
-    private MutableList<ObjectIntPair<T>> occurrencesSortingBy(int n, IntFunction<ObjectIntPair<T>> function)
-    {
-        if (n < 0)
-        {
-            throw new IllegalArgumentException("Cannot use a value of n < 0");
-        }
-        if (n == 0)
-        {
-            return Lists.mutable.empty();
-        }
-        int keySize = Math.min(n, this.sizeDistinct());
-        MutableList<ObjectIntPair<T>> sorted = this.toListWithOccurrences().sortThisByInt(function);
-        MutableList<ObjectIntPair<T>> results = sorted.subList(0, keySize).toList();
-        while (keySize < sorted.size() && results.getLast().getTwo() == sorted.get(keySize).getTwo())
-        {
-            results.add(sorted.get(keySize));
-            keySize++;
-        }
-        return results;
+        return BagIterables.bottomOccurrences(this, n);
     }
 }
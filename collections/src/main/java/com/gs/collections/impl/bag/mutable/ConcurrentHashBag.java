@@ -0,0 +1,981 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.bag.Bag;
+import com.gs.collections.api.bag.ImmutableBag;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.bag.ParallelUnsortedBag;
+import com.gs.collections.api.bag.primitive.MutableBooleanBag;
+import com.gs.collections.api.bag.primitive.MutableByteBag;
+import com.gs.collections.api.bag.primitive.MutableCharBag;
+import com.gs.collections.api.bag.primitive.MutableDoubleBag;
+import com.gs.collections.api.bag.primitive.MutableFloatBag;
+import com.gs.collections.api.bag.primitive.MutableIntBag;
+import com.gs.collections.api.bag.primitive.MutableLongBag;
+import com.gs.collections.api.bag.primitive.MutableShortBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.ordered.OrderedIterable;
+import com.gs.collections.api.partition.bag.PartitionMutableBag;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.Counter;
+import com.gs.collections.impl.bag.mutable.primitive.BooleanHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.ByteHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.CharHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.DoubleHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.FloatHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.LongHashBag;
+import com.gs.collections.impl.bag.mutable.primitive.ShortHashBag;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.factory.Bags;
+import com.gs.collections.impl.lazy.parallel.bag.NonParallelUnsortedBag;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.partition.bag.PartitionHashBag;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.utility.ArrayIterate;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * A ConcurrentHashBag is a MutableBag which can be updated by many threads at the same time. Each item is mapped in a
+ * {@link ConcurrentHashMap} to a counter of its occurrences. Adding occurrences never takes a lock: the count is
+ * updated with a compare-and-set, and once two threads collide on the same item its counter is split into cells,
+ * one per group of threads, which are summed when the count is read. Removing occurrences of an item locks the
+ * counter of that item only.
+ * <p>
+ * Reads are weakly consistent, like the iterators of {@link ConcurrentHashMap}. {@link #size()} sums the counters of
+ * all the items, so it is linear in {@link #sizeDistinct()} rather than constant time.
+ *
+ * @since 6.2
+ */
+@Beta
+public final class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable, MutableBag<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "ConcurrentHashBag.NULL_KEY";
+        }
+    };
+
+    private ConcurrentHashMap<Object, OccurrenceCounter> items;
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentHashBag(int initialCapacity)
+    {
+        this.items = ConcurrentHashMap.newMap(initialCapacity);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<E>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int initialCapacity)
+    {
+        return new ConcurrentHashBag<E>(initialCapacity);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Bag<? extends E> source)
+    {
+        final ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(source.sizeDistinct());
+        source.forEachWithOccurrences(new ObjectIntProcedure<E>()
+        {
+            public void value(E each, int occurrences)
+            {
+                result.addOccurrences(each, occurrences);
+            }
+        });
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        Iterate.addAllTo(source, result);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static Object toSentinelIfNull(Object item)
+    {
+        return item == null ? NULL_KEY : item;
+    }
+
+    private static <T> T nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (T) key;
+    }
+
+    public void addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0)
+        {
+            this.addToCounter(ConcurrentHashBag.toSentinelIfNull(item), occurrences);
+        }
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.addToCounter(ConcurrentHashBag.toSentinelIfNull(item), 1);
+        return true;
+    }
+
+    private void addToCounter(Object key, int occurrences)
+    {
+        while (true)
+        {
+            OccurrenceCounter counter = this.items.get(key);
+            if (counter == null)
+            {
+                counter = this.items.putIfAbsent(key, new OccurrenceCounter(occurrences));
+                if (counter == null)
+                {
+                    return;
+                }
+            }
+            if (counter.add(occurrences))
+            {
+                return;
+            }
+        }
+    }
+
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return false;
+        }
+        return this.removeFromCounter(ConcurrentHashBag.toSentinelIfNull(item), occurrences) > 0;
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.removeFromCounter(ConcurrentHashBag.toSentinelIfNull(item), 1) > 0;
+    }
+
+    /**
+     * Removes at most {@code occurrences} occurrences of the key and returns how many were actually removed.
+     */
+    private int removeFromCounter(Object key, int occurrences)
+    {
+        while (true)
+        {
+            OccurrenceCounter counter = this.items.get(key);
+            if (counter == null)
+            {
+                return 0;
+            }
+            synchronized (counter)
+            {
+                if (!counter.removed)
+                {
+                    int count = counter.sum();
+                    int removed = Math.min(count, occurrences);
+                    counter.base.addAndGet(-removed);
+                    if (removed == count)
+                    {
+                        this.retireIfEmpty(key, counter);
+                    }
+                    return removed;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the counter from the map if it is still empty. Must be called holding the lock of the counter.
+     * <p>
+     * The removed flag is set before the cells are summed, while an adder updates the cells before it reads the flag.
+     * So either the sum here sees the new occurrences and the counter stays, or the adder sees the flag, waits for the
+     * lock and finds out whether its occurrences were counted.
+     */
+    private void retireIfEmpty(Object key, OccurrenceCounter counter)
+    {
+        counter.removed = true;
+        if (counter.sum() == 0)
+        {
+            this.items.remove(key, counter);
+        }
+        else
+        {
+            counter.removed = false;
+        }
+    }
+
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        while (true)
+        {
+            OccurrenceCounter counter = this.items.get(key);
+            if (counter == null)
+            {
+                if (occurrences == 0)
+                {
+                    return false;
+                }
+                if (this.items.putIfAbsent(key, new OccurrenceCounter(occurrences)) == null)
+                {
+                    return true;
+                }
+                continue;
+            }
+            synchronized (counter)
+            {
+                if (!counter.removed)
+                {
+                    int count = counter.sum();
+                    if (count == occurrences)
+                    {
+                        return false;
+                    }
+                    counter.base.addAndGet(occurrences - count);
+                    if (occurrences == 0)
+                    {
+                        this.retireIfEmpty(key, counter);
+                    }
+                    return true;
+                }
+            }
+        }
+    }
+
+    public int occurrencesOf(Object item)
+    {
+        OccurrenceCounter counter = this.items.get(ConcurrentHashBag.toSentinelIfNull(item));
+        return counter == null ? 0 : counter.sum();
+    }
+
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+    {
+        for (Map.Entry<Object, OccurrenceCounter> entry : this.items.entrySet())
+        {
+            int occurrences = entry.getValue().sum();
+            if (occurrences > 0)
+            {
+                procedure.value(ConcurrentHashBag.<T>nonSentinel(entry.getKey()), occurrences);
+            }
+        }
+    }
+
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    public int size()
+    {
+        long size = 0L;
+        for (OccurrenceCounter counter : this.items.values())
+        {
+            size += counter.sum();
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        for (OccurrenceCounter counter : this.items.values())
+        {
+            if (counter.sum() > 0)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object item)
+    {
+        return this.occurrencesOf(item) > 0;
+    }
+
+    public void clear()
+    {
+        for (Object key : this.items.keySet())
+        {
+            this.removeFromCounter(key, Integer.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public void removeIf(Predicate<? super T> predicate)
+    {
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.<T>nonSentinel(key)))
+            {
+                this.removeFromCounter(key, Integer.MAX_VALUE);
+            }
+        }
+    }
+
+    @Override
+    public <P> void removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.<T>nonSentinel(key), parameter))
+            {
+                this.removeFromCounter(key, Integer.MAX_VALUE);
+            }
+        }
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        boolean changed = false;
+        for (Object each : iterable)
+        {
+            changed |= this.removeFromCounter(ConcurrentHashBag.toSentinelIfNull(each), Integer.MAX_VALUE) > 0;
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean retainAllIterable(Iterable<?> iterable)
+    {
+        boolean changed = false;
+        UnifiedSet<Object> retained = UnifiedSet.newSet(iterable);
+        for (Object key : this.items.keySet())
+        {
+            if (!retained.contains(ConcurrentHashBag.nonSentinel(key)))
+            {
+                changed |= this.removeFromCounter(key, Integer.MAX_VALUE) > 0;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        for (Map.Entry<Object, OccurrenceCounter> entry : this.items.entrySet())
+        {
+            if (bag.occurrencesOf(ConcurrentHashBag.nonSentinel(entry.getKey())) != entry.getValue().sum())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final Counter counter = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                counter.add((item == null ? 0 : item.hashCode()) ^ count);
+            }
+        });
+        return counter.getCount();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableMap<T, Integer> snapshot = this.toMapOfItemToCount();
+        out.writeInt(snapshot.size());
+        for (Map.Entry<T, Integer> entry : snapshot.entrySet())
+        {
+            out.writeObject(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.items = ConcurrentHashMap.newMap(size);
+        for (int i = 0; i < size; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    public MutableBag<T> selectByOccurrences(final IntPredicate predicate)
+    {
+        final MutableBag<T> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (predicate.accept(occurrences))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        final MutableMap<T, Integer> map = UnifiedMap.newMap(this.sizeDistinct());
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                map.put(item, count);
+            }
+        });
+        return map;
+    }
+
+    public String toStringOfItemToCount()
+    {
+        return this.toMapOfItemToCount().toString();
+    }
+
+    public MutableBag<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    public void each(final Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                for (int i = 0; i < occurrences; i++)
+                {
+                    procedure.value(each);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        final Counter index = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                for (int i = 0; i < occurrences; i++)
+                {
+                    objectIntProcedure.value(each, index.getCount());
+                    index.increment();
+                }
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, final P parameter)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                for (int i = 0; i < occurrences; i++)
+                {
+                    procedure.value(each, parameter);
+                }
+            }
+        });
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    public T getFirst()
+    {
+        Iterator<T> iterator = this.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    public T getLast()
+    {
+        final Object[] last = new Object[1];
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                last[0] = each;
+            }
+        });
+        return (T) last[0];
+    }
+
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    public SynchronizedBag<T> asSynchronized()
+    {
+        return new SynchronizedBag<T>(this);
+    }
+
+    public UnmodifiableBag<T> asUnmodifiable()
+    {
+        return UnmodifiableBag.of(this);
+    }
+
+    public ImmutableBag<T> toImmutable()
+    {
+        return Bags.immutable.withAll(this);
+    }
+
+    public MutableBag<T> select(Predicate<? super T> predicate)
+    {
+        return this.select(predicate, HashBag.<T>newBag());
+    }
+
+    public <P> MutableBag<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.select(Predicates.bind(predicate, parameter), HashBag.<T>newBag());
+    }
+
+    public MutableBag<T> reject(Predicate<? super T> predicate)
+    {
+        return this.reject(predicate, HashBag.<T>newBag());
+    }
+
+    public <P> MutableBag<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.reject(Predicates.bind(predicate, parameter), HashBag.<T>newBag());
+    }
+
+    public PartitionMutableBag<T> partition(final Predicate<? super T> predicate)
+    {
+        final PartitionMutableBag<T> result = new PartitionHashBag<T>();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                MutableBag<T> bucket = predicate.accept(each) ? result.getSelected() : result.getRejected();
+                bucket.addOccurrences(each, occurrences);
+            }
+        });
+        return result;
+    }
+
+    public <P> PartitionMutableBag<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.partition(Predicates.bind(predicate, parameter));
+    }
+
+    public <S> MutableBag<S> selectInstancesOf(final Class<S> clazz)
+    {
+        final MutableBag<S> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (clazz.isInstance(each))
+                {
+                    result.addOccurrences((S) each, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public <V> MutableBag<V> collect(Function<? super T, ? extends V> function)
+    {
+        return this.collect(function, HashBag.<V>newBag(this.sizeDistinct()));
+    }
+
+    public <P, V> MutableBag<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return this.collectWith(function, parameter, HashBag.<V>newBag(this.sizeDistinct()));
+    }
+
+    @Override
+    public <P, V, R extends Collection<V>> R collectWith(
+            final Function2<? super T, ? super P, ? extends V> function,
+            final P parameter,
+            R target)
+    {
+        return this.collect(new Function<T, V>()
+        {
+            public V valueOf(T each)
+            {
+                return function.value(each, parameter);
+            }
+        }, target);
+    }
+
+    public <V> MutableBag<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return this.collectIf(predicate, function, HashBag.<V>newBag());
+    }
+
+    public <V> MutableBag<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.flatCollect(function, HashBag.<V>newBag());
+    }
+
+    public MutableBooleanBag collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return this.collectBoolean(booleanFunction, new BooleanHashBag());
+    }
+
+    public MutableByteBag collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return this.collectByte(byteFunction, new ByteHashBag());
+    }
+
+    public MutableCharBag collectChar(CharFunction<? super T> charFunction)
+    {
+        return this.collectChar(charFunction, new CharHashBag());
+    }
+
+    public MutableDoubleBag collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return this.collectDouble(doubleFunction, new DoubleHashBag());
+    }
+
+    public MutableFloatBag collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return this.collectFloat(floatFunction, new FloatHashBag());
+    }
+
+    public MutableIntBag collectInt(IntFunction<? super T> intFunction)
+    {
+        return this.collectInt(intFunction, new IntHashBag());
+    }
+
+    public MutableLongBag collectLong(LongFunction<? super T> longFunction)
+    {
+        return this.collectLong(longFunction, new LongHashBag());
+    }
+
+    public MutableShortBag collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return this.collectShort(shortFunction, new ShortHashBag());
+    }
+
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    @Override
+    public <V> MutableMap<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
+    {
+        return this.groupByUniqueKey(function, UnifiedMap.<V, T>newMap());
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zip(Iterable)} instead.
+     */
+    @Deprecated
+    public <S> MutableBag<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return this.zip(that, HashBag.<Pair<T, S>>newBag());
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zipWithIndex()} instead.
+     */
+    @Deprecated
+    public MutableSet<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(UnifiedSet.<Pair<T, Integer>>newSet());
+    }
+
+    @Beta
+    public ParallelUnsortedBag<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new NonParallelUnsortedBag<T>(this);
+    }
+
+    private final class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Map.Entry<Object, OccurrenceCounter>> entryIterator = ConcurrentHashBag.this.items.entrySet().iterator();
+        private Object currentKey;
+        private int remainingOccurrences;
+        private boolean canRemove;
+
+        public boolean hasNext()
+        {
+            while (this.remainingOccurrences == 0 && this.entryIterator.hasNext())
+            {
+                Map.Entry<Object, OccurrenceCounter> entry = this.entryIterator.next();
+                this.currentKey = entry.getKey();
+                this.remainingOccurrences = entry.getValue().sum();
+                this.canRemove = false;
+            }
+            return this.remainingOccurrences > 0;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.remainingOccurrences--;
+            this.canRemove = true;
+            return ConcurrentHashBag.nonSentinel(this.currentKey);
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            this.canRemove = false;
+            ConcurrentHashBag.this.removeFromCounter(this.currentKey, 1);
+        }
+    }
+
+    /**
+     * The occurrences of one item. A count starts in {@code base} and moves to the striped {@code cells} the first
+     * time two threads race to update it, so that items which are rarely contended cost a single atomic integer.
+     * Only additions go to the cells. Removals are applied to {@code base} while holding the lock of the counter, so
+     * {@code base} can be negative but the sum of the counter never is.
+     */
+    private static final class OccurrenceCounter
+    {
+        private static final int CELL_COUNT = OccurrenceCounter.cellCount(Runtime.getRuntime().availableProcessors());
+        // Sixteen ints apart keeps two cells out of the same cache line
+        private static final int CELL_PADDING = 16;
+        private static final AtomicReferenceFieldUpdater<OccurrenceCounter, AtomicIntegerArray> CELLS_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(OccurrenceCounter.class, AtomicIntegerArray.class, "cells");
+
+        private final AtomicInteger base;
+        private volatile AtomicIntegerArray cells;
+        private volatile boolean removed;
+
+        private OccurrenceCounter(int occurrences)
+        {
+            this.base = new AtomicInteger(occurrences);
+        }
+
+        private static int cellCount(int processors)
+        {
+            int cellCount = 1;
+            while (cellCount < processors && cellCount < 64)
+            {
+                cellCount <<= 1;
+            }
+            return cellCount;
+        }
+
+        private static int cellIndex()
+        {
+            long threadId = Thread.currentThread().getId();
+            return ((int) (threadId ^ threadId >>> 32) & (CELL_COUNT - 1)) * CELL_PADDING;
+        }
+
+        /**
+         * Returns false if the counter was removed from the bag before the occurrences could be counted, in which case
+         * they must be added to a new counter.
+         */
+        private boolean add(int occurrences)
+        {
+            AtomicIntegerArray cells = this.cells;
+            if (cells == null)
+            {
+                int current = this.base.get();
+                if (!this.base.compareAndSet(current, current + occurrences))
+                {
+                    this.getOrCreateCells().addAndGet(OccurrenceCounter.cellIndex(), occurrences);
+                }
+            }
+            else
+            {
+                cells.addAndGet(OccurrenceCounter.cellIndex(), occurrences);
+            }
+            if (this.removed)
+            {
+                synchronized (this)
+                {
+                    return !this.removed;
+                }
+            }
+            return true;
+        }
+
+        private AtomicIntegerArray getOrCreateCells()
+        {
+            AtomicIntegerArray cells = this.cells;
+            if (cells == null)
+            {
+                CELLS_UPDATER.compareAndSet(this, null, new AtomicIntegerArray(CELL_COUNT * CELL_PADDING));
+                cells = this.cells;
+            }
+            return cells;
+        }
+
+        private int sum()
+        {
+            int sum = this.base.get();
+            AtomicIntegerArray cells = this.cells;
+            if (cells != null)
+            {
+                for (int i = 0; i < CELL_COUNT; i++)
+                {
+                    sum += cells.get(i * CELL_PADDING);
+                }
+            }
+            return Math.max(sum, 0);
+        }
+    }
+}
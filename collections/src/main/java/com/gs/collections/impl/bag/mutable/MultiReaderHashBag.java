@@ -26,6 +26,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.ImmutableBag;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.primitive.MutableBooleanBag;
@@ -68,6 +69,7 @@ import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.api.tuple.primitive.ObjectIntPair;
 import com.gs.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection;
+import com.gs.collections.impl.collection.mutable.StripedReadWriteLock;
 import com.gs.collections.impl.factory.Bags;
 import com.gs.collections.impl.factory.Iterables;
 import com.gs.collections.impl.utility.LazyIterate;
@@ -132,6 +134,29 @@ public final class MultiReaderHashBag<T>
         return new MultiReaderHashBag<T>(HashBag.newBagWith(elements));
     }
 
+    /**
+     * Creates an empty bag guarded by a {@link StripedReadWriteLock} with one stripe per available processor.
+     * Readers on different threads then do not contend on a shared reader count, at the cost of more expensive writes.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public static <T> MultiReaderHashBag<T> newStripedBag()
+    {
+        return new MultiReaderHashBag<T>(HashBag.<T>newBag(), new StripedReadWriteLock());
+    }
+
+    /**
+     * Creates an empty bag guarded by a {@link StripedReadWriteLock} with at least concurrencyLevel stripes.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public static <T> MultiReaderHashBag<T> newStripedBag(int concurrencyLevel)
+    {
+        return new MultiReaderHashBag<T>(HashBag.<T>newBag(), new StripedReadWriteLock(concurrencyLevel));
+    }
+
     @Override
     protected MutableBag<T> getDelegate()
     {
@@ -389,6 +389,16 @@ public abstract class AbstractBiMap<K, V> implements BiMap<K, V>
         return this.getDelegate().maxBy(function);
     }
 
+    public <VV extends Comparable<? super VV>> MutableList<V> topKBy(int k, Function<? super V, ? extends VV> function)
+    {
+        return this.getDelegate().topKBy(k, function);
+    }
+
+    public <VV extends Comparable<? super VV>> MutableList<V> bottomKBy(int k, Function<? super V, ? extends VV> function)
+    {
+        return this.getDelegate().bottomKBy(k, function);
+    }
+
     public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
     {
         return this.getDelegate().detect(predicate);
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * Implementation of {@link Procedure} that holds on to the k greatest (or least) elements seen so far, determined by
+ * the {@link Function}. The elements are kept in a binary heap whose root is the element that would be dropped
+ * first, so each element costs at most one call to the function and O(log k) comparisons.
+ *
+ * @since 6.2
+ */
+public class TopKByProcedure<T, V extends Comparable<? super V>> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Function<? super T, ? extends V> function;
+    private final boolean least;
+    private final int k;
+    private Object[] elements;
+    private Object[] values;
+    private int size;
+
+    public TopKByProcedure(int k, Function<? super T, ? extends V> function, boolean least)
+    {
+        if (k < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of k < 0");
+        }
+        this.function = function;
+        this.least = least;
+        this.k = k;
+        // The heap grows on demand so that a large k does not allocate more than the elements seen
+        this.elements = new Object[Math.min(k, 16)];
+        this.values = new Object[this.elements.length];
+    }
+
+    public static <T, V extends Comparable<? super V>> TopKByProcedure<T, V> top(int k, Function<? super T, ? extends V> function)
+    {
+        return new TopKByProcedure<T, V>(k, function, false);
+    }
+
+    public static <T, V extends Comparable<? super V>> TopKByProcedure<T, V> bottom(int k, Function<? super T, ? extends V> function)
+    {
+        return new TopKByProcedure<T, V>(k, function, true);
+    }
+
+    public void value(T each)
+    {
+        if (this.k == 0)
+        {
+            return;
+        }
+        V value = this.function.valueOf(each);
+        if (this.size < this.k)
+        {
+            if (this.size == this.elements.length)
+            {
+                int newCapacity = (int) Math.min((long) this.size << 1, this.k);
+                this.elements = TopKByProcedure.copyOf(this.elements, newCapacity);
+                this.values = TopKByProcedure.copyOf(this.values, newCapacity);
+            }
+            this.siftUp(this.size++, each, value);
+        }
+        else if (this.compare(value, (V) this.values[0]) > 0)
+        {
+            this.siftDown(this.elements, this.values, 0, this.size, each, value);
+        }
+    }
+
+    /**
+     * Returns the elements, the best first. The procedure can still be used afterwards.
+     */
+    public MutableList<T> getResult()
+    {
+        Object[] elements = TopKByProcedure.copyOf(this.elements, this.size);
+        Object[] values = TopKByProcedure.copyOf(this.values, this.size);
+        Object[] result = new Object[this.size];
+        for (int heapSize = this.size; heapSize > 0; heapSize--)
+        {
+            result[heapSize - 1] = elements[0];
+            this.removeRoot(elements, values, heapSize);
+        }
+        return FastList.newListWith((T[]) result);
+    }
+
+    private static Object[] copyOf(Object[] array, int length)
+    {
+        Object[] copy = new Object[length];
+        System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+        return copy;
+    }
+
+    private int compare(V one, V two)
+    {
+        int result = one.compareTo(two);
+        return this.least ? -result : result;
+    }
+
+    private void siftUp(int index, Object element, V value)
+    {
+        int child = index;
+        while (child > 0)
+        {
+            int parent = (child - 1) >>> 1;
+            if (this.compare(value, (V) this.values[parent]) >= 0)
+            {
+                break;
+            }
+            this.elements[child] = this.elements[parent];
+            this.values[child] = this.values[parent];
+            child = parent;
+        }
+        this.elements[child] = element;
+        this.values[child] = value;
+    }
+
+    private void siftDown(Object[] elements, Object[] values, int index, int heapSize, Object element, V value)
+    {
+        int parent = index;
+        int half = heapSize >>> 1;
+        while (parent < half)
+        {
+            int child = 2 * parent + 1;
+            int right = child + 1;
+            if (right < heapSize && this.compare((V) values[right], (V) values[child]) < 0)
+            {
+                child = right;
+            }
+            if (this.compare(value, (V) values[child]) <= 0)
+            {
+                break;
+            }
+            elements[parent] = elements[child];
+            values[parent] = values[child];
+            parent = child;
+        }
+        elements[parent] = element;
+        values[parent] = value;
+    }
+
+    private void removeRoot(Object[] elements, Object[] values, int heapSize)
+    {
+        int last = heapSize - 1;
+        Object lastElement = elements[last];
+        V lastValue = (V) values[last];
+        elements[last] = null;
+        values[last] = null;
+        if (last > 0)
+        {
+            this.siftDown(elements, values, 0, last, lastElement, lastValue);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * A BinaryCodec writes single objects to a DataOutput and reads them back. The collections which can be written with
+ * a codec, such as FastList, UnifiedMap and the primitive-to-object hash maps, use it for their elements, keys or
+ * values instead of Java serialization. A codec must handle null if the collection can contain null.
+ *
+ * @since 6.2
+ */
+@Beta
+public interface BinaryCodec<T>
+{
+    void write(T object, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.codec;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * BinaryCodecs is a factory of {@link BinaryCodec}s for strings and boxed primitives. All of them accept null.
+ * <p>
+ * It also adapts ByteBuffers to DataOutput and DataInput, which is how the collections implement their ByteBuffer forms
+ * of {@code write} and {@code read}. The bytes are the same as the ones written to a DataOutput, so they do not depend
+ * on the byte order of the buffer.
+ * <p>
+ * Every collection starts its binary form with the {@link #FORMAT_VERSION} byte. The sizes and table lengths which
+ * follow are only trusted as far as the input can back them: see {@link #initialCapacity(DataInput, int, int)}.
+ *
+ * @since 6.2
+ */
+@Beta
+public final class BinaryCodecs
+{
+    /**
+     * The version of the binary format of the collections, written as the first byte of their binary form.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * The largest number of elements allocated before they are read, when the number of bytes left in the input is not
+     * known.
+     */
+    public static final int MAXIMUM_UNCHECKED_CAPACITY = 1 << 20;
+
+    private static final String UTF_8 = "UTF-8";
+
+    private static final BinaryCodec<String> STRING = new StringCodec();
+    private static final BinaryCodec<Integer> INTEGER = new IntegerCodec();
+    private static final BinaryCodec<Long> LONG = new LongCodec();
+    private static final BinaryCodec<Double> DOUBLE = new DoubleCodec();
+
+    private BinaryCodecs()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns a codec which writes the length of a string followed by its UTF-8 bytes. Unlike
+     * {@link DataOutput#writeUTF(String)}, it is not limited to 65535 bytes.
+     */
+    public static BinaryCodec<String> strings()
+    {
+        return STRING;
+    }
+
+    public static BinaryCodec<Integer> integers()
+    {
+        return INTEGER;
+    }
+
+    public static BinaryCodec<Long> longs()
+    {
+        return LONG;
+    }
+
+    public static BinaryCodec<Double> doubles()
+    {
+        return DOUBLE;
+    }
+
+    /**
+     * Returns a DataOutput which writes to the buffer, starting at its position. Writing past the limit of the buffer
+     * throws {@link java.nio.BufferOverflowException}.
+     */
+    public static DataOutput asDataOutput(ByteBuffer buffer)
+    {
+        return new DataOutputStream(new ByteBufferOutputStream(buffer));
+    }
+
+    /**
+     * Returns a DataInput which reads from the buffer, starting at its position. Reading past the limit of the buffer
+     * throws {@link java.io.EOFException}.
+     */
+    public static DataInput asDataInput(ByteBuffer buffer)
+    {
+        return new ByteBufferDataInput(buffer);
+    }
+
+    public static void writeFormatVersion(DataOutput out) throws IOException
+    {
+        out.writeByte(FORMAT_VERSION);
+    }
+
+    /**
+     * Reads the byte written by {@link #writeFormatVersion(DataOutput)}, and throws a
+     * {@link StreamCorruptedException} if it is not {@link #FORMAT_VERSION}.
+     */
+    public static void readFormatVersion(DataInput in) throws IOException
+    {
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION)
+        {
+            throw new StreamCorruptedException("Unsupported format version: " + version);
+        }
+    }
+
+    /**
+     * Returns the capacity to allocate for {@code count} elements which are about to be read from the input, each of
+     * them taking at least {@code minimumBytes} bytes. If the input was created by {@link #asDataInput(ByteBuffer)}
+     * and fewer bytes remain in the buffer, an {@link EOFException} is thrown before anything is allocated. For other
+     * inputs the capacity is at most {@link #MAXIMUM_UNCHECKED_CAPACITY}, and the caller grows its storage as the
+     * elements arrive, so a corrupt or truncated input cannot cause an allocation much larger than its contents.
+     */
+    public static int initialCapacity(DataInput in, int count, int minimumBytes) throws IOException
+    {
+        if (in instanceof ByteBufferDataInput)
+        {
+            long remaining = ((ByteBufferDataInput) in).buffer.remaining();
+            if ((long) count * minimumBytes > remaining)
+            {
+                throw new EOFException("Cannot read " + count + " elements from " + remaining + " bytes");
+            }
+            if (minimumBytes > 0)
+            {
+                return count;
+            }
+        }
+        return Math.min(count, MAXIMUM_UNCHECKED_CAPACITY);
+    }
+
+    private static final class ByteBufferDataInput extends DataInputStream
+    {
+        private final ByteBuffer buffer;
+
+        private ByteBufferDataInput(ByteBuffer buffer)
+        {
+            super(new ByteBufferInputStream(buffer));
+            this.buffer = buffer;
+        }
+    }
+
+    private static final class StringCodec implements BinaryCodec<String>
+    {
+        public void write(String object, DataOutput out) throws IOException
+        {
+            if (object == null)
+            {
+                out.writeInt(-1);
+                return;
+            }
+            byte[] bytes = object.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        public String read(DataInput in) throws IOException
+        {
+            int length = in.readInt();
+            if (length < 0)
+            {
+                return null;
+            }
+            return new String(ByteArrayCodec.read(length, in), UTF_8);
+        }
+    }
+
+    private static final class IntegerCodec implements BinaryCodec<Integer>
+    {
+        public void write(Integer object, DataOutput out) throws IOException
+        {
+            out.writeBoolean(object != null);
+            if (object != null)
+            {
+                out.writeInt(object.intValue());
+            }
+        }
+
+        public Integer read(DataInput in) throws IOException
+        {
+            return in.readBoolean() ? Integer.valueOf(in.readInt()) : null;
+        }
+    }
+
+    private static final class LongCodec implements BinaryCodec<Long>
+    {
+        public void write(Long object, DataOutput out) throws IOException
+        {
+            out.writeBoolean(object != null);
+            if (object != null)
+            {
+                out.writeLong(object.longValue());
+            }
+        }
+
+        public Long read(DataInput in) throws IOException
+        {
+            return in.readBoolean() ? Long.valueOf(in.readLong()) : null;
+        }
+    }
+
+    private static final class DoubleCodec implements BinaryCodec<Double>
+    {
+        public void write(Double object, DataOutput out) throws IOException
+        {
+            out.writeBoolean(object != null);
+            if (object != null)
+            {
+                out.writeDouble(object.doubleValue());
+            }
+        }
+
+        public Double read(DataInput in) throws IOException
+        {
+            return in.readBoolean() ? Double.valueOf(in.readDouble()) : null;
+        }
+    }
+
+    private static final class ByteBufferOutputStream extends OutputStream
+    {
+        private final ByteBuffer buffer;
+
+        private ByteBufferOutputStream(ByteBuffer buffer)
+        {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b)
+        {
+            this.buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length)
+        {
+            this.buffer.put(bytes, offset, length);
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream
+    {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer)
+        {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read()
+        {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length)
+        {
+            if (length == 0)
+            {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining())
+            {
+                return -1;
+            }
+            int count = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available()
+        {
+            return this.buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * ByteArrayCodec writes ranges of byte arrays to a DataOutput and reads them back. Unlike the codecs of the other
+ * primitive types it needs no conversion, so it passes the array straight to the DataOutput. It is written by hand
+ * and replaces the class that would be generated from primitiveArrayCodec.stg.
+ *
+ * @since 6.2
+ */
+@Beta
+public final class ByteArrayCodec
+{
+    /**
+     * The number of bytes used to write one byte.
+     */
+    public static final int BYTES = 1;
+
+    private ByteArrayCodec()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static void write(byte[] array, int offset, int length, DataOutput out) throws IOException
+    {
+        out.write(array, offset, length);
+    }
+
+    /**
+     * Reads {@code length} bytes into a new array. The array is allocated as described by
+     * {@link BinaryCodecs#initialCapacity(DataInput, int, int)}, and grows as the bytes arrive.
+     */
+    public static byte[] read(int length, DataInput in) throws IOException
+    {
+        byte[] array = new byte[BinaryCodecs.initialCapacity(in, length, BYTES)];
+        int offset = 0;
+        while (array.length < length)
+        {
+            in.readFully(array, offset, array.length - offset);
+            offset = array.length;
+            byte[] grown = new byte[(int) Math.min((long) array.length << 1, length)];
+            System.arraycopy(array, 0, grown, 0, offset);
+            array = grown;
+        }
+        in.readFully(array, offset, length - offset);
+        return array;
+    }
+
+    public static void read(byte[] array, int offset, int length, DataInput in) throws IOException
+    {
+        in.readFully(array, offset, length);
+    }
+}
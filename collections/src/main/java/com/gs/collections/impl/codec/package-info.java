@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains binary codecs which write collections to a {@link java.io.DataOutput} or a
+ * {@link java.nio.ByteBuffer} and read them back, without Java serialization.
+ * <p>
+ * This package contains the following interfaces:
+ * <ul>
+ *     <li>
+ *         {@link com.gs.collections.impl.codec.BinaryCodec} - writes and reads single objects, used for the elements, keys and values of object collections.
+ *     </li>
+ * </ul>
+ * <p>
+ * This package contains the following implementations:
+ * <ul>
+ *     <li>
+ *         {@link com.gs.collections.impl.codec.BinaryCodecs} - a factory of codecs for strings and boxed primitives, and of DataOutput and DataInput views of ByteBuffers.
+ *     </li>
+ *     <li>
+ *         {@link com.gs.collections.impl.codec.IntArrayCodec} - writes and reads ranges of int arrays in bulk. There is one such class for each primitive type except boolean.
+ *     </li>
+ * </ul>
+ */
+package com.gs.collections.impl.codec;
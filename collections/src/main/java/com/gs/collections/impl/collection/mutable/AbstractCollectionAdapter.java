@@ -72,6 +72,7 @@ import com.gs.collections.impl.block.factory.Predicates2;
 import com.gs.collections.impl.block.factory.PrimitiveFunctions;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import com.gs.collections.impl.block.procedure.TopKByProcedure;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
@@ -176,6 +177,20 @@ public abstract class AbstractCollectionAdapter<T>
         return IterableIterate.maxBy(this, function);
     }
 
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        TopKByProcedure<T, V> procedure = TopKByProcedure.top(k, function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        TopKByProcedure<T, V> procedure = TopKByProcedure.bottom(k, function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
     public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
     {
         T result = this.detect(predicate);
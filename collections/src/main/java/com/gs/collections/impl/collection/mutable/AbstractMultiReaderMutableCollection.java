@@ -587,6 +587,32 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         }
     }
 
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().topKBy(k, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().bottomKBy(k, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
     public T detectIfNone(
             Predicate<? super T> predicate,
             Function0<? extends T> function)
@@ -1749,6 +1775,16 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
             return this.delegate.maxBy(function);
         }
 
+        public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+        {
+            return this.delegate.topKBy(k, function);
+        }
+
+        public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+        {
+            return this.delegate.bottomKBy(k, function);
+        }
+
         public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
         {
             return this.delegate.detectIfNone(predicate, function);
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.collection.mutable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * A {@link ReadWriteLock} made of several {@link ReentrantReadWriteLock} stripes. A reader only locks the stripe of
+ * its own thread, so readers on different threads do not update the same reader count. A writer locks every stripe,
+ * in order, which makes writing more expensive than with a single {@link ReentrantReadWriteLock}.
+ * <p>
+ * A thread always reads through the same stripe, so reentrant reads, reading while holding the write lock and
+ * downgrading from the write lock to the read lock behave as they do for a {@link ReentrantReadWriteLock}. Conditions
+ * are not supported.
+ * <p>
+ * Each stripe is padded so that the reader counts of neighbouring stripes do not share a cache line.
+ *
+ * @since 6.2
+ */
+@Beta
+public final class StripedReadWriteLock implements ReadWriteLock
+{
+    private static final int MAXIMUM_STRIPES = 1 << 8;
+
+    private final ReentrantReadWriteLock[] stripes;
+    private final Lock readLock = new StripedReadLock();
+    private final Lock writeLock = new StripedWriteLock();
+
+    public StripedReadWriteLock()
+    {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public StripedReadWriteLock(int concurrencyLevel)
+    {
+        if (concurrencyLevel < 1)
+        {
+            throw new IllegalArgumentException("concurrency level must be at least 1: " + concurrencyLevel);
+        }
+        int stripeCount = 1;
+        while (stripeCount < concurrencyLevel && stripeCount < MAXIMUM_STRIPES)
+        {
+            stripeCount <<= 1;
+        }
+        this.stripes = new ReentrantReadWriteLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++)
+        {
+            this.stripes[i] = new PaddedReentrantReadWriteLock();
+        }
+    }
+
+    public int getStripeCount()
+    {
+        return this.stripes.length;
+    }
+
+    public Lock readLock()
+    {
+        return this.readLock;
+    }
+
+    public Lock writeLock()
+    {
+        return this.writeLock;
+    }
+
+    private ReentrantReadWriteLock.ReadLock currentThreadReadLock()
+    {
+        long threadId = Thread.currentThread().getId();
+        return this.stripes[(int) (threadId ^ threadId >>> 32) & (this.stripes.length - 1)].readLock();
+    }
+
+    private void unlockWriteLocks(int count)
+    {
+        for (int i = count - 1; i >= 0; i--)
+        {
+            this.stripes[i].writeLock().unlock();
+        }
+    }
+
+    /**
+     * A stripe padded with unused fields. A {@link ReentrantReadWriteLock} allocates the synchronizer that holds its
+     * reader count right after itself, so the padding keeps the synchronizers of stripes created one after another at
+     * least 128 bytes apart, which covers both the cache line and the adjacent line that is prefetched with it.
+     */
+    private static final class PaddedReentrantReadWriteLock extends ReentrantReadWriteLock
+    {
+        private static final long serialVersionUID = 1L;
+
+        private long padding0;
+        private long padding1;
+        private long padding2;
+        private long padding3;
+        private long padding4;
+        private long padding5;
+        private long padding6;
+        private long padding7;
+        private long padding8;
+        private long padding9;
+        private long padding10;
+        private long padding11;
+        private long padding12;
+        private long padding13;
+        private long padding14;
+        private long padding15;
+    }
+
+    private final class StripedReadLock implements Lock
+    {
+        public void lock()
+        {
+            StripedReadWriteLock.this.currentThreadReadLock().lock();
+        }
+
+        public void lockInterruptibly() throws InterruptedException
+        {
+            StripedReadWriteLock.this.currentThreadReadLock().lockInterruptibly();
+        }
+
+        public boolean tryLock()
+        {
+            return StripedReadWriteLock.this.currentThreadReadLock().tryLock();
+        }
+
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException
+        {
+            return StripedReadWriteLock.this.currentThreadReadLock().tryLock(time, unit);
+        }
+
+        public void unlock()
+        {
+            StripedReadWriteLock.this.currentThreadReadLock().unlock();
+        }
+
+        public Condition newCondition()
+        {
+            throw new UnsupportedOperationException("Cannot call newCondition() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private final class StripedWriteLock implements Lock
+    {
+        public void lock()
+        {
+            for (ReentrantReadWriteLock stripe : StripedReadWriteLock.this.stripes)
+            {
+                stripe.writeLock().lock();
+            }
+        }
+
+        public void lockInterruptibly() throws InterruptedException
+        {
+            ReentrantReadWriteLock[] stripes = StripedReadWriteLock.this.stripes;
+            for (int i = 0; i < stripes.length; i++)
+            {
+                try
+                {
+                    stripes[i].writeLock().lockInterruptibly();
+                }
+                catch (InterruptedException e)
+                {
+                    StripedReadWriteLock.this.unlockWriteLocks(i);
+                    throw e;
+                }
+            }
+        }
+
+        public boolean tryLock()
+        {
+            ReentrantReadWriteLock[] stripes = StripedReadWriteLock.this.stripes;
+            for (int i = 0; i < stripes.length; i++)
+            {
+                if (!stripes[i].writeLock().tryLock())
+                {
+                    StripedReadWriteLock.this.unlockWriteLocks(i);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException
+        {
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            ReentrantReadWriteLock[] stripes = StripedReadWriteLock.this.stripes;
+            for (int i = 0; i < stripes.length; i++)
+            {
+                boolean locked;
+                try
+                {
+                    locked = stripes[i].writeLock().tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    StripedReadWriteLock.this.unlockWriteLocks(i);
+                    throw e;
+                }
+                if (!locked)
+                {
+                    StripedReadWriteLock.this.unlockWriteLocks(i);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public void unlock()
+        {
+            StripedReadWriteLock.this.unlockWriteLocks(StripedReadWriteLock.this.stripes.length);
+        }
+
+        public Condition newCondition()
+        {
+            throw new UnsupportedOperationException("Cannot call newCondition() on " + this.getClass().getSimpleName());
+        }
+    }
+}
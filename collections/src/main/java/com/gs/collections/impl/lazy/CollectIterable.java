@@ -53,18 +53,30 @@ public class CollectIterable<T, V>
 
     public void each(Procedure<? super V> procedure)
     {
+        if (FusedProcedure.tryForEach(this, procedure))
+        {
+            return;
+        }
         Iterate.forEach(this.adapted, Functions.bind(procedure, this.function));
     }
 
     @Override
     public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
     {
+        if (FusedProcedure.tryForEachWithIndex(this, objectIntProcedure))
+        {
+            return;
+        }
         Iterate.forEachWithIndex(this.adapted, Functions.bind(objectIntProcedure, this.function));
     }
 
     @Override
     public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
     {
+        if (FusedProcedure.tryForEachWith(this, procedure, parameter))
+        {
+            return;
+        }
         Iterate.forEachWith(this.adapted, Functions.bind(procedure, this.function), parameter);
     }
 
@@ -230,4 +242,14 @@ public class CollectIterable<T, V>
         }
         return this.function.valueOf(Iterate.getLast(this.adapted));
     }
+
+    Iterable<?> getFusibleSource()
+    {
+        return this.adapted;
+    }
+
+    Object getFusibleOperation()
+    {
+        return this.function;
+    }
 }
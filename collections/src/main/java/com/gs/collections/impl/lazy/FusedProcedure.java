@@ -0,0 +1,210 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.block.factory.Procedures;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * FusedProcedure runs a chain of adjacent select, reject, collect and tap stages as a single procedure over the source
+ * of the first stage. Without it, every stage wraps the procedure of the next one, so each element passes through one
+ * extra procedure call per stage, and the call sites see so many procedure classes that they cannot be inlined.
+ */
+final class FusedProcedure<T> implements Procedure<Object>
+{
+    private static final int NOT_FUSIBLE = -1;
+    private static final int SELECT = 0;
+    private static final int COLLECT = 1;
+    private static final int TAP = 2;
+
+    private static final long serialVersionUID = 1L;
+
+    private final int[] kinds;
+    private final Object[] operations;
+    private final Procedure<? super T> procedure;
+
+    private FusedProcedure(int[] kinds, Object[] operations, Procedure<? super T> procedure)
+    {
+        this.kinds = kinds;
+        this.operations = operations;
+        this.procedure = procedure;
+    }
+
+    /**
+     * Returns true if the iterable is a stage which can run in the same loop as the stages that follow it. Only the
+     * select, reject, collect and tap stage classes themselves are fused. Subclasses are not, since they may override
+     * how the stage iterates.
+     */
+    static boolean isFusible(Iterable<?> iterable)
+    {
+        return FusedProcedure.kindOf(iterable) != NOT_FUSIBLE;
+    }
+
+    private static int kindOf(Iterable<?> iterable)
+    {
+        Class<?> type = iterable.getClass();
+        if (type == SelectIterable.class || type == RejectIterable.class)
+        {
+            return SELECT;
+        }
+        if (type == CollectIterable.class)
+        {
+            return COLLECT;
+        }
+        if (type == TapIterable.class)
+        {
+            return TAP;
+        }
+        return NOT_FUSIBLE;
+    }
+
+    private static Iterable<?> sourceOf(Iterable<?> stage)
+    {
+        if (stage instanceof SelectIterable)
+        {
+            return ((SelectIterable<?>) stage).getFusibleSource();
+        }
+        if (stage instanceof RejectIterable)
+        {
+            return ((RejectIterable<?>) stage).getFusibleSource();
+        }
+        if (stage instanceof CollectIterable)
+        {
+            return ((CollectIterable<?, ?>) stage).getFusibleSource();
+        }
+        return ((TapIterable<?>) stage).getFusibleSource();
+    }
+
+    private static Object operationOf(Iterable<?> stage)
+    {
+        if (stage instanceof SelectIterable)
+        {
+            return ((SelectIterable<?>) stage).getFusibleOperation();
+        }
+        if (stage instanceof RejectIterable)
+        {
+            return ((RejectIterable<?>) stage).getFusibleOperation();
+        }
+        if (stage instanceof CollectIterable)
+        {
+            return ((CollectIterable<?, ?>) stage).getFusibleOperation();
+        }
+        return ((TapIterable<?>) stage).getFusibleOperation();
+    }
+
+    /**
+     * Runs the chain of fusible stages ending with the given stage, if the stage follows another fusible stage, and
+     * returns true. Returns false without iterating if there is nothing to fuse, in which case the stage iterates its
+     * source itself.
+     */
+    static <T> boolean tryForEach(Iterable<T> lastStage, Procedure<? super T> procedure)
+    {
+        if (!FusedProcedure.canFuse(lastStage))
+        {
+            return false;
+        }
+        FusedProcedure.forEach(lastStage, procedure);
+        return true;
+    }
+
+    /**
+     * @see #tryForEach(Iterable, Procedure)
+     */
+    static <T> boolean tryForEachWithIndex(Iterable<T> lastStage, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        if (!FusedProcedure.canFuse(lastStage))
+        {
+            return false;
+        }
+        FusedProcedure.forEach(lastStage, Procedures.fromObjectIntProcedure(objectIntProcedure));
+        return true;
+    }
+
+    /**
+     * @see #tryForEach(Iterable, Procedure)
+     */
+    static <T, P> boolean tryForEachWith(Iterable<T> lastStage, Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        if (!FusedProcedure.canFuse(lastStage))
+        {
+            return false;
+        }
+        FusedProcedure.forEach(lastStage, Procedures.bind(procedure, parameter));
+        return true;
+    }
+
+    private static boolean canFuse(Iterable<?> lastStage)
+    {
+        return FusedProcedure.isFusible(lastStage) && FusedProcedure.isFusible(FusedProcedure.sourceOf(lastStage));
+    }
+
+    /**
+     * Applies the chain of fusible stages ending with the given stage to the source of the chain, and passes every
+     * element that remains to the procedure.
+     */
+    private static <T> void forEach(Iterable<T> lastStage, Procedure<? super T> procedure)
+    {
+        int length = 1;
+        Iterable<?> source = FusedProcedure.sourceOf(lastStage);
+        while (FusedProcedure.isFusible(source))
+        {
+            source = FusedProcedure.sourceOf(source);
+            length++;
+        }
+
+        int[] kinds = new int[length];
+        Object[] operations = new Object[length];
+        Iterable<?> stage = lastStage;
+        for (int i = length - 1; i >= 0; i--)
+        {
+            kinds[i] = FusedProcedure.kindOf(stage);
+            operations[i] = FusedProcedure.operationOf(stage);
+            stage = FusedProcedure.sourceOf(stage);
+        }
+        Iterate.forEach(source, new FusedProcedure<T>(kinds, operations, procedure));
+    }
+
+    public void value(Object each)
+    {
+        Object current = each;
+        for (int i = 0; i < this.kinds.length; i++)
+        {
+            int kind = this.kinds[i];
+            if (kind == SELECT)
+            {
+                if (!((Predicate<Object>) this.operations[i]).accept(current))
+                {
+                    return;
+                }
+            }
+            else if (kind == COLLECT)
+            {
+                current = ((Function<Object, ?>) this.operations[i]).valueOf(current);
+            }
+            else
+            {
+                ((Procedure<Object>) this.operations[i]).value(current);
+            }
+        }
+        this.procedure.value((T) current);
+    }
+}
@@ -49,18 +49,30 @@ public class SelectIterable<T>
 
     public void each(Procedure<? super T> procedure)
     {
+        if (FusedProcedure.tryForEach(this, procedure))
+        {
+            return;
+        }
         Iterate.forEach(this.adapted, new IfProcedure<T>(this.predicate, procedure));
     }
 
     @Override
     public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
     {
+        if (FusedProcedure.tryForEachWithIndex(this, objectIntProcedure))
+        {
+            return;
+        }
         Iterate.forEach(this.adapted, new IfObjectIntProcedure<T>(this.predicate, objectIntProcedure));
     }
 
     @Override
     public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
     {
+        if (FusedProcedure.tryForEachWith(this, procedure, parameter))
+        {
+            return;
+        }
         Iterate.forEachWith(this.adapted, new IfProcedureWith<T, P>(this.predicate, procedure), parameter);
     }
 
@@ -116,4 +128,14 @@ public class SelectIterable<T>
     {
         return Iterate.detect(this.adapted, this.predicate);
     }
+
+    Iterable<?> getFusibleSource()
+    {
+        return this.adapted;
+    }
+
+    Object getFusibleOperation()
+    {
+        return this.predicate;
+    }
 }
@@ -44,6 +44,10 @@ public class TapIterable<T>
 
     public void each(final Procedure<? super T> procedure)
     {
+        if (FusedProcedure.tryForEach(this, procedure))
+        {
+            return;
+        }
         Iterate.forEach(this.adapted, new Procedure<T>()
         {
             public void value(T each)
@@ -57,6 +61,10 @@ public class TapIterable<T>
     @Override
     public void forEachWithIndex(final ObjectIntProcedure<? super T> objectIntProcedure)
     {
+        if (FusedProcedure.tryForEachWithIndex(this, objectIntProcedure))
+        {
+            return;
+        }
         Iterate.forEachWithIndex(this.adapted, new ObjectIntProcedure<T>()
         {
             public void value(T each, int index)
@@ -70,6 +78,10 @@ public class TapIterable<T>
     @Override
     public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, P parameter)
     {
+        if (FusedProcedure.tryForEachWith(this, procedure, parameter))
+        {
+            return;
+        }
         Iterate.forEachWith(this.adapted, new Procedure2<T, P>()
         {
             public void value(T each, P aParameter)
@@ -150,4 +162,14 @@ public class TapIterable<T>
     {
         return new TapIterator<T>(this.adapted, this.procedure);
     }
+
+    Iterable<?> getFusibleSource()
+    {
+        return this.adapted;
+    }
+
+    Object getFusibleOperation()
+    {
+        return this.procedure;
+    }
 }
@@ -19,16 +19,26 @@ package com.gs.collections.impl.lazy.parallel;
 import java.util.Comparator;
 import java.util.concurrent.locks.ReadWriteLock;
 
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.ParallelCharIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelFloatIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.ParallelShortIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -37,11 +47,20 @@ import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
 import com.gs.collections.impl.lazy.parallel.list.MultiReaderParallelListIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelCharIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelDoubleIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelFloatIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelIntIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelLongIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelShortIterable;
 import com.gs.collections.impl.lazy.parallel.set.MultiReaderParallelUnsortedSetIterable;
 
 public abstract class AbstractMultiReaderParallelIterable<T, PI extends ParallelIterable<T>> implements ParallelIterable<T>
@@ -70,6 +89,97 @@ public abstract class AbstractMultiReaderParallelIterable<T, PI extends Parallel
         return new MultiReaderParallelIterable<A>(wrapped, this.lock);
     }
 
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return new NonParallelByteIterable(this.delegate.collectByte(function).toList());
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return new NonParallelCharIterable(this.delegate.collectChar(function).toList());
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return new NonParallelDoubleIterable(this.delegate.collectDouble(function).toList());
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return new NonParallelFloatIterable(this.delegate.collectFloat(function).toList());
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return new NonParallelIntIterable(this.delegate.collectInt(function).toList());
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return new NonParallelLongIterable(this.delegate.collectLong(function).toList());
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return new NonParallelShortIterable(this.delegate.collectShort(function).toList());
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
     public void forEach(Procedure<? super T> procedure)
     {
         this.lock.readLock().lock();
@@ -603,6 +713,71 @@ public abstract class AbstractMultiReaderParallelIterable<T, PI extends Parallel
         }
     }
 
+    public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.sumByInt(groupBy, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.sumByFloat(groupBy, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.sumByLong(groupBy, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.sumByDouble(groupBy, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public <V> ObjectLongMap<V> countBy(Function<? super T, ? extends V> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.countBy(function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
     public String makeString()
     {
         this.lock.readLock().lock();
@@ -27,26 +27,41 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.ParallelCharIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelFloatIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.ParallelShortIterable;
 import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectDoubleProcedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectLongProcedure;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
@@ -63,11 +78,20 @@ import com.gs.collections.impl.block.procedure.MapCollectProcedure;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.checked.CheckedProcedure2;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectCharIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectDoubleIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectFloatIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectIntIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectLongIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectShortIterable;
 import com.gs.collections.impl.list.mutable.CompositeFastList;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
 import com.gs.collections.impl.set.mutable.SetAdapter;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
@@ -78,22 +102,15 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 {
     protected static <T> void forEach(final AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Procedure<? super T> procedure)
     {
-        LazyIterable<Future<?>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<?>>()
+        MutableList<Future<Object>> futuresList = BatchExecution.submitAll(parallelIterable.getExecutorService(), parallelIterable.split(), new Function<RootBatch<T>, Object>()
         {
-            public Future<?> valueOf(final RootBatch<T> chunk)
+            public Object valueOf(RootBatch<T> chunk)
             {
-                return parallelIterable.getExecutorService().submit(new Runnable()
-                {
-                    public void run()
-                    {
-                        chunk.forEach(procedure);
-                    }
-                });
+                chunk.forEach(procedure);
+                return null;
             }
         });
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<?>> futuresList = futures.toList();
-        for (Future<?> future : futuresList)
+        for (Future<Object> future : futuresList)
         {
             try
             {
@@ -113,6 +130,16 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean anySatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof BatchExecutorService)
+        {
+            return BatchExecution.anySatisfy(parallelIterable.getExecutorService(), parallelIterable.split(), new Predicate2<RootBatch<T>, AtomicBoolean>()
+            {
+                public boolean accept(RootBatch<T> batch, AtomicBoolean found)
+                {
+                    return batch.anySatisfy(AbstractParallelIterable.<T>orStopped(found, predicate));
+                }
+            });
+        }
         final CompletionService<Boolean> completionService = new ExecutorCompletionService<Boolean>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<Boolean>>()
         {
@@ -158,6 +185,16 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof BatchExecutorService)
+        {
+            return !BatchExecution.anySatisfy(parallelIterable.getExecutorService(), parallelIterable.split(), new Predicate2<RootBatch<T>, AtomicBoolean>()
+            {
+                public boolean accept(RootBatch<T> batch, AtomicBoolean found)
+                {
+                    return batch.anySatisfy(AbstractParallelIterable.<T>orStopped(found, Predicates.not(predicate)));
+                }
+            });
+        }
         final CompletionService<Boolean> completionService = new ExecutorCompletionService<Boolean>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<Boolean>>()
         {
@@ -203,47 +240,28 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> T detect(final AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
     {
-        LazyIterable<? extends RootBatch<T>> chunks = parallelIterable.split();
-        LazyIterable<Future<T>> futures = chunks.collect(new Function<RootBatch<T>, Future<T>>()
+        return BatchExecution.detect(parallelIterable.getExecutorService(), parallelIterable.split(), new Function2<RootBatch<T>, AtomicBoolean, T>()
         {
-            public Future<T> valueOf(final RootBatch<T> chunk)
+            public T value(RootBatch<T> batch, AtomicBoolean stopped)
             {
-                return parallelIterable.getExecutorService().submit(new Callable<T>()
-                {
-                    public T call()
-                    {
-                        return chunk.detect(predicate);
-                    }
-                });
+                return batch.detect(AbstractParallelIterable.<T>orStopped(stopped, predicate));
             }
         });
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<T>> futuresList = futures.toList();
-        for (Future<T> future : futuresList)
+    }
+
+    /**
+     * Returns a predicate which also accepts every element once the flag is set, so that a batch searching for a match
+     * stops as soon as the result is known elsewhere.
+     */
+    private static <T> Predicate<T> orStopped(final AtomicBoolean stopped, final Predicate<? super T> predicate)
+    {
+        return new Predicate<T>()
         {
-            try
+            public boolean accept(T each)
             {
-                T eachResult = future.get();
-                if (eachResult != null)
-                {
-                    for (Future<T> eachFutureToCancel : futuresList)
-                    {
-                        eachFutureToCancel.cancel(true);
-                    }
-                    return eachResult;
-                }
+                return stopped.get() || predicate.accept(each);
             }
-            catch (InterruptedException e)
-            {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            }
-            catch (ExecutionException e)
-            {
-                throw new RuntimeException(e);
-            }
-        }
-        return null;
+        };
     }
 
     public abstract ExecutorService getExecutorService();
@@ -266,24 +284,9 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
-    private <S, V> void collectCombineOrdered(final Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
+    private <S, V> void collectCombineOrdered(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
     {
-        LazyIterable<? extends Batch<T>> chunks = this.split();
-        LazyIterable<Future<V>> futures = chunks.collect(new Function<Batch<T>, Future<V>>()
-        {
-            public Future<V> valueOf(final Batch<T> chunk)
-            {
-                return AbstractParallelIterable.this.getExecutorService().submit(new Callable<V>()
-                {
-                    public V call()
-                    {
-                        return function.valueOf(chunk);
-                    }
-                });
-            }
-        });
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<V>> futuresList = futures.toList();
+        MutableList<Future<V>> futuresList = BatchExecution.submitAll(this.getExecutorService(), this.split(), function);
         for (Future<V> future : futuresList)
         {
             try
@@ -304,6 +307,11 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private <S, V> void collectCombineUnordered(final Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
     {
+        if (this.getExecutorService() instanceof BatchExecutorService)
+        {
+            this.collectCombineOrdered(function, combineProcedure, state);
+            return;
+        }
         LazyIterable<? extends Batch<T>> chunks = this.split();
         MutableList<Callable<V>> callables = chunks.collect(new Function<Batch<T>, Callable<V>>()
         {
@@ -356,24 +364,9 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
                 : this.collectReduceUnordered(map, function2);
     }
 
-    private T collectReduceOrdered(final Function<Batch<T>, T> map, Function2<T, T, T> function2)
+    private T collectReduceOrdered(Function<Batch<T>, T> map, Function2<T, T, T> function2)
     {
-        LazyIterable<? extends Batch<T>> chunks = this.split();
-        LazyIterable<Future<T>> futures = chunks.collect(new Function<Batch<T>, Future<T>>()
-        {
-            public Future<T> valueOf(final Batch<T> chunk)
-            {
-                return AbstractParallelIterable.this.getExecutorService().submit(new Callable<T>()
-                {
-                    public T call()
-                    {
-                        return map.valueOf(chunk);
-                    }
-                });
-            }
-        });
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<T>> futuresList = futures.toList();
+        MutableList<Future<T>> futuresList = BatchExecution.submitAll(this.getExecutorService(), this.split(), map);
         try
         {
             T result = futuresList.getFirst().get();
@@ -415,6 +408,10 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private T collectReduceUnordered(final Function<Batch<T>, T> map, Function2<T, T, T> function2)
     {
+        if (this.getExecutorService() instanceof BatchExecutorService)
+        {
+            return this.collectReduceOrdered(map, function2);
+        }
         LazyIterable<? extends Batch<T>> chunks = this.split();
         MutableList<Callable<T>> callables = chunks.collect(new Function<Batch<T>, Callable<T>>()
         {
@@ -632,12 +629,42 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     public MutableList<T> toSortedList()
     {
-        return this.toList().toSortedList();
+        return this.toSortedList(Comparators.<T>naturalOrder());
     }
 
     public MutableList<T> toSortedList(Comparator<? super T> comparator)
     {
-        return this.toList().toSortedList(comparator);
+        if (comparator == null)
+        {
+            return this.toSortedList();
+        }
+        return SortedBatchMerger.merge(this.toSortedBatches(comparator), comparator, false);
+    }
+
+    /**
+     * Sorts each batch in parallel, returning the sorted batches in batch order if this iterable is ordered.
+     */
+    private MutableList<FastList<T>> toSortedBatches(final Comparator<? super T> comparator)
+    {
+        Function<Batch<T>, FastList<T>> map = new Function<Batch<T>, FastList<T>>()
+        {
+            public FastList<T> valueOf(Batch<T> batch)
+            {
+                FastList<T> list = FastList.newList();
+                batch.forEach(CollectionAddProcedure.on(list));
+                return list.sortThis(comparator);
+            }
+        };
+        Procedure2<MutableList<FastList<T>>, FastList<T>> reduce = new Procedure2<MutableList<FastList<T>>, FastList<T>>()
+        {
+            public void value(MutableList<FastList<T>> accumulator, FastList<T> each)
+            {
+                accumulator.add(each);
+            }
+        };
+        MutableList<FastList<T>> state = FastList.newList();
+        this.collectCombine(map, reduce, state);
+        return state;
     }
 
     public <V extends Comparable<? super V>> MutableList<T> toSortedListBy(Function<? super T, ? extends V> function)
@@ -655,9 +682,8 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     public MutableSortedSet<T> toSortedSet()
     {
-        MutableSortedSet<T> result = TreeSortedSet.<T>newSet().asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        Comparator<T> comparator = Comparators.naturalOrder();
+        return TreeSortedSet.newSet(SortedBatchMerger.merge(this.toSortedBatches(comparator), comparator, true));
     }
 
     public <V extends Comparable<? super V>> MutableSortedSet<T> toSortedSetBy(Function<? super T, ? extends V> function)
@@ -693,9 +719,11 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     public MutableSortedSet<T> toSortedSet(Comparator<? super T> comparator)
     {
-        MutableSortedSet<T> result = TreeSortedSet.newSet(comparator).asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        if (comparator == null)
+        {
+            return this.toSortedSet();
+        }
+        return TreeSortedSet.newSet(comparator, SortedBatchMerger.merge(this.toSortedBatches(comparator), comparator, true));
     }
 
     public <NK, NV> MutableMap<NK, NV> toMap(
@@ -879,24 +907,194 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.sumOfDoubleOrdered(map);
     }
 
-    private long sumOfLongOrdered(final LongFunction<Batch<T>> map)
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
     {
-        LazyIterable<? extends Batch<T>> chunks = this.split();
-        LazyIterable<Future<Long>> futures = chunks.collect(new Function<Batch<T>, Future<Long>>()
+        return new ParallelCollectByteIterable<T>(this, function);
+    }
+
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        return new ParallelCollectCharIterable<T>(this, function);
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new ParallelCollectDoubleIterable<T>(this, function);
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        return new ParallelCollectFloatIterable<T>(this, function);
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new ParallelCollectIntIterable<T>(this, function);
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new ParallelCollectLongIterable<T>(this, function);
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        return new ParallelCollectShortIterable<T>(this, function);
+    }
+
+    public <V> ObjectLongMap<V> sumByInt(final Function<T, V> groupBy, final IntFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectLongHashMap<V>> map = new Function<Batch<T>, ObjectLongHashMap<V>>()
+        {
+            public ObjectLongHashMap<V> valueOf(Batch<T> batch)
+            {
+                final ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        result.addToValue(groupBy.valueOf(each), function.intValueOf(each));
+                    }
+                });
+                return result;
+            }
+        };
+        return this.sumByLongCombine(map);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(final Function<T, V> groupBy, final FloatFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectDoubleHashMap<V>> map = new Function<Batch<T>, ObjectDoubleHashMap<V>>()
+        {
+            public ObjectDoubleHashMap<V> valueOf(Batch<T> batch)
+            {
+                final ObjectDoubleHashMap<V> result = ObjectDoubleHashMap.newMap();
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        result.addToValue(groupBy.valueOf(each), function.floatValueOf(each));
+                    }
+                });
+                return result;
+            }
+        };
+        return this.sumByDoubleCombine(map);
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(final Function<T, V> groupBy, final LongFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectLongHashMap<V>> map = new Function<Batch<T>, ObjectLongHashMap<V>>()
+        {
+            public ObjectLongHashMap<V> valueOf(Batch<T> batch)
+            {
+                final ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        result.addToValue(groupBy.valueOf(each), function.longValueOf(each));
+                    }
+                });
+                return result;
+            }
+        };
+        return this.sumByLongCombine(map);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(final Function<T, V> groupBy, final DoubleFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectDoubleHashMap<V>> map = new Function<Batch<T>, ObjectDoubleHashMap<V>>()
+        {
+            public ObjectDoubleHashMap<V> valueOf(Batch<T> batch)
+            {
+                final ObjectDoubleHashMap<V> result = ObjectDoubleHashMap.newMap();
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        result.addToValue(groupBy.valueOf(each), function.doubleValueOf(each));
+                    }
+                });
+                return result;
+            }
+        };
+        return this.sumByDoubleCombine(map);
+    }
+
+    public <V> ObjectLongMap<V> countBy(final Function<? super T, ? extends V> function)
+    {
+        Function<Batch<T>, ObjectLongHashMap<V>> map = new Function<Batch<T>, ObjectLongHashMap<V>>()
+        {
+            public ObjectLongHashMap<V> valueOf(Batch<T> batch)
+            {
+                final ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        result.addToValue(function.valueOf(each), 1L);
+                    }
+                });
+                return result;
+            }
+        };
+        return this.sumByLongCombine(map);
+    }
+
+    /**
+     * Every batch accumulates into a private map, so there is no contention and no boxing while iterating. The
+     * partial maps are merged on the calling thread as each batch completes.
+     */
+    private <V> ObjectLongMap<V> sumByLongCombine(Function<Batch<T>, ObjectLongHashMap<V>> map)
+    {
+        Procedure2<ObjectLongHashMap<V>, ObjectLongHashMap<V>> combineProcedure = new Procedure2<ObjectLongHashMap<V>, ObjectLongHashMap<V>>()
+        {
+            public void value(final ObjectLongHashMap<V> accumulator, ObjectLongHashMap<V> each)
+            {
+                each.forEachKeyValue(new ObjectLongProcedure<V>()
+                {
+                    public void value(V key, long value)
+                    {
+                        accumulator.addToValue(key, value);
+                    }
+                });
+            }
+        };
+        ObjectLongHashMap<V> state = ObjectLongHashMap.newMap();
+        this.collectCombineUnordered(map, combineProcedure, state);
+        return state;
+    }
+
+    private <V> ObjectDoubleMap<V> sumByDoubleCombine(Function<Batch<T>, ObjectDoubleHashMap<V>> map)
+    {
+        Procedure2<ObjectDoubleHashMap<V>, ObjectDoubleHashMap<V>> combineProcedure = new Procedure2<ObjectDoubleHashMap<V>, ObjectDoubleHashMap<V>>()
         {
-            public Future<Long> valueOf(final Batch<T> chunk)
+            public void value(final ObjectDoubleHashMap<V> accumulator, ObjectDoubleHashMap<V> each)
             {
-                return AbstractParallelIterable.this.getExecutorService().submit(new Callable<Long>()
+                each.forEachKeyValue(new ObjectDoubleProcedure<V>()
                 {
-                    public Long call()
+                    public void value(V key, double value)
                     {
-                        return map.longValueOf(chunk);
+                        accumulator.addToValue(key, value);
                     }
                 });
             }
+        };
+        ObjectDoubleHashMap<V> state = ObjectDoubleHashMap.newMap();
+        this.collectCombineUnordered(map, combineProcedure, state);
+        return state;
+    }
+
+    private long sumOfLongOrdered(final LongFunction<Batch<T>> map)
+    {
+        MutableList<Future<Long>> futuresList = BatchExecution.submitAll(this.getExecutorService(), this.split(), new Function<Batch<T>, Long>()
+        {
+            public Long valueOf(Batch<T> chunk)
+            {
+                return map.longValueOf(chunk);
+            }
         });
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<Long>> futuresList = futures.toList();
         try
         {
             long result = 0;
@@ -917,24 +1115,9 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
-    private double sumOfDoubleOrdered(final Function<Batch<T>, DoubleSumResultHolder> map)
+    private double sumOfDoubleOrdered(Function<Batch<T>, DoubleSumResultHolder> map)
     {
-        LazyIterable<? extends Batch<T>> chunks = this.split();
-        LazyIterable<Future<DoubleSumResultHolder>> futures = chunks.collect(new Function<Batch<T>, Future<DoubleSumResultHolder>>()
-        {
-            public Future<DoubleSumResultHolder> valueOf(final Batch<T> chunk)
-            {
-                return AbstractParallelIterable.this.getExecutorService().submit(new Callable<DoubleSumResultHolder>()
-                {
-                    public DoubleSumResultHolder call()
-                    {
-                        return map.valueOf(chunk);
-                    }
-                });
-            }
-        });
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<DoubleSumResultHolder>> futuresList = futures.toList();
+        MutableList<Future<DoubleSumResultHolder>> futuresList = BatchExecution.submitAll(this.getExecutorService(), this.split(), map);
         try
         {
             double sum = 0.0d;
@@ -18,16 +18,26 @@ package com.gs.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
 
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.ParallelCharIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelFloatIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.ParallelShortIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -36,12 +46,21 @@ import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
 import com.gs.collections.api.set.sorted.ParallelSortedSetIterable;
 import com.gs.collections.impl.lazy.parallel.list.SynchronizedParallelListIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelCharIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelDoubleIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelFloatIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelIntIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelLongIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelShortIterable;
 import com.gs.collections.impl.lazy.parallel.set.SynchronizedParallelUnsortedSetIterable;
 import com.gs.collections.impl.lazy.parallel.set.sorted.SynchronizedParallelSortedSetIterable;
 
@@ -76,6 +95,62 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         return new SynchronizedParallelIterable<A>(wrapped, this.lock);
     }
 
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return new NonParallelByteIterable(this.delegate.collectByte(function).toList());
+        }
+    }
+
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return new NonParallelCharIterable(this.delegate.collectChar(function).toList());
+        }
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return new NonParallelDoubleIterable(this.delegate.collectDouble(function).toList());
+        }
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return new NonParallelFloatIterable(this.delegate.collectFloat(function).toList());
+        }
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return new NonParallelIntIterable(this.delegate.collectInt(function).toList());
+        }
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return new NonParallelLongIterable(this.delegate.collectLong(function).toList());
+        }
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return new NonParallelShortIterable(this.delegate.collectShort(function).toList());
+        }
+    }
+
     public void forEach(Procedure<? super T> procedure)
     {
         synchronized (this.lock)
@@ -404,6 +479,46 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         }
     }
 
+    public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByInt(groupBy, function);
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByFloat(groupBy, function);
+        }
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByLong(groupBy, function);
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByDouble(groupBy, function);
+        }
+    }
+
+    public <V> ObjectLongMap<V> countBy(Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.countBy(function);
+        }
+    }
+
     public String makeString()
     {
         synchronized (this.lock)
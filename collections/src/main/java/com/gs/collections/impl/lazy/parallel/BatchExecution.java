@@ -0,0 +1,249 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * Submits the batches of a parallel iterable to an {@link ExecutorService}, handing them over in one call when the
+ * executor is a {@link BatchExecutorService}.
+ *
+ * @since 6.2
+ */
+@Beta
+public final class BatchExecution
+{
+    private BatchExecution()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Starts applying the function to every batch and returns one future per batch, in the order of the batches.
+     */
+    public static <B, V> MutableList<Future<V>> submitAll(
+            final ExecutorService executorService,
+            LazyIterable<? extends B> batches,
+            final Function<? super B, ? extends V> function)
+    {
+        if (executorService instanceof BatchExecutorService)
+        {
+            return ((BatchExecutorService) executorService).submitAll(FastList.<B>newList(batches), function);
+        }
+        LazyIterable<Future<V>> futures = batches.collect(new Function<B, Future<V>>()
+        {
+            public Future<V> valueOf(final B batch)
+            {
+                return executorService.submit(new Callable<V>()
+                {
+                    public V call()
+                    {
+                        return function.valueOf(batch);
+                    }
+                });
+            }
+        });
+        // The call to toList() is important to stop the lazy evaluation and force all the Callables to start executing.
+        return futures.toList();
+    }
+
+    /**
+     * Returns true as soon as the predicate returns true for a batch, cancelling the batches that have not completed
+     * yet. Batches that start after a match has been found are skipped.
+     */
+    public static <B> boolean anySatisfy(
+            ExecutorService executorService,
+            LazyIterable<? extends B> batches,
+            final Predicate<? super B> predicate)
+    {
+        return BatchExecution.anySatisfy(executorService, batches, new Predicate2<B, AtomicBoolean>()
+        {
+            public boolean accept(B batch, AtomicBoolean found)
+            {
+                return predicate.accept(batch);
+            }
+        });
+    }
+
+    /**
+     * Returns true as soon as the predicate returns true for a batch, cancelling the batches that have not completed
+     * yet. The batches share a flag which is set once a match has been found. Batches that start after that are
+     * skipped, and the flag is passed to the predicate so that a running batch can poll it and stop early.
+     */
+    public static <B> boolean anySatisfy(
+            ExecutorService executorService,
+            LazyIterable<? extends B> batches,
+            final Predicate2<? super B, ? super AtomicBoolean> predicate)
+    {
+        MutableList<B> batchList = FastList.newList(batches);
+        if (batchList.isEmpty())
+        {
+            return false;
+        }
+        final AtomicBoolean found = new AtomicBoolean(false);
+        final AtomicInteger remaining = new AtomicInteger(batchList.size());
+        final CountDownLatch resultKnown = new CountDownLatch(1);
+        MutableList<Future<Boolean>> futures = BatchExecution.submitAll(executorService, batchList.asLazy(), new Function<B, Boolean>()
+        {
+            public Boolean valueOf(B batch)
+            {
+                try
+                {
+                    if (found.get())
+                    {
+                        return Boolean.TRUE;
+                    }
+                    if (predicate.accept(batch, found))
+                    {
+                        found.set(true);
+                        resultKnown.countDown();
+                        return Boolean.TRUE;
+                    }
+                    return Boolean.FALSE;
+                }
+                finally
+                {
+                    if (remaining.decrementAndGet() == 0)
+                    {
+                        resultKnown.countDown();
+                    }
+                }
+            }
+        });
+        try
+        {
+            resultKnown.await();
+            if (found.get())
+            {
+                BatchExecution.cancelAll(futures);
+                return true;
+            }
+            for (Future<Boolean> future : futures)
+            {
+                future.get();
+            }
+            return false;
+        }
+        catch (InterruptedException e)
+        {
+            BatchExecution.cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the first non-null result of the function in batch order, cancelling the batches that have not completed
+     * yet. Each batch has a flag which is set once a result has been found in an earlier batch. Batches that start
+     * after their flag is set are skipped, and the flag is passed to the function so that a running batch can poll it
+     * and stop early. The result of a batch whose flag is set is ignored.
+     */
+    public static <B, V> V detect(
+            ExecutorService executorService,
+            LazyIterable<? extends B> batches,
+            final Function2<? super B, ? super AtomicBoolean, ? extends V> function)
+    {
+        final MutableList<B> batchList = FastList.newList(batches);
+        if (batchList.isEmpty())
+        {
+            return null;
+        }
+        final AtomicBoolean[] stopped = new AtomicBoolean[batchList.size()];
+        for (int i = 0; i < stopped.length; i++)
+        {
+            stopped[i] = new AtomicBoolean(false);
+        }
+        final AtomicInteger firstFoundIndex = new AtomicInteger(stopped.length);
+        MutableList<Future<V>> futures = BatchExecution.submitAll(executorService, Interval.zeroTo(stopped.length - 1), new Function<Integer, V>()
+        {
+            public V valueOf(Integer index)
+            {
+                int batchIndex = index.intValue();
+                if (stopped[batchIndex].get())
+                {
+                    return null;
+                }
+                V result = function.value(batchList.get(batchIndex), stopped[batchIndex]);
+                if (result == null || stopped[batchIndex].get())
+                {
+                    return null;
+                }
+                int previousIndex = firstFoundIndex.get();
+                while (batchIndex < previousIndex && !firstFoundIndex.compareAndSet(previousIndex, batchIndex))
+                {
+                    previousIndex = firstFoundIndex.get();
+                }
+                for (int i = batchIndex + 1; i < previousIndex; i++)
+                {
+                    stopped[i].set(true);
+                }
+                return result;
+            }
+        });
+        for (Future<V> future : futures)
+        {
+            try
+            {
+                V result = future.get();
+                if (result != null)
+                {
+                    BatchExecution.cancelAll(futures);
+                    return result;
+                }
+            }
+            catch (InterruptedException e)
+            {
+                BatchExecution.cancelAll(futures);
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+        return null;
+    }
+
+    private static <V> void cancelAll(MutableList<Future<V>> futures)
+    {
+        for (Future<V> future : futures)
+        {
+            future.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.api.list.MutableList;
+
+/**
+ * An ExecutorService which schedules all the batches of a parallel iterable at once instead of receiving them one
+ * task at a time. Passing an implementation to {@code asParallel()} lets it choose its own scheduling strategy, for
+ * example recursively splitting the batches across a work-stealing pool.
+ * <p>
+ * Parallel iterables combine the results of a BatchExecutorService in batch order, so the returned futures must be in
+ * the same order as the batches. The futures report failures and cancellation the same way as
+ * {@link ExecutorService#submit(java.util.concurrent.Callable)}.
+ *
+ * @since 6.2
+ */
+@Beta
+public interface BatchExecutorService extends ExecutorService
+{
+    /**
+     * Starts applying the function to every batch and returns one future per batch, in the order of the batches.
+     */
+    <B, V> MutableList<Future<V>> submitAll(ListIterable<B> batches, Function<? super B, ? extends V> function);
+}
@@ -18,17 +18,27 @@ package com.gs.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
 
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.ParallelCharIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelFloatIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.ParallelShortIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -36,9 +46,19 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelCharIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelDoubleIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelFloatIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelIntIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelLongIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelShortIterable;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 
 public abstract class NonParallelIterable<T, RI extends RichIterable<T>> implements ParallelIterable<T>
 {
@@ -49,6 +69,41 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         this.delegate = delegate;
     }
 
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
+    {
+        return new NonParallelByteIterable(this.delegate.asLazy().collectByte(function));
+    }
+
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        return new NonParallelCharIterable(this.delegate.asLazy().collectChar(function));
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new NonParallelDoubleIterable(this.delegate.asLazy().collectDouble(function));
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        return new NonParallelFloatIterable(this.delegate.asLazy().collectFloat(function));
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new NonParallelIntIterable(this.delegate.asLazy().collectInt(function));
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new NonParallelLongIterable(this.delegate.asLazy().collectLong(function));
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        return new NonParallelShortIterable(this.delegate.asLazy().collectShort(function));
+    }
+
     public void forEach(Procedure<? super T> procedure)
     {
         this.delegate.forEach(procedure);
@@ -254,6 +309,39 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         return this.delegate.sumOfDouble(function);
     }
 
+    public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
+    {
+        return this.delegate.sumByInt(groupBy, function);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function)
+    {
+        return this.delegate.sumByFloat(groupBy, function);
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function)
+    {
+        return this.delegate.sumByLong(groupBy, function);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.delegate.sumByDouble(groupBy, function);
+    }
+
+    public <V> ObjectLongMap<V> countBy(final Function<? super T, ? extends V> function)
+    {
+        final ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+        this.delegate.forEach(new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                result.addToValue(function.valueOf(each), 1L);
+            }
+        });
+        return result;
+    }
+
     @Override
     public String toString()
     {
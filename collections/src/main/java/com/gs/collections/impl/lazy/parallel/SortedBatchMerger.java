@@ -0,0 +1,125 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.Comparator;
+
+import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * Merges sorted batches with a binary heap of the batches' current positions. Equal elements are taken from the
+ * earlier batch first, so merging the sorted batches of an ordered iterable gives the same result as a stable sort.
+ */
+final class SortedBatchMerger<T>
+{
+    private final ListIterable<FastList<T>> batches;
+    private final Comparator<? super T> comparator;
+    private final int[] positions;
+    private final int[] heap;
+    private int heapSize;
+
+    private SortedBatchMerger(ListIterable<FastList<T>> batches, Comparator<? super T> comparator)
+    {
+        this.batches = batches;
+        this.comparator = comparator;
+        this.positions = new int[batches.size()];
+        this.heap = new int[batches.size()];
+    }
+
+    /**
+     * Returns the elements of all the sorted batches in sorted order. If distinct is true, only the first of a run of
+     * elements which compare as equal is kept.
+     */
+    public static <T> FastList<T> merge(ListIterable<FastList<T>> batches, Comparator<? super T> comparator, boolean distinct)
+    {
+        return new SortedBatchMerger<T>(batches, comparator).merge(distinct);
+    }
+
+    private FastList<T> merge(boolean distinct)
+    {
+        int size = 0;
+        for (int i = 0; i < this.batches.size(); i++)
+        {
+            FastList<T> batch = this.batches.get(i);
+            size += batch.size();
+            if (batch.notEmpty())
+            {
+                this.heap[this.heapSize++] = i;
+            }
+        }
+        for (int i = (this.heapSize >>> 1) - 1; i >= 0; i--)
+        {
+            this.siftDown(i);
+        }
+
+        FastList<T> result = FastList.newList(size);
+        T last = null;
+        while (this.heapSize > 0)
+        {
+            int batchIndex = this.heap[0];
+            FastList<T> batch = this.batches.get(batchIndex);
+            T next = batch.get(this.positions[batchIndex]++);
+            if (!distinct || result.isEmpty() || this.comparator.compare(last, next) != 0)
+            {
+                result.add(next);
+                last = next;
+            }
+            if (this.positions[batchIndex] == batch.size())
+            {
+                this.heap[0] = this.heap[--this.heapSize];
+            }
+            this.siftDown(0);
+        }
+        return result;
+    }
+
+    private void siftDown(int index)
+    {
+        int current = index;
+        while (true)
+        {
+            int smallest = current;
+            int left = (current << 1) + 1;
+            int right = left + 1;
+            if (left < this.heapSize && this.isBefore(this.heap[left], this.heap[smallest]))
+            {
+                smallest = left;
+            }
+            if (right < this.heapSize && this.isBefore(this.heap[right], this.heap[smallest]))
+            {
+                smallest = right;
+            }
+            if (smallest == current)
+            {
+                return;
+            }
+            int swap = this.heap[current];
+            this.heap[current] = this.heap[smallest];
+            this.heap[smallest] = swap;
+            current = smallest;
+        }
+    }
+
+    private boolean isBefore(int batchIndex1, int batchIndex2)
+    {
+        T each1 = this.batches.get(batchIndex1).get(this.positions[batchIndex1]);
+        T each2 = this.batches.get(batchIndex2).get(this.positions[batchIndex2]);
+        int result = this.comparator.compare(each1, each2);
+        return result < 0 || result == 0 && batchIndex1 < batchIndex2;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.ParallelMapIterable;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.lazy.parallel.BatchExecution;
+
+/**
+ * Base class for the parallel views of maps. Subclasses split the map's table into {@link MapBatch}es; the keys, values
+ * and key-value views are derived from those batches.
+ *
+ * @since 6.2
+ */
+@Beta
+public abstract class AbstractParallelMapIterable<K, V> implements ParallelMapIterable<K, V>
+{
+    public abstract ExecutorService getExecutorService();
+
+    public abstract int getBatchSize();
+
+    public abstract LazyIterable<MapBatch<K, V>> split();
+
+    public void forEachKeyValue(final Procedure2<? super K, ? super V> procedure)
+    {
+        MutableList<Future<Object>> futuresList = BatchExecution.submitAll(this.getExecutorService(), this.split(), new Function<MapBatch<K, V>, Object>()
+        {
+            public Object valueOf(MapBatch<K, V> batch)
+            {
+                batch.forEachKeyValue(procedure);
+                return null;
+            }
+        });
+        for (Future<Object> future : futuresList)
+        {
+            try
+            {
+                future.get();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    public ParallelUnsortedSetIterable<K> keysView()
+    {
+        return new ParallelMapKeysView<K, V>(this);
+    }
+
+    public ParallelIterable<V> valuesView()
+    {
+        return new ParallelMapValuesView<K, V>(this);
+    }
+
+    public ParallelIterable<Pair<K, V>> keyValuesView()
+    {
+        return new ParallelMapKeyValuesView<K, V>(this);
+    }
+}
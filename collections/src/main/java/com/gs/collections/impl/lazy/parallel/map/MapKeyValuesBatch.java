@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.lazy.parallel.map;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.RootBatch;
+import com.gs.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.SelectUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
+import com.gs.collections.impl.tuple.Tuples;
+
+@Beta
+public class MapKeyValuesBatch<K, V> extends AbstractBatch<Pair<K, V>> implements RootBatch<Pair<K, V>>, UnsortedBagBatch<Pair<K, V>>
+{
+    private final MapBatch<K, V> mapBatch;
+
+    public MapKeyValuesBatch(MapBatch<K, V> mapBatch)
+    {
+        this.mapBatch = mapBatch;
+    }
+
+    public void forEach(final Procedure<? super Pair<K, V>> procedure)
+    {
+        this.mapBatch.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(Tuples.pair(key, value));
+            }
+        });
+    }
+
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super Pair<K, V>> procedure)
+    {
+        this.mapBatch.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(Tuples.pair(key, value), 1);
+            }
+        });
+    }
+
+    public boolean anySatisfy(Predicate<? super Pair<K, V>> predicate)
+    {
+        return this.mapBatch.detect(new PairPredicate<K, V>(predicate, true)) != null;
+    }
+
+    public boolean allSatisfy(Predicate<? super Pair<K, V>> predicate)
+    {
+        return this.mapBatch.detect(new PairPredicate<K, V>(predicate, false)) == null;
+    }
+
+    public Pair<K, V> detect(Predicate<? super Pair<K, V>> predicate)
+    {
+        return this.mapBatch.detect(new PairPredicate<K, V>(predicate, true));
+    }
+
+    public UnsortedBagBatch<Pair<K, V>> select(Predicate<? super Pair<K, V>> predicate)
+    {
+        return new SelectUnsortedBagBatch<Pair<K, V>>(this, predicate);
+    }
+
+    public <VV> UnsortedBagBatch<VV> collect(Function<? super Pair<K, V>, ? extends VV> function)
+    {
+        return new CollectUnsortedBagBatch<Pair<K, V>, VV>(this, function);
+    }
+
+    public <VV> UnsortedBagBatch<VV> flatCollect(Function<? super Pair<K, V>, ? extends Iterable<VV>> function)
+    {
+        return new FlatCollectUnsortedBagBatch<Pair<K, V>, VV>(this, function);
+    }
+
+    private static final class PairPredicate<K, V> implements Predicate2<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super Pair<K, V>> predicate;
+        private final boolean expected;
+
+        private PairPredicate(Predicate<? super Pair<K, V>> predicate, boolean expected)
+        {
+            this.predicate = predicate;
+            this.expected = expected;
+        }
+
+        public boolean accept(K key, V value)
+        {
+            return this.predicate.accept(Tuples.pair(key, value)) == this.expected;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterableImpl;
+import com.gs.collections.impl.lazy.parallel.RootBatch;
+
+@Beta
+class ParallelMapKeyValuesView<K, V> extends AbstractParallelIterableImpl<Pair<K, V>, RootBatch<Pair<K, V>>>
+{
+    private final AbstractParallelMapIterable<K, V> parallelMapIterable;
+
+    ParallelMapKeyValuesView(AbstractParallelMapIterable<K, V> parallelMapIterable)
+    {
+        this.parallelMapIterable = parallelMapIterable;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.parallelMapIterable.getExecutorService();
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.parallelMapIterable.getBatchSize();
+    }
+
+    @Override
+    public LazyIterable<RootBatch<Pair<K, V>>> split()
+    {
+        return this.parallelMapIterable.split().collect(new Function<MapBatch<K, V>, RootBatch<Pair<K, V>>>()
+        {
+            public RootBatch<Pair<K, V>> valueOf(MapBatch<K, V> eachBatch)
+            {
+                return new MapKeyValuesBatch<K, V>(eachBatch);
+            }
+        });
+    }
+
+    public void forEach(Procedure<? super Pair<K, V>> procedure)
+    {
+        AbstractParallelIterable.forEach(this, procedure);
+    }
+
+    public boolean anySatisfy(Predicate<? super Pair<K, V>> predicate)
+    {
+        return AbstractParallelIterable.anySatisfy(this, predicate);
+    }
+
+    public boolean allSatisfy(Predicate<? super Pair<K, V>> predicate)
+    {
+        return AbstractParallelIterable.allSatisfy(this, predicate);
+    }
+
+    public Pair<K, V> detect(Predicate<? super Pair<K, V>> predicate)
+    {
+        return AbstractParallelIterable.detect(this, predicate);
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return this.toList().toArray();
+    }
+
+    @Override
+    public <E> E[] toArray(E[] array)
+    {
+        return this.toList().toArray(array);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.primitive;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.lazy.parallel.BatchExecution;
+import com.gs.collections.impl.lazy.parallel.BatchExecutorService;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * Executes primitive batches on an {@link ExecutorService}. The generated primitive parallel iterables extend this
+ * class and only describe what each batch computes and how the partial results are combined.
+ *
+ * @since 6.2
+ */
+@Beta
+public abstract class AbstractParallelPrimitiveIterable<B>
+{
+    public abstract ExecutorService getExecutorService();
+
+    public abstract int getBatchSize();
+
+    public abstract LazyIterable<B> split();
+
+    /**
+     * Executes the procedure for every batch in parallel and waits for all of them to complete.
+     */
+    protected void forEachBatch(final Procedure<B> procedure)
+    {
+        Function<B, Object> function = new Function<B, Object>()
+        {
+            public Object valueOf(B batch)
+            {
+                procedure.value(batch);
+                return null;
+            }
+        };
+        Procedure2<Object, Object> combineProcedure = new Procedure2<Object, Object>()
+        {
+            public void value(Object state, Object each)
+            {
+            }
+        };
+        this.collectCombine(function, combineProcedure, null);
+    }
+
+    /**
+     * Applies the function to every batch in parallel and combines the results on the calling thread, in the order
+     * of the batches.
+     */
+    protected <S, V> void collectCombine(Function<B, V> function, Procedure2<S, V> combineProcedure, S state)
+    {
+        MutableList<Future<V>> futuresList = BatchExecution.submitAll(this.getExecutorService(), this.split(), function);
+        try
+        {
+            for (int i = 0; i < futuresList.size(); i++)
+            {
+                combineProcedure.value(state, futuresList.get(i).get());
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns true as soon as the predicate returns true for any batch, cancelling the batches that are still running.
+     */
+    protected boolean anyBatchSatisfies(final Predicate<B> predicate)
+    {
+        if (this.getExecutorService() instanceof BatchExecutorService)
+        {
+            return BatchExecution.anySatisfy(this.getExecutorService(), this.split(), predicate);
+        }
+        final CompletionService<Boolean> completionService = new ExecutorCompletionService<Boolean>(this.getExecutorService());
+        MutableSet<Future<Boolean>> futures = this.split().collect(new Function<B, Future<Boolean>>()
+        {
+            public Future<Boolean> valueOf(final B batch)
+            {
+                return completionService.submit(new Callable<Boolean>()
+                {
+                    public Boolean call()
+                    {
+                        return predicate.accept(batch);
+                    }
+                });
+            }
+        }, UnifiedSet.<Future<Boolean>>newSet());
+
+        while (futures.notEmpty())
+        {
+            try
+            {
+                Future<Boolean> future = completionService.take();
+                if (future.get())
+                {
+                    for (Future<Boolean> eachFuture : futures)
+                    {
+                        eachFuture.cancel(true);
+                    }
+                    return true;
+                }
+                futures.remove(future);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+        return false;
+    }
+}
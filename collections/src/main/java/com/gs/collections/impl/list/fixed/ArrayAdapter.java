@@ -28,6 +28,7 @@ import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.list.FixedSizeList;
 import com.gs.collections.impl.block.factory.Predicates2;
+import com.gs.collections.impl.parallel.ParallelMergeSort;
 import com.gs.collections.impl.utility.Iterate;
 
 /**
@@ -185,6 +186,13 @@ public final class ArrayAdapter<T>
         return this;
     }
 
+    @Override
+    public ArrayAdapter<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        ParallelMergeSort.sort(this.items, this.size(), comparator);
+        return this;
+    }
+
     @Override
     public FixedSizeList<T> toReversed()
     {
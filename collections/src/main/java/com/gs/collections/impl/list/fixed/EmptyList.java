@@ -98,6 +98,12 @@ final class EmptyList<T>
         return this;
     }
 
+    @Override
+    public EmptyList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        return this;
+    }
+
     @Override
     public <V extends Comparable<? super V>> MutableList<T> sortThisBy(Function<? super T, ? extends V> function)
     {
@@ -116,6 +116,12 @@ final class SingletonList<T>
         return this;
     }
 
+    @Override
+    public SingletonList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        return this;
+    }
+
     @Override
     public <V extends Comparable<? super V>> MutableList<T> sortThisBy(Function<? super T, ? extends V> function)
     {
@@ -49,6 +49,7 @@ import com.gs.collections.api.collection.MutableCollection;
 import com.gs.collections.api.list.ImmutableList;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.api.list.TransientList;
 import com.gs.collections.api.list.primitive.ImmutableBooleanList;
 import com.gs.collections.api.list.primitive.ImmutableByteList;
 import com.gs.collections.api.list.primitive.ImmutableCharList;
@@ -788,6 +789,11 @@ abstract class AbstractImmutableList<T>
         return Lists.immutable.withAll(this.asReversed());
     }
 
+    public TransientList<T> toTransient()
+    {
+        return ImmutableTrieList.<T>newTransient().withAll(this);
+    }
+
     public ParallelListIterable<T> asParallel(ExecutorService executorService, int batchSize)
     {
         return new ListIterableParallelIterable<T>(this, executorService, batchSize);
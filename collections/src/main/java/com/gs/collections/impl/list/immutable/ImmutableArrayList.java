@@ -78,6 +78,12 @@ final class ImmutableArrayList<T>
     public ImmutableList<T> newWith(T newItem)
     {
         int oldSize = this.size();
+        if (oldSize + 1 >= ImmutableTrieList.MINIMUM_SIZE)
+        {
+            // Switch to a persistent list so that repeated calls to newWith do not copy the whole array each time
+            ImmutableTrieList<T> trieList = ImmutableTrieList.newList(this.items, oldSize);
+            return trieList.newWith(newItem);
+        }
         T[] array = (T[]) new Object[oldSize + 1];
         this.toArray(array);
         array[oldSize] = newItem;
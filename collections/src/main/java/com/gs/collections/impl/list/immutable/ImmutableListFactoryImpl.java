@@ -178,6 +178,10 @@ public final class ImmutableListFactoryImpl implements ImmutableListFactory
                 return this.of(items[0], items[1], items[2], items[3], items[4], items[5], items[6], items[7], items[8], items[9]);
 
             default:
+                if (items.length >= ImmutableTrieList.MINIMUM_SIZE)
+                {
+                    return ImmutableTrieList.newListWith(items);
+                }
                 return ImmutableArrayList.newListWith(items);
         }
     }
@@ -210,7 +214,12 @@ public final class ImmutableListFactoryImpl implements ImmutableListFactory
                 return this.of(items.get(0), items.get(1), items.get(2), items.get(3), items.get(4), items.get(5), items.get(6), items.get(7), items.get(8), items.get(9));
 
             default:
-                return ImmutableArrayList.newListWith((T[]) items.toArray());
+                T[] array = (T[]) items.toArray();
+                if (array.length >= ImmutableTrieList.MINIMUM_SIZE)
+                {
+                    return ImmutableTrieList.newList(array, array.length);
+                }
+                return ImmutableArrayList.newListWith(array);
         }
     }
 
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.TransientList;
+import com.gs.collections.impl.factory.Lists;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableTrieList is a persistent vector: the elements are stored in the leaves of a trie with 32-way branching
+ * and the last (up to) 32 elements are kept in a separate tail array. {@link #get(int)} walks at most
+ * log<sub>32</sub>(n) levels, and {@link #newWith(Object)} copies only the tail, or the path from the root to the new
+ * leaf, sharing every other node with the original list.
+ * <p>
+ * The factory in {@link com.gs.collections.impl.factory.Lists#immutable} only returns an ImmutableTrieList for lists
+ * of at least {@link #MINIMUM_SIZE} elements, where copying the whole array on every {@code newWith} starts to
+ * dominate.
+ *
+ * @since 6.2
+ */
+@Immutable
+final class ImmutableTrieList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess
+{
+    static final int MINIMUM_SIZE = 1024;
+
+    // Not important since it uses writeReplace()
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    // Enough levels of internal nodes for Integer.MAX_VALUE elements
+    private static final int MAX_DEPTH = 7;
+
+    private static final Object[] EMPTY_NODE = {};
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private ImmutableTrieList(int size, int shift, Object[] root, Object[] tail)
+    {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    public static <E> ImmutableTrieList<E> newListWith(E... elements)
+    {
+        return ImmutableTrieList.newList(elements, elements.length);
+    }
+
+    /**
+     * Builds a list from the first {@code size} elements of the array in O(n), filling every leaf before creating
+     * the next one. The array is copied, so the caller may keep using it.
+     */
+    static <E> ImmutableTrieList<E> newList(Object[] elements, int size)
+    {
+        int tailOffset = ImmutableTrieList.tailOffset(size);
+        Object[] tail = new Object[size - tailOffset];
+        System.arraycopy(elements, tailOffset, tail, 0, tail.length);
+
+        Object[][] nodes = new Object[tailOffset >>> BITS][];
+        for (int i = 0; i < nodes.length; i++)
+        {
+            Object[] leaf = new Object[WIDTH];
+            System.arraycopy(elements, i << BITS, leaf, 0, WIDTH);
+            nodes[i] = leaf;
+        }
+        int shift = BITS;
+        while (nodes.length > WIDTH)
+        {
+            Object[][] parents = new Object[(nodes.length + MASK) >>> BITS][];
+            for (int i = 0; i < parents.length; i++)
+            {
+                int start = i << BITS;
+                Object[] parent = new Object[Math.min(WIDTH, nodes.length - start)];
+                System.arraycopy(nodes, start, parent, 0, parent.length);
+                parents[i] = parent;
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+        Object[] root = nodes.length == 0 ? EMPTY_NODE : nodes;
+        return new ImmutableTrieList<E>(size, shift, root, tail);
+    }
+
+    static <E> TransientList<E> newTransient()
+    {
+        return new TransientTrieList<E>(0, BITS, EMPTY_NODE, EMPTY_NODE);
+    }
+
+    private static int tailOffset(int size)
+    {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index)
+    {
+        if (index >= ImmutableTrieList.tailOffset(this.size))
+        {
+            return this.tail;
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS)
+        {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        return (T) this.leafFor(index)[index & MASK];
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public ImmutableList<T> newWith(T newItem)
+    {
+        if (this.tail.length < WIDTH)
+        {
+            Object[] newTail = new Object[this.tail.length + 1];
+            System.arraycopy(this.tail, 0, newTail, 0, this.tail.length);
+            newTail[this.tail.length] = newItem;
+            return new ImmutableTrieList<T>(this.size + 1, this.shift, this.root, newTail);
+        }
+
+        // The tail is full, so it becomes a leaf of the trie and a new tail is started
+        int leafCount = this.size >>> BITS;
+        Object[] newRoot;
+        int newShift = this.shift;
+        if (leafCount > 1 << this.shift)
+        {
+            newRoot = new Object[]{this.root, ImmutableTrieList.newPath(this.shift, this.tail)};
+            newShift += BITS;
+        }
+        else
+        {
+            newRoot = this.pushTail(this.shift, this.root);
+        }
+        return new ImmutableTrieList<T>(this.size + 1, newShift, newRoot, new Object[]{newItem});
+    }
+
+    private Object[] pushTail(int level, Object[] parent)
+    {
+        int childIndex = ((this.size - 1) >>> level) & MASK;
+        Object[] result = new Object[Math.max(parent.length, childIndex + 1)];
+        System.arraycopy(parent, 0, result, 0, parent.length);
+        if (level == BITS)
+        {
+            result[childIndex] = this.tail;
+        }
+        else
+        {
+            Object[] child = childIndex < parent.length ? (Object[]) parent[childIndex] : null;
+            result[childIndex] = child == null
+                    ? ImmutableTrieList.newPath(level - BITS, this.tail)
+                    : this.pushTail(level - BITS, child);
+        }
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] node)
+    {
+        Object[] result = node;
+        for (int i = level; i > 0; i -= BITS)
+        {
+            result = new Object[]{result};
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        return this.toTransient().withAll(elements).toImmutable();
+    }
+
+    @Override
+    public TransientList<T> toTransient()
+    {
+        return new TransientTrieList<T>(this.size, this.shift, this.root, this.tail);
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.get(0);
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.isEmpty() ? null : (T) this.tail[this.tail.length - 1];
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        for (int leafStart = 0; leafStart < this.size; leafStart += WIDTH)
+        {
+            Object[] leaf = this.leafFor(leafStart);
+            for (Object each : leaf)
+            {
+                procedure.value((T) each);
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        for (int leafStart = 0; leafStart < this.size; leafStart += WIDTH)
+        {
+            Object[] leaf = this.leafFor(leafStart);
+            for (int i = 0; i < leaf.length; i++)
+            {
+                objectIntProcedure.value((T) leaf[i], leafStart + i);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new TrieIterator();
+    }
+
+    protected Object writeReplace()
+    {
+        return ImmutableArrayList.newListWith(this.toArray());
+    }
+
+    private final class TrieIterator extends ImmutableIterator<T>
+    {
+        private Object[] leaf;
+
+        private TrieIterator()
+        {
+            super(ImmutableTrieList.this);
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.currentIndex < ImmutableTrieList.this.size;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            if (this.leaf == null || (this.currentIndex & MASK) == 0)
+            {
+                this.leaf = ImmutableTrieList.this.leafFor(this.currentIndex);
+            }
+            T result = (T) this.leaf[this.currentIndex & MASK];
+            this.currentIndex++;
+            return result;
+        }
+    }
+
+    /**
+     * Appends to the rightmost path of the trie in place. The tail buffer and every internal node on the rightmost
+     * path that this transient created itself are owned, and are mutated directly; any other node is shared with an
+     * immutable list and is copied on its first change. Only the last internal node created at each depth can still be
+     * on the rightmost path, so ownership is tracked per depth.
+     */
+    private static final class TransientTrieList<T> implements TransientList<T>
+    {
+        private final Object[][] ownedNodes = new Object[MAX_DEPTH][];
+        private int size;
+        private int shift;
+        private Object[] root;
+        private Object[] tail;
+        private boolean tailOwned;
+
+        private TransientTrieList(int size, int shift, Object[] root, Object[] tail)
+        {
+            this.size = size;
+            this.shift = shift;
+            this.root = root;
+            this.tail = tail;
+        }
+
+        public TransientList<T> with(T element)
+        {
+            int tailSize = this.size - ImmutableTrieList.tailOffset(this.size);
+            if (tailSize == WIDTH)
+            {
+                this.pushTail();
+                this.tail = new Object[WIDTH];
+                this.tailOwned = true;
+                tailSize = 0;
+            }
+            else if (!this.tailOwned)
+            {
+                Object[] newTail = new Object[WIDTH];
+                System.arraycopy(this.tail, 0, newTail, 0, tailSize);
+                this.tail = newTail;
+                this.tailOwned = true;
+            }
+            this.tail[tailSize] = element;
+            this.size++;
+            return this;
+        }
+
+        public TransientList<T> withAll(Iterable<? extends T> elements)
+        {
+            for (T element : elements)
+            {
+                this.with(element);
+            }
+            return this;
+        }
+
+        private void pushTail()
+        {
+            if (this.size >>> BITS > 1 << this.shift)
+            {
+                Object[] newRoot = new Object[WIDTH];
+                System.arraycopy(this.ownedNodes, 0, this.ownedNodes, 1, MAX_DEPTH - 1);
+                this.ownedNodes[0] = newRoot;
+                newRoot[0] = this.root;
+                newRoot[1] = this.newPath(this.shift, 1);
+                this.root = newRoot;
+                this.shift += BITS;
+                return;
+            }
+            Object[] node = this.owned(0, this.root);
+            this.root = node;
+            int depth = 0;
+            for (int level = this.shift; level > BITS; level -= BITS)
+            {
+                int childIndex = ((this.size - 1) >>> level) & MASK;
+                Object[] child = (Object[]) node[childIndex];
+                if (child == null)
+                {
+                    node[childIndex] = this.newPath(level - BITS, depth + 1);
+                    return;
+                }
+                depth++;
+                child = this.owned(depth, child);
+                node[childIndex] = child;
+                node = child;
+            }
+            node[((this.size - 1) >>> BITS) & MASK] = this.tail;
+        }
+
+        private Object[] owned(int depth, Object[] node)
+        {
+            if (this.ownedNodes[depth] == node)
+            {
+                return node;
+            }
+            Object[] copy = new Object[WIDTH];
+            System.arraycopy(node, 0, copy, 0, node.length);
+            this.ownedNodes[depth] = copy;
+            return copy;
+        }
+
+        private Object[] newPath(int level, int depth)
+        {
+            if (level == 0)
+            {
+                return this.tail;
+            }
+            Object[] node = new Object[WIDTH];
+            this.ownedNodes[depth] = node;
+            node[0] = this.newPath(level - BITS, depth + 1);
+            return node;
+        }
+
+        public T get(int index)
+        {
+            if (index < 0 || index >= this.size)
+            {
+                throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+            }
+            if (index >= ImmutableTrieList.tailOffset(this.size))
+            {
+                return (T) this.tail[index & MASK];
+            }
+            Object[] node = this.root;
+            for (int level = this.shift; level > 0; level -= BITS)
+            {
+                node = (Object[]) node[(index >>> level) & MASK];
+            }
+            return (T) node[index & MASK];
+        }
+
+        public int size()
+        {
+            return this.size;
+        }
+
+        public ImmutableList<T> toImmutable()
+        {
+            int tailSize = this.size - ImmutableTrieList.tailOffset(this.size);
+            Object[] frozenTail = this.tail;
+            if (tailSize != this.tail.length)
+            {
+                frozenTail = new Object[tailSize];
+                System.arraycopy(this.tail, 0, frozenTail, 0, tailSize);
+            }
+            else
+            {
+                this.tailOwned = false;
+            }
+            // The nodes now belong to the returned list, so later additions have to copy them
+            Arrays.fill(this.ownedNodes, null);
+            ImmutableTrieList<T> result = new ImmutableTrieList<T>(this.size, this.shift, this.root, frozenTail);
+            if (this.size < MINIMUM_SIZE)
+            {
+                return Lists.immutable.with((T[]) result.toArray());
+            }
+            return result;
+        }
+    }
+}
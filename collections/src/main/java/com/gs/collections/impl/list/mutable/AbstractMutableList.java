@@ -74,6 +74,7 @@ import com.gs.collections.impl.factory.Stacks;
 import com.gs.collections.impl.lazy.ReverseIterable;
 import com.gs.collections.impl.lazy.parallel.list.ListIterableParallelIterable;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.parallel.ParallelMergeSort;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.stack.mutable.ArrayStack;
 import com.gs.collections.impl.utility.Iterate;
@@ -587,6 +588,11 @@ public abstract class AbstractMutableList<T>
         return this;
     }
 
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        return ParallelMergeSort.sortThis(this, comparator);
+    }
+
     /**
      * Override in subclasses where it can be optimized.
      */
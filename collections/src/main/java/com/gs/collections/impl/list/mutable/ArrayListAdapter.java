@@ -62,6 +62,7 @@ import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
 import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
 import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.parallel.ParallelMergeSort;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.ArrayListIterate;
 import com.gs.collections.impl.utility.Iterate;
@@ -229,6 +230,12 @@ public final class ArrayListAdapter<T>
         return this.sortThis(Comparators.naturalOrder());
     }
 
+    public ArrayListAdapter<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        ParallelMergeSort.sortThis(this.delegate, comparator);
+        return this;
+    }
+
     public ArrayListAdapter<T> with(T element)
     {
         this.add(element);
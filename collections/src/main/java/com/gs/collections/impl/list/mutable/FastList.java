@@ -16,10 +16,13 @@
 
 package com.gs.collections.impl.list.mutable;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,6 +31,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.RandomAccess;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
@@ -76,6 +80,8 @@ import com.gs.collections.api.tuple.Twin;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.Predicates2;
 import com.gs.collections.impl.block.factory.Procedures2;
+import com.gs.collections.impl.codec.BinaryCodec;
+import com.gs.collections.impl.codec.BinaryCodecs;
 import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
 import com.gs.collections.impl.list.mutable.primitive.CharArrayList;
@@ -87,6 +93,7 @@ import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
 import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.parallel.ParallelMergeSort;
 import com.gs.collections.impl.partition.list.PartitionFastList;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.ArrayListIterate;
@@ -257,6 +264,13 @@ public class FastList<T>
         return this;
     }
 
+    @Override
+    public FastList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        ParallelMergeSort.sort(this.items, this.size, comparator);
+        return this;
+    }
+
     @Override
     public FastList<T> sortThis()
     {
@@ -1428,4 +1442,44 @@ public class FastList<T>
             this.items[i] = (T) in.readObject();
         }
     }
+
+    /**
+     * Writes the format version and the size of this list, followed by its items, which are written by the codec instead of Java
+     * serialization.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public void write(DataOutput out, BinaryCodec<? super T> codec) throws IOException
+    {
+        BinaryCodecs.writeFormatVersion(out);
+        out.writeInt(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            codec.write(this.items[i], out);
+        }
+    }
+
+    /**
+     * Reads a list written by {@link #write(DataOutput, BinaryCodec)}. The items are read straight into an array of
+     * the exact size.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public static <T> FastList<T> read(DataInput in, BinaryCodec<? extends T> codec) throws IOException
+    {
+        BinaryCodecs.readFormatVersion(in);
+        int size = in.readInt();
+        if (size < 0)
+        {
+            throw new StreamCorruptedException("Negative size: " + size);
+        }
+        FastList<T> result = new FastList<T>(BinaryCodecs.initialCapacity(in, size, 0));
+        for (int i = 0; i < size; i++)
+        {
+            result.add(codec.read(in));
+        }
+        return result;
+    }
 }
@@ -39,6 +39,7 @@ import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.lazy.parallel.list.NonParallelListIterable;
+import com.gs.collections.impl.parallel.ParallelMergeSort;
 import com.gs.collections.impl.stack.mutable.ArrayStack;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.Iterate;
@@ -226,6 +227,12 @@ public final class ListAdapter<T>
         return this.sortThis(Comparators.naturalOrder());
     }
 
+    public ListAdapter<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        ParallelMergeSort.sortThis(this.delegate, comparator);
+        return this;
+    }
+
     public ListAdapter<T> with(T element)
     {
         this.add(element);
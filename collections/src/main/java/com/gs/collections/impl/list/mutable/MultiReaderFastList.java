@@ -33,6 +33,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.primitive.BooleanFunction;
@@ -73,6 +74,7 @@ import com.gs.collections.api.partition.list.PartitionMutableList;
 import com.gs.collections.api.stack.MutableStack;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection;
+import com.gs.collections.impl.collection.mutable.StripedReadWriteLock;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.lazy.ReverseIterable;
 import com.gs.collections.impl.lazy.parallel.list.ListIterableParallelIterable;
@@ -142,6 +144,29 @@ public final class MultiReaderFastList<T>
         return new MultiReaderFastList<T>(FastList.newListWith(elements));
     }
 
+    /**
+     * Creates an empty list guarded by a {@link StripedReadWriteLock} with one stripe per available processor.
+     * Readers on different threads then do not contend on a shared reader count, at the cost of more expensive writes.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public static <T> MultiReaderFastList<T> newStripedList()
+    {
+        return new MultiReaderFastList<T>(FastList.<T>newList(), new StripedReadWriteLock());
+    }
+
+    /**
+     * Creates an empty list guarded by a {@link StripedReadWriteLock} with at least concurrencyLevel stripes.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public static <T> MultiReaderFastList<T> newStripedList(int concurrencyLevel)
+    {
+        return new MultiReaderFastList<T>(FastList.<T>newList(), new StripedReadWriteLock(concurrencyLevel));
+    }
+
     @Override
     protected MutableList<T> getDelegate()
     {
@@ -563,6 +588,20 @@ public final class MultiReaderFastList<T>
         }
     }
 
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        this.acquireWriteLock();
+        try
+        {
+            this.delegate.sortThisParallel(comparator);
+            return this;
+        }
+        finally
+        {
+            this.unlockWriteLock();
+        }
+    }
+
     public <V extends Comparable<? super V>> MutableList<T> sortThisBy(
             Function<? super T, ? extends V> function)
     {
@@ -1255,6 +1294,12 @@ public final class MultiReaderFastList<T>
             return this;
         }
 
+        public MutableList<T> sortThisParallel(Comparator<? super T> comparator)
+        {
+            this.getDelegate().sortThisParallel(comparator);
+            return this;
+        }
+
         public MutableList<T> toReversed()
         {
             return this.getDelegate().toReversed();
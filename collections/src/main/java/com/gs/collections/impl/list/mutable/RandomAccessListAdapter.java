@@ -70,6 +70,7 @@ import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
 import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
 import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.parallel.ParallelMergeSort;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.Iterate;
 import com.gs.collections.impl.utility.ListIterate;
@@ -252,6 +253,12 @@ public final class RandomAccessListAdapter<T>
         return this.sortThis(Comparators.naturalOrder());
     }
 
+    public RandomAccessListAdapter<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        ParallelMergeSort.sortThis(this.delegate, comparator);
+        return this;
+    }
+
     public RandomAccessListAdapter<T> with(T element)
     {
         this.add(element);
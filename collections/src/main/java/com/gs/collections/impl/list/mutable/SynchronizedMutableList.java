@@ -370,6 +370,15 @@ public class SynchronizedMutableList<T>
         }
     }
 
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().sortThisParallel(comparator);
+            return this;
+        }
+    }
+
     public <V extends Comparable<? super V>> MutableList<T> sortThisBy(Function<? super T, ? extends V> function)
     {
         synchronized (this.getLock())
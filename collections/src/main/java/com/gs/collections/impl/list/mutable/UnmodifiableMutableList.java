@@ -177,6 +177,11 @@ public class UnmodifiableMutableList<T>
         throw new UnsupportedOperationException("Cannot call sortThis() on " + this.getClass().getSimpleName());
     }
 
+    public UnmodifiableMutableList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        throw new UnsupportedOperationException("Cannot call sortThisParallel() on " + this.getClass().getSimpleName());
+    }
+
     public MutableList<T> toReversed()
     {
         return this.getMutableList().toReversed();
@@ -55,6 +55,7 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.TransientMap;
 import com.gs.collections.api.multimap.bag.ImmutableBagMultimap;
 import com.gs.collections.api.multimap.set.ImmutableSetMultimap;
 import com.gs.collections.api.ordered.OrderedIterable;
@@ -193,6 +194,11 @@ public abstract class AbstractImmutableMap<K, V>
         return map.toImmutable();
     }
 
+    public TransientMap<K, V> toTransient()
+    {
+        return ImmutableHashTrieMap.newTransient(this);
+    }
+
     public V put(K key, V value)
     {
         throw new UnsupportedOperationException("Cannot call put() on " + this.getClass().getSimpleName());
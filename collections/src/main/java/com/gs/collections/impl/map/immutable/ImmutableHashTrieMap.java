@@ -0,0 +1,973 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.TransientMap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.tuple.Tuples;
+import com.gs.collections.impl.utility.LazyIterate;
+import com.gs.collections.impl.utility.MapIterate;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableHashTrieMap is a compressed hash-array mapped prefix tree (CHAMP). Each node consumes five bits of the
+ * spread hash code and keeps two bitmaps: one for the entries stored inline and one for the sub-nodes. The entries
+ * are packed at the front of the node's array and the sub-nodes at the back, so a node is never larger than its
+ * contents. Keys whose spread hash codes are equal end up together in a collision node below the last level.
+ * <p>
+ * {@link #newWithKeyValue(Object, Object)} and {@link #newWithoutKey(Object)} copy only the nodes on the path to the
+ * key, which is O(log<sub>32</sub> n), and share every other node with the original map. Removal keeps the trie
+ * compact, so two maps with the same entries always have the same shape.
+ * <p>
+ * The factory in {@link com.gs.collections.impl.factory.Maps#immutable} only returns an ImmutableHashTrieMap for maps
+ * of at least {@link #MINIMUM_SIZE} entries.
+ *
+ * @since 6.2
+ */
+@Immutable
+final class ImmutableHashTrieMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    static final int MINIMUM_SIZE = 1024;
+
+    // Not important since it uses writeReplace()
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_LENGTH = 32;
+    // Seven levels of bitmap nodes, followed by a collision node
+    private static final int MAX_DEPTH = 8;
+
+    private static final Object NOT_FOUND = new Object();
+    private static final BitmapIndexedNode<?, ?> EMPTY_NODE = new BitmapIndexedNode<Object, Object>(null, 0, 0, new Object[0]);
+
+    private final Node<K, V> root;
+    private final int size;
+
+    private ImmutableHashTrieMap(Node<K, V> root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    static <K, V> ImmutableHashTrieMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        TransientHashTrieMap<K, V> builder = new TransientHashTrieMap<K, V>((Node<K, V>) EMPTY_NODE, 0);
+        MapIterate.forEachKeyValue(map, builder);
+        return builder.build();
+    }
+
+    static <K, V> TransientMap<K, V> newTransient(Map<? extends K, ? extends V> map)
+    {
+        TransientHashTrieMap<K, V> transientMap = new TransientHashTrieMap<K, V>((Node<K, V>) EMPTY_NODE, 0);
+        MapIterate.forEachKeyValue(map, transientMap);
+        return transientMap;
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        return h ^ h >>> 7 ^ h >>> 4;
+    }
+
+    private static int bitpos(int hash, int shift)
+    {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static int index(int bitmap, int bit)
+    {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.root.find(key, ImmutableHashTrieMap.hash(key), 0) != NOT_FOUND;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        ValueIterator<K, V> iterator = new ValueIterator<K, V>(this.root);
+        while (iterator.hasNext())
+        {
+            if (Comparators.nullSafeEquals(iterator.next(), value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V get(Object key)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.root.forEachKeyValue(procedure);
+    }
+
+    @Override
+    public void forEachKey(final Procedure<? super K> procedure)
+    {
+        this.root.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(key);
+            }
+        });
+    }
+
+    @Override
+    public void forEachValue(final Procedure<? super V> procedure)
+    {
+        this.root.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(value);
+            }
+        });
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new Values();
+    }
+
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(this.keySet());
+    }
+
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(this.values());
+    }
+
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.adapt(new KeyValues());
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithKeyValue(K key, V value)
+    {
+        Change change = new Change();
+        Node<K, V> newRoot = this.root.put(null, key, value, ImmutableHashTrieMap.hash(key), 0, change);
+        return change.modified ? new ImmutableHashTrieMap<K, V>(newRoot, this.size + change.sizeDelta) : this;
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        TransientHashTrieMap<K, V> builder = new TransientHashTrieMap<K, V>(this.root, this.size);
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            builder.withKeyValue(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        TransientHashTrieMap<K, V> builder = new TransientHashTrieMap<K, V>(this.root, this.size);
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            builder.withKeyValue(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithoutKey(K key)
+    {
+        Change change = new Change();
+        Node<K, V> newRoot = this.root.remove(null, key, ImmutableHashTrieMap.hash(key), 0, change);
+        return change.modified ? new ImmutableHashTrieMap<K, V>(newRoot, this.size + change.sizeDelta) : this;
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        TransientHashTrieMap<K, V> builder = new TransientHashTrieMap<K, V>(this.root, this.size);
+        for (K key : keys)
+        {
+            builder.withoutKey(key);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> other = (Map<K, V>) object;
+        if (this.size != other.size())
+        {
+            return false;
+        }
+        KeyIterator<K, V> iterator = new KeyIterator<K, V>(this.root);
+        while (iterator.hasNext())
+        {
+            K key = iterator.next();
+            if (!this.keyAndValueEquals(key, iterator.currentValue(), other))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        KeyIterator<K, V> iterator = new KeyIterator<K, V>(this.root);
+        while (iterator.hasNext())
+        {
+            K key = iterator.next();
+            hashCode += this.keyAndValueHashCode(key, iterator.currentValue());
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        KeyIterator<K, V> iterator = new KeyIterator<K, V>(this.root);
+        while (iterator.hasNext())
+        {
+            K key = iterator.next();
+            builder.append(key).append('=').append(iterator.currentValue());
+            if (iterator.hasNext())
+            {
+                builder.append(", ");
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    @Override
+    public TransientMap<K, V> toTransient()
+    {
+        return new TransientHashTrieMap<K, V>(this.root, this.size);
+    }
+
+    protected Object writeReplace()
+    {
+        return new ImmutableMapSerializationProxy<K, V>(this);
+    }
+
+    /**
+     * Records what an update did, so that callers can tell whether a new map is needed and how its size changed.
+     */
+    private static final class Change
+    {
+        private boolean modified;
+        private int sizeDelta;
+
+        private void reset()
+        {
+            this.modified = false;
+            this.sizeDelta = 0;
+        }
+    }
+
+    /**
+     * Applies a batch of updates, editing in place the nodes that it created itself. Every node it has not created is
+     * copied before its first change, so the map it started from is never affected. Freezing hands the nodes over to
+     * the new map, and the transient takes a new owner so that any later update copies them again.
+     */
+    private static final class TransientHashTrieMap<K, V> implements TransientMap<K, V>, Procedure2<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Change change = new Change();
+        private Object owner = new Object();
+        private Node<K, V> root;
+        private int size;
+
+        private TransientHashTrieMap(Node<K, V> root, int size)
+        {
+            this.root = root;
+            this.size = size;
+        }
+
+        public void value(K key, V value)
+        {
+            this.withKeyValue(key, value);
+        }
+
+        public TransientMap<K, V> withKeyValue(K key, V value)
+        {
+            this.change.reset();
+            this.root = this.root.put(this.owner, key, value, ImmutableHashTrieMap.hash(key), 0, this.change);
+            this.size += this.change.sizeDelta;
+            return this;
+        }
+
+        public TransientMap<K, V> withAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+        {
+            for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+            {
+                this.withKeyValue(keyValuePair.getOne(), keyValuePair.getTwo());
+            }
+            return this;
+        }
+
+        public TransientMap<K, V> withoutKey(K key)
+        {
+            this.change.reset();
+            this.root = this.root.remove(this.owner, key, ImmutableHashTrieMap.hash(key), 0, this.change);
+            this.size += this.change.sizeDelta;
+            return this;
+        }
+
+        public V get(Object key)
+        {
+            Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+            return result == NOT_FOUND ? null : (V) result;
+        }
+
+        public boolean containsKey(Object key)
+        {
+            return this.root.find(key, ImmutableHashTrieMap.hash(key), 0) != NOT_FOUND;
+        }
+
+        public int size()
+        {
+            return this.size;
+        }
+
+        public ImmutableMap<K, V> toImmutable()
+        {
+            ImmutableHashTrieMap<K, V> result = this.build();
+            return result.size < MINIMUM_SIZE ? Maps.immutable.withAll(result) : result;
+        }
+
+        private ImmutableHashTrieMap<K, V> build()
+        {
+            this.owner = new Object();
+            return new ImmutableHashTrieMap<K, V>(this.root, this.size);
+        }
+    }
+
+    private abstract static class Node<K, V>
+    {
+        /**
+         * Returns the value mapped to the key, or {@link #NOT_FOUND}.
+         */
+        abstract Object find(Object key, int hash, int shift);
+
+        abstract Node<K, V> put(Object owner, K key, V value, int hash, int shift, Change change);
+
+        abstract Node<K, V> remove(Object owner, Object key, int hash, int shift, Change change);
+
+        abstract int payloadArity();
+
+        abstract K keyAt(int index);
+
+        abstract V valueAt(int index);
+
+        abstract int nodeArity();
+
+        abstract Node<K, V> nodeAt(int index);
+
+        boolean hasSinglePayload()
+        {
+            return this.payloadArity() == 1 && this.nodeArity() == 0;
+        }
+
+        void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.keyAt(i), this.valueAt(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.nodeAt(i).forEachKeyValue(procedure);
+            }
+        }
+    }
+
+    private static final class BitmapIndexedNode<K, V> extends Node<K, V>
+    {
+        private final Object owner;
+        private final int dataMap;
+        private final int nodeMap;
+        // Keys and values alternate from the front, sub-nodes are stored in reverse order from the back
+        private final Object[] content;
+
+        private BitmapIndexedNode(Object owner, int dataMap, int nodeMap, Object[] content)
+        {
+            this.owner = owner;
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private static <K, V> Node<K, V> mergeTwo(
+                Object owner,
+                K key0, V value0, int hash0,
+                K key1, V value1, int hash1,
+                int shift)
+        {
+            if (shift >= HASH_LENGTH)
+            {
+                return new HashCollisionNode<K, V>(hash0, new Object[]{key0, value0, key1, value1});
+            }
+            int mask0 = (hash0 >>> shift) & MASK;
+            int mask1 = (hash1 >>> shift) & MASK;
+            if (mask0 != mask1)
+            {
+                int dataMap = 1 << mask0 | 1 << mask1;
+                Object[] content = mask0 < mask1
+                        ? new Object[]{key0, value0, key1, value1}
+                        : new Object[]{key1, value1, key0, value0};
+                return new BitmapIndexedNode<K, V>(owner, dataMap, 0, content);
+            }
+            Node<K, V> node = BitmapIndexedNode.mergeTwo(owner, key0, value0, hash0, key1, value1, hash1, shift + BITS);
+            return new BitmapIndexedNode<K, V>(owner, 0, 1 << mask0, new Object[]{node});
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = ImmutableHashTrieMap.index(this.dataMap, bit) << 1;
+                return Comparators.nullSafeEquals(this.content[index], key) ? this.content[index + 1] : NOT_FOUND;
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return this.nodeFor(bit).find(key, hash, shift + BITS);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node<K, V> put(Object owner, K key, V value, int hash, int shift, Change change)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = ImmutableHashTrieMap.index(this.dataMap, bit) << 1;
+                K currentKey = (K) this.content[index];
+                V currentValue = (V) this.content[index + 1];
+                if (Comparators.nullSafeEquals(currentKey, key))
+                {
+                    if (currentValue == value)
+                    {
+                        return this;
+                    }
+                    change.modified = true;
+                    return this.withContent(owner, index + 1, value);
+                }
+                change.modified = true;
+                change.sizeDelta = 1;
+                Node<K, V> node = BitmapIndexedNode.mergeTwo(
+                        owner,
+                        currentKey, currentValue, ImmutableHashTrieMap.hash(currentKey),
+                        key, value, hash,
+                        shift + BITS);
+                return this.withInlineMigratedToNode(owner, bit, node);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int nodeIndex = this.nodeIndex(bit);
+                Node<K, V> node = (Node<K, V>) this.content[nodeIndex];
+                Node<K, V> newNode = node.put(owner, key, value, hash, shift + BITS, change);
+                return change.modified ? this.withContent(owner, nodeIndex, newNode) : this;
+            }
+            change.modified = true;
+            change.sizeDelta = 1;
+            return this.withInsertedValue(owner, bit, key, value);
+        }
+
+        @Override
+        Node<K, V> remove(Object owner, Object key, int hash, int shift, Change change)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = ImmutableHashTrieMap.index(this.dataMap, bit) << 1;
+                if (!Comparators.nullSafeEquals(this.content[index], key))
+                {
+                    return this;
+                }
+                change.modified = true;
+                change.sizeDelta = -1;
+                if (this.payloadArity() == 2 && this.nodeArity() == 0)
+                {
+                    // The remaining entry will be inlined by the parent; if this is the root, it stays here instead
+                    int newDataMap = shift == 0 ? this.dataMap ^ bit : ImmutableHashTrieMap.bitpos(hash, 0);
+                    int remaining = index == 0 ? 2 : 0;
+                    return new BitmapIndexedNode<K, V>(
+                            owner,
+                            newDataMap,
+                            0,
+                            new Object[]{this.content[remaining], this.content[remaining + 1]});
+                }
+                return this.withRemovedValue(owner, bit, index);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int nodeIndex = this.nodeIndex(bit);
+                Node<K, V> node = (Node<K, V>) this.content[nodeIndex];
+                Node<K, V> newNode = node.remove(owner, key, hash, shift + BITS, change);
+                if (!change.modified)
+                {
+                    return this;
+                }
+                if (newNode.hasSinglePayload())
+                {
+                    if (this.payloadArity() == 0 && this.nodeArity() == 1)
+                    {
+                        return newNode;
+                    }
+                    return this.withNodeMigratedToInline(owner, bit, newNode);
+                }
+                return this.withContent(owner, nodeIndex, newNode);
+            }
+            return this;
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        K keyAt(int index)
+        {
+            return (K) this.content[index << 1];
+        }
+
+        @Override
+        V valueAt(int index)
+        {
+            return (V) this.content[(index << 1) + 1];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        Node<K, V> nodeAt(int index)
+        {
+            return (Node<K, V>) this.content[this.content.length - 1 - index];
+        }
+
+        private int nodeIndex(int bit)
+        {
+            return this.content.length - 1 - ImmutableHashTrieMap.index(this.nodeMap, bit);
+        }
+
+        private Node<K, V> nodeFor(int bit)
+        {
+            return (Node<K, V>) this.content[this.nodeIndex(bit)];
+        }
+
+        private BitmapIndexedNode<K, V> withContent(Object owner, int index, Object object)
+        {
+            if (owner != null && owner == this.owner)
+            {
+                this.content[index] = object;
+                return this;
+            }
+            Object[] newContent = this.content.clone();
+            newContent[index] = object;
+            return new BitmapIndexedNode<K, V>(owner, this.dataMap, this.nodeMap, newContent);
+        }
+
+        private BitmapIndexedNode<K, V> withInsertedValue(Object owner, int bit, K key, V value)
+        {
+            int index = ImmutableHashTrieMap.index(this.dataMap, bit) << 1;
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(this.content, index, newContent, index + 2, this.content.length - index);
+            return new BitmapIndexedNode<K, V>(owner, this.dataMap | bit, this.nodeMap, newContent);
+        }
+
+        private BitmapIndexedNode<K, V> withRemovedValue(Object owner, int bit, int index)
+        {
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, this.content.length - index - 2);
+            return new BitmapIndexedNode<K, V>(owner, this.dataMap ^ bit, this.nodeMap, newContent);
+        }
+
+        private BitmapIndexedNode<K, V> withInlineMigratedToNode(Object owner, int bit, Node<K, V> node)
+        {
+            int dataIndex = ImmutableHashTrieMap.index(this.dataMap, bit) << 1;
+            int newNodeMap = this.nodeMap | bit;
+            Object[] newContent = new Object[this.content.length - 1];
+            int newNodeIndex = newContent.length - 1 - ImmutableHashTrieMap.index(newNodeMap, bit);
+            System.arraycopy(this.content, 0, newContent, 0, dataIndex);
+            System.arraycopy(this.content, dataIndex + 2, newContent, dataIndex, newNodeIndex - dataIndex);
+            newContent[newNodeIndex] = node;
+            System.arraycopy(this.content, newNodeIndex + 2, newContent, newNodeIndex + 1, this.content.length - newNodeIndex - 2);
+            return new BitmapIndexedNode<K, V>(owner, this.dataMap ^ bit, newNodeMap, newContent);
+        }
+
+        private BitmapIndexedNode<K, V> withNodeMigratedToInline(Object owner, int bit, Node<K, V> node)
+        {
+            int oldNodeIndex = this.nodeIndex(bit);
+            int newDataMap = this.dataMap | bit;
+            int dataIndex = ImmutableHashTrieMap.index(newDataMap, bit) << 1;
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, dataIndex);
+            newContent[dataIndex] = node.keyAt(0);
+            newContent[dataIndex + 1] = node.valueAt(0);
+            System.arraycopy(this.content, dataIndex, newContent, dataIndex + 2, oldNodeIndex - dataIndex);
+            System.arraycopy(this.content, oldNodeIndex + 1, newContent, oldNodeIndex + 2, this.content.length - oldNodeIndex - 1);
+            return new BitmapIndexedNode<K, V>(owner, newDataMap, this.nodeMap ^ bit, newContent);
+        }
+    }
+
+    private static final class HashCollisionNode<K, V> extends Node<K, V>
+    {
+        private final int hash;
+        private final Object[] content;
+
+        private HashCollisionNode(int hash, Object[] content)
+        {
+            this.hash = hash;
+            this.content = content;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < this.content.length; i += 2)
+            {
+                if (Comparators.nullSafeEquals(this.content[i], key))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift)
+        {
+            int index = this.indexOf(key);
+            return index < 0 ? NOT_FOUND : this.content[index + 1];
+        }
+
+        @Override
+        Node<K, V> put(Object owner, K key, V value, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(key);
+            if (index >= 0)
+            {
+                if (this.content[index + 1] == value)
+                {
+                    return this;
+                }
+                change.modified = true;
+                Object[] newContent = this.content.clone();
+                newContent[index + 1] = value;
+                return new HashCollisionNode<K, V>(this.hash, newContent);
+            }
+            change.modified = true;
+            change.sizeDelta = 1;
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, this.content.length);
+            newContent[this.content.length] = key;
+            newContent[this.content.length + 1] = value;
+            return new HashCollisionNode<K, V>(this.hash, newContent);
+        }
+
+        @Override
+        Node<K, V> remove(Object owner, Object key, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(key);
+            if (index < 0)
+            {
+                return this;
+            }
+            change.modified = true;
+            change.sizeDelta = -1;
+            if (this.content.length == 4)
+            {
+                int remaining = index == 0 ? 2 : 0;
+                return new BitmapIndexedNode<K, V>(
+                        owner,
+                        ImmutableHashTrieMap.bitpos(this.hash, 0),
+                        0,
+                        new Object[]{this.content[remaining], this.content[remaining + 1]});
+            }
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, this.content.length - index - 2);
+            return new HashCollisionNode<K, V>(this.hash, newContent);
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return this.content.length >> 1;
+        }
+
+        @Override
+        K keyAt(int index)
+        {
+            return (K) this.content[index << 1];
+        }
+
+        @Override
+        V valueAt(int index)
+        {
+            return (V) this.content[(index << 1) + 1];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return 0;
+        }
+
+        @Override
+        Node<K, V> nodeAt(int index)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: 0");
+        }
+    }
+
+    /**
+     * Walks the trie depth first, returning the entries of each node before descending into its sub-nodes.
+     */
+    private abstract static class TrieIterator<K, V, E> implements Iterator<E>
+    {
+        private final Node<K, V>[] nodes = new Node[MAX_DEPTH];
+        private final int[] nextChildren = new int[MAX_DEPTH];
+        private int depth;
+        private Node<K, V> payloadNode;
+        private int nextPayload;
+        private Node<K, V> currentNode;
+        private int currentIndex;
+
+        protected TrieIterator(Node<K, V> root)
+        {
+            this.nodes[0] = root;
+            this.payloadNode = root;
+        }
+
+        protected abstract E element(Node<K, V> node, int index);
+
+        public boolean hasNext()
+        {
+            while (this.nextPayload >= this.payloadNode.payloadArity())
+            {
+                if (!this.descend())
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean descend()
+        {
+            while (this.depth >= 0)
+            {
+                Node<K, V> node = this.nodes[this.depth];
+                if (this.nextChildren[this.depth] < node.nodeArity())
+                {
+                    Node<K, V> child = node.nodeAt(this.nextChildren[this.depth]++);
+                    this.depth++;
+                    this.nodes[this.depth] = child;
+                    this.nextChildren[this.depth] = 0;
+                    this.payloadNode = child;
+                    this.nextPayload = 0;
+                    return true;
+                }
+                this.nodes[this.depth] = null;
+                this.depth--;
+            }
+            return false;
+        }
+
+        public E next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.currentNode = this.payloadNode;
+            this.currentIndex = this.nextPayload++;
+            return this.element(this.currentNode, this.currentIndex);
+        }
+
+        /**
+         * Returns the value of the entry last returned by {@link #next()}.
+         */
+        protected V currentValue()
+        {
+            return this.currentNode.valueAt(this.currentIndex);
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private static final class KeyIterator<K, V> extends TrieIterator<K, V, K>
+    {
+        private KeyIterator(Node<K, V> root)
+        {
+            super(root);
+        }
+
+        @Override
+        protected K element(Node<K, V> node, int index)
+        {
+            return node.keyAt(index);
+        }
+    }
+
+    private static final class ValueIterator<K, V> extends TrieIterator<K, V, V>
+    {
+        private ValueIterator(Node<K, V> root)
+        {
+            super(root);
+        }
+
+        @Override
+        protected V element(Node<K, V> node, int index)
+        {
+            return node.valueAt(index);
+        }
+    }
+
+    private static final class KeyValueIterator<K, V> extends TrieIterator<K, V, Pair<K, V>>
+    {
+        private KeyValueIterator(Node<K, V> root)
+        {
+            super(root);
+        }
+
+        @Override
+        protected Pair<K, V> element(Node<K, V> node, int index)
+        {
+            return Tuples.pair(node.keyAt(index), node.valueAt(index));
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator<K, V>(ImmutableHashTrieMap.this.root);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return ImmutableHashTrieMap.this.containsKey(key);
+        }
+    }
+
+    private final class Values extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator<K, V>(ImmutableHashTrieMap.this.root);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+    }
+
+    private final class KeyValues extends AbstractCollection<Pair<K, V>>
+    {
+        @Override
+        public Iterator<Pair<K, V>> iterator()
+        {
+            return new KeyValueIterator<K, V>(ImmutableHashTrieMap.this.root);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+    }
+}
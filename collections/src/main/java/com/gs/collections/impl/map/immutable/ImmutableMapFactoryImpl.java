@@ -147,6 +147,11 @@ public final class ImmutableMapFactoryImpl implements ImmutableMapFactory
             return this.of();
         }
 
+        if (map.size() >= ImmutableHashTrieMap.MINIMUM_SIZE)
+        {
+            return ImmutableHashTrieMap.newMap(map);
+        }
+
         if (map.size() > 4)
         {
             return new ImmutableUnifiedMap<K, V>(map);
@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -37,24 +38,43 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.Function3;
+import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ConcurrentMutableMap;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.procedure.MapEntryToProcedure2;
 import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.map.AbstractParallelMapIterable;
+import com.gs.collections.impl.lazy.parallel.map.MapBatch;
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.tuple.Tuples;
 import com.gs.collections.impl.utility.Iterate;
 import com.gs.collections.impl.utility.MapIterate;
 import com.gs.collections.impl.utility.internal.IterableIterate;
 
+/**
+ * A concurrent map which resizes incrementally. A resize is split into chunks of at most 1024 buckets, and each put,
+ * remove or lookup which runs into the resize transfers at most one chunk, so no single point operation pays for the
+ * whole table.
+ * <p>
+ * Operations which walk the whole table do not follow this rule. {@link #hashCode()}, {@link #writeExternal},
+ * {@link #parallelForEachKeyValue}, {@link #parallelForEachValue} and splitting the iterable returned by
+ * {@link #asParallel} into batches first finish any resize in progress on the calling thread, so they pause for
+ * as long as it takes to copy the rest of the table. After copying, they yield until the chunks claimed by other
+ * threads are done, and that wait is not bounded if one of those threads is descheduled.
+ */
 @SuppressWarnings({ "rawtypes", "ObjectEquality" })
 public final class ConcurrentHashMap<K, V>
         extends AbstractMutableMap<K, V>
@@ -100,19 +120,7 @@ public final class ConcurrentHashMap<K, V>
         {
             throw new IllegalArgumentException("Illegal Initial Capacity: " + initialCapacity);
         }
-        if (initialCapacity > MAXIMUM_CAPACITY)
-        {
-            initialCapacity = MAXIMUM_CAPACITY;
-        }
-
-        int threshold = initialCapacity;
-        threshold += threshold >> 1; // threshold = length * 0.75
-
-        int capacity = 1;
-        while (capacity < threshold)
-        {
-            capacity <<= 1;
-        }
+        int capacity = ConcurrentHashMap.capacityFor(initialCapacity);
         if (capacity >= PARTITIONED_SIZE_THRESHOLD)
         {
             this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16); // we want 7 extra slots and 64 bytes for each slot. int is 4 bytes, so 64 bytes is 16 ints.
@@ -125,11 +133,29 @@ public final class ConcurrentHashMap<K, V>
         return new ConcurrentHashMap<K, V>();
     }
 
+    /**
+     * Creates a map which can hold {@code newSize} entries without resizing. The table is sized so that it stays below
+     * the load factor of 0.75 at that size.
+     */
     public static <K, V> ConcurrentHashMap<K, V> newMap(int newSize)
     {
         return new ConcurrentHashMap<K, V>(newSize);
     }
 
+    /**
+     * Returns the smallest power of two table length which holds {@code expectedSize} entries below the load factor.
+     */
+    private static int capacityFor(int expectedSize)
+    {
+        long threshold = (long) expectedSize + (expectedSize >> 1); // threshold = length * 0.75
+        int capacity = 1;
+        while (capacity < threshold && capacity < MAXIMUM_CAPACITY)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
     private static int indexFor(int h, int length)
     {
         return h & length - 2;
@@ -195,12 +221,12 @@ public final class ConcurrentHashMap<K, V>
     private AtomicReferenceArray helpWithResizeWhileCurrentIndex(AtomicReferenceArray currentArray, int index)
     {
         AtomicReferenceArray newArray = this.helpWithResize(currentArray);
-        int helpCount = 0;
+        int spinCount = 0;
         while (currentArray.get(index) != RESIZED)
         {
-            helpCount++;
-            newArray = this.helpWithResize(currentArray);
-            if ((helpCount & 7) == 0)
+            // the bucket belongs to a chunk which another thread is transferring
+            spinCount++;
+            if ((spinCount & 7) == 0)
             {
                 Thread.yield();
             }
@@ -208,17 +234,15 @@ public final class ConcurrentHashMap<K, V>
         return newArray;
     }
 
+    /*
+     * Transfers at most one chunk of buckets, so that the cost of a resize is spread over the operations which run
+     * while it is in progress instead of being paid by the thread which started it.
+     */
     private AtomicReferenceArray helpWithResize(AtomicReferenceArray currentArray)
     {
         ResizeContainer resizeContainer = (ResizeContainer) currentArray.get(currentArray.length() - 1);
-        AtomicReferenceArray newTable = resizeContainer.nextArray;
-        if (resizeContainer.getQueuePosition() > ResizeContainer.QUEUE_INCREMENT)
-        {
-            resizeContainer.incrementResizer();
-            this.reverseTransfer(currentArray, resizeContainer);
-            resizeContainer.decrementResizerAndNotify();
-        }
-        return newTable;
+        this.transferChunk(currentArray, resizeContainer);
+        return resizeContainer.nextArray;
     }
 
     private void resize(AtomicReferenceArray oldTable)
@@ -241,8 +265,6 @@ public final class ConcurrentHashMap<K, V>
         {
             throw new RuntimeException("index is too large!");
         }
-        ResizeContainer resizeContainer = null;
-        boolean ownResize = false;
         if (last == null || last == RESIZE_SENTINEL)
         {
             synchronized (oldTable) // allocating a new array is too expensive to make this an atomic operation
@@ -254,54 +276,45 @@ public final class ConcurrentHashMap<K, V>
                     {
                         this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16);
                     }
-                    resizeContainer = new ResizeContainer(new AtomicReferenceArray(newSize), oldTable.length() - 1);
-                    oldTable.set(end, resizeContainer);
-                    ownResize = true;
-                }
-            }
-        }
-        if (ownResize)
-        {
-            this.transfer(oldTable, resizeContainer);
-            AtomicReferenceArray src = this.table;
-            while (!TABLE_UPDATER.compareAndSet(this, oldTable, resizeContainer.nextArray))
-            {
-                // we're in a double resize situation; we'll have to go help until it's our turn to set the table
-                if (src != oldTable)
-                {
-                    this.helpWithResize(src);
+                    oldTable.set(end, new ResizeContainer(new AtomicReferenceArray(newSize), oldTable.length() - 1));
                 }
             }
         }
-        else
+        if (oldTable.get(end) instanceof ResizeContainer)
         {
             this.helpWithResize(oldTable);
         }
     }
 
     /*
-     * Transfer all entries from src to dest tables
+     * Claims the next chunk of buckets of src and moves them to the next table. The thread which finishes the last
+     * chunk replaces the table. Returns false if every chunk has already been claimed.
      */
-    private void transfer(AtomicReferenceArray src, ResizeContainer resizeContainer)
+    private boolean transferChunk(AtomicReferenceArray src, ResizeContainer resizeContainer)
     {
+        if (resizeContainer.getQueuePosition() <= 0)
+        {
+            return false;
+        }
+        int start = resizeContainer.subtractAndGetQueuePosition();
+        int end = start + ResizeContainer.QUEUE_INCREMENT;
+        if (end <= 0)
+        {
+            return false;
+        }
+        if (start < 0)
+        {
+            start = 0;
+        }
         AtomicReferenceArray dest = resizeContainer.nextArray;
-
-        for (int j = 0; j < src.length() - 1; )
+        for (int j = end - 1; j >= start; )
         {
             Object o = src.get(j);
             if (o == null)
             {
                 if (src.compareAndSet(j, null, RESIZED))
                 {
-                    j++;
-                }
-            }
-            else if (o == RESIZED || o == RESIZING)
-            {
-                j = (j & ~(ResizeContainer.QUEUE_INCREMENT - 1)) + ResizeContainer.QUEUE_INCREMENT;
-                if (resizeContainer.resizers.get() == 1)
-                {
-                    break;
+                    j--;
                 }
             }
             else
@@ -315,58 +328,61 @@ public final class ConcurrentHashMap<K, V>
                         e = e.getNext();
                     }
                     src.set(j, RESIZED);
-                    j++;
+                    j--;
                 }
             }
         }
-        resizeContainer.decrementResizerAndNotify();
-        resizeContainer.waitForAllResizers();
+        if (resizeContainer.bucketsTransferred(end - start))
+        {
+            this.replaceTable(src, dest);
+        }
+        return true;
     }
 
-    private void reverseTransfer(AtomicReferenceArray src, ResizeContainer resizeContainer)
+    private void replaceTable(AtomicReferenceArray oldTable, AtomicReferenceArray newTable)
     {
-        AtomicReferenceArray dest = resizeContainer.nextArray;
-        while (resizeContainer.getQueuePosition() > 0)
+        while (!TABLE_UPDATER.compareAndSet(this, oldTable, newTable))
         {
-            int start = resizeContainer.subtractAndGetQueuePosition();
-            int end = start + ResizeContainer.QUEUE_INCREMENT;
-            if (end > 0)
+            // we're in a double resize situation; the older table has to be replaced first, which may mean
+            // yielding until other threads finish their chunks of it
+            AtomicReferenceArray src = this.table;
+            this.completeTransfer(src, (ResizeContainer) src.get(src.length() - 1));
+            Thread.yield();
+        }
+    }
+
+    /*
+     * Transfers the remaining chunks of src and waits for the chunks claimed by other threads. The wait yields without
+     * a bound, since a chunk can only be finished by the thread which claimed it.
+     */
+    private void completeTransfer(AtomicReferenceArray src, ResizeContainer resizeContainer)
+    {
+        while (this.transferChunk(src, resizeContainer))
+        {
+            // keep transferring
+        }
+        while (resizeContainer.isNotDone())
+        {
+            Thread.yield();
+        }
+    }
+
+    /*
+     * Finishes any resize in progress and returns the table. Used by bulk operations which walk the table directly,
+     * so they pause for the rest of the resize; see the class comment.
+     */
+    private AtomicReferenceArray completeResize()
+    {
+        while (true)
+        {
+            AtomicReferenceArray currentArray = this.table;
+            Object last = currentArray.get(currentArray.length() - 1);
+            if (!(last instanceof ResizeContainer))
             {
-                if (start < 0)
-                {
-                    start = 0;
-                }
-                for (int j = end - 1; j >= start; )
-                {
-                    Object o = src.get(j);
-                    if (o == null)
-                    {
-                        if (src.compareAndSet(j, null, RESIZED))
-                        {
-                            j--;
-                        }
-                    }
-                    else if (o == RESIZED || o == RESIZING)
-                    {
-                        resizeContainer.zeroOutQueuePosition();
-                        return;
-                    }
-                    else
-                    {
-                        Entry<K, V> e = (Entry<K, V>) o;
-                        if (src.compareAndSet(j, o, RESIZING))
-                        {
-                            while (e != null)
-                            {
-                                this.unconditionalCopy(dest, e);
-                                e = e.getNext();
-                            }
-                            src.set(j, RESIZED);
-                            j--;
-                        }
-                    }
-                }
+                return currentArray;
             }
+            this.completeTransfer(currentArray, (ResizeContainer) last);
+            Thread.yield();
         }
     }
 
@@ -685,11 +701,7 @@ public final class ConcurrentHashMap<K, V>
             }
             if (resizeContainer != null)
             {
-                if (resizeContainer.isNotDone())
-                {
-                    this.helpWithResize(currentArray);
-                    resizeContainer.waitForAllResizers();
-                }
+                this.completeTransfer(currentArray, resizeContainer);
                 currentArray = resizeContainer.nextArray;
             }
         }
@@ -844,22 +856,16 @@ public final class ConcurrentHashMap<K, V>
 
     public void putAllInParallel(Map<K, V> map, int chunks, Executor executor)
     {
-        if (this.size() == 0)
+        int capacity = ConcurrentHashMap.capacityFor(map.size());
+        if (this.size() == 0 && capacity + 1 > this.table.length())
         {
-            int threshold = map.size();
-            threshold += threshold >> 1; // threshold = length * 0.75
-
-            int capacity = 1;
-            while (capacity < threshold)
-            {
-                capacity <<= 1;
-            }
             this.resize(this.table, capacity + 1);
+            this.completeResize();
         }
         if (map instanceof ConcurrentHashMap<?, ?> && chunks > 1 && map.size() > 50000)
         {
             ConcurrentHashMap<K, V> incoming = (ConcurrentHashMap<K, V>) map;
-            final AtomicReferenceArray currentArray = incoming.table;
+            final AtomicReferenceArray currentArray = incoming.completeResize();
             FutureTask<?>[] futures = new FutureTask<?>[chunks];
             int chunkSize = currentArray.length() / chunks;
             if (currentArray.length() % chunks != 0)
@@ -959,11 +965,7 @@ public final class ConcurrentHashMap<K, V>
             }
             if (resizeContainer != null)
             {
-                if (resizeContainer.isNotDone())
-                {
-                    this.helpWithResize(currentArray);
-                    resizeContainer.waitForAllResizers();
-                }
+                this.completeTransfer(currentArray, resizeContainer);
                 currentArray = resizeContainer.nextArray;
             }
         }
@@ -1195,7 +1197,7 @@ public final class ConcurrentHashMap<K, V>
 
     public void parallelForEachKeyValue(List<Procedure2<K, V>> blocks, Executor executor)
     {
-        final AtomicReferenceArray currentArray = this.table;
+        final AtomicReferenceArray currentArray = this.completeResize();
         int chunks = blocks.size();
         if (chunks > 1)
         {
@@ -1259,7 +1261,7 @@ public final class ConcurrentHashMap<K, V>
 
     public void parallelForEachValue(List<Procedure<V>> blocks, Executor executor)
     {
-        final AtomicReferenceArray currentArray = this.table;
+        final AtomicReferenceArray currentArray = this.completeResize();
         int chunks = blocks.size();
         if (chunks > 1)
         {
@@ -1324,7 +1326,7 @@ public final class ConcurrentHashMap<K, V>
     public int hashCode()
     {
         int h = 0;
-        AtomicReferenceArray currentArray = this.table;
+        AtomicReferenceArray currentArray = this.completeResize();
         for (int i = 0; i < currentArray.length() - 1; i++)
         {
             Object o = currentArray.get(i);
@@ -1416,10 +1418,10 @@ public final class ConcurrentHashMap<K, V>
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
     {
         int size = in.readInt();
-        int capacity = 1;
-        while (capacity < size)
+        int capacity = ConcurrentHashMap.capacityFor(size);
+        if (capacity >= PARTITIONED_SIZE_THRESHOLD)
         {
-            capacity <<= 1;
+            this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16);
         }
         this.table = new AtomicReferenceArray(capacity + 1);
         for (int i = 0; i < size; i++)
@@ -1433,9 +1435,10 @@ public final class ConcurrentHashMap<K, V>
         int size = this.size();
         out.writeInt(size);
         int count = 0;
-        for (int i = 0; i < this.table.length() - 1; i++)
+        AtomicReferenceArray currentArray = this.completeResize();
+        for (int i = 0; i < currentArray.length() - 1; i++)
         {
-            Object o = this.table.get(i);
+            Object o = currentArray.get(i);
             if (o == RESIZED || o == RESIZING)
             {
                 throw new ConcurrentModificationException("Can't serialize while resizing!");
@@ -1781,31 +1784,15 @@ public final class ConcurrentHashMap<K, V>
     private static final class ResizeContainer
     {
         private static final int QUEUE_INCREMENT = Math.min(1 << 10, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 4);
-        private final AtomicInteger resizers = new AtomicInteger(1);
         private final AtomicReferenceArray nextArray;
         private final AtomicInteger queuePosition;
+        private final AtomicInteger pendingBuckets;
 
         private ResizeContainer(AtomicReferenceArray nextArray, int oldSize)
         {
             this.nextArray = nextArray;
             this.queuePosition = new AtomicInteger(oldSize);
-        }
-
-        public void incrementResizer()
-        {
-            this.resizers.incrementAndGet();
-        }
-
-        public void decrementResizerAndNotify()
-        {
-            int remaining = this.resizers.decrementAndGet();
-            if (remaining == 0)
-            {
-                synchronized (this)
-                {
-                    this.notifyAll();
-                }
-            }
+            this.pendingBuckets = new AtomicInteger(oldSize);
         }
 
         public int getQueuePosition()
@@ -1818,53 +1805,17 @@ public final class ConcurrentHashMap<K, V>
             return this.queuePosition.addAndGet(-QUEUE_INCREMENT);
         }
 
-        public void waitForAllResizers()
+        /**
+         * Returns true for the caller which transferred the last bucket.
+         */
+        public boolean bucketsTransferred(int count)
         {
-            if (this.resizers.get() > 0)
-            {
-                for (int i = 0; i < 16; i++)
-                {
-                    if (this.resizers.get() == 0)
-                    {
-                        break;
-                    }
-                }
-                for (int i = 0; i < 16; i++)
-                {
-                    if (this.resizers.get() == 0)
-                    {
-                        break;
-                    }
-                    Thread.yield();
-                }
-            }
-            if (this.resizers.get() > 0)
-            {
-                synchronized (this)
-                {
-                    while (this.resizers.get() > 0)
-                    {
-                        try
-                        {
-                            this.wait();
-                        }
-                        catch (InterruptedException e)
-                        {
-                            // ignore
-                        }
-                    }
-                }
-            }
+            return this.pendingBuckets.addAndGet(-count) == 0;
         }
 
         public boolean isNotDone()
         {
-            return this.resizers.get() > 0;
-        }
-
-        public void zeroOutQueuePosition()
-        {
-            this.queuePosition.set(0);
+            return this.pendingBuckets.get() > 0;
         }
     }
 
@@ -2193,4 +2144,168 @@ public final class ConcurrentHashMap<K, V>
     {
         return Maps.immutable.ofMap(this);
     }
+
+    /**
+     * Returns a parallel view of this map. Each evaluation splits the current table into batches of batchSize
+     * buckets. Like {@link #parallelForEachKeyValue(List, Executor)}, evaluation throws a
+     * ConcurrentModificationException if it reaches a bucket which is being moved by a concurrent resize.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new ConcurrentHashMapParallelMapIterable(executorService, batchSize);
+    }
+
+    private static final class ConcurrentHashMapBatch<K, V> implements MapBatch<K, V>
+    {
+        private final AtomicReferenceArray currentArray;
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private ConcurrentHashMapBatch(AtomicReferenceArray currentArray, int chunkStartIndex, int chunkEndIndex)
+        {
+            this.currentArray = currentArray;
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                Entry<K, V> e = this.bucket(i);
+                while (e != null)
+                {
+                    procedure.value(e.getKey(), e.getValue());
+                    e = e.getNext();
+                }
+            }
+        }
+
+        public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                Entry<K, V> e = this.bucket(i);
+                while (e != null)
+                {
+                    K key = e.getKey();
+                    V value = e.getValue();
+                    if (predicate.accept(key, value))
+                    {
+                        return Tuples.pair(key, value);
+                    }
+                    e = e.getNext();
+                }
+            }
+            return null;
+        }
+
+        private Entry<K, V> bucket(int index)
+        {
+            Object o = this.currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                throw new ConcurrentModificationException("can't iterate while resizing!");
+            }
+            return (Entry<K, V>) o;
+        }
+    }
+
+    private final class ConcurrentHashMapParallelMapIterable extends AbstractParallelMapIterable<K, V>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private ConcurrentHashMapParallelMapIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<MapBatch<K, V>> split()
+        {
+            return new ConcurrentHashMapParallelSplitLazyIterable(ConcurrentHashMap.this.completeResize());
+        }
+
+        private class ConcurrentHashMapParallelSplitIterator implements Iterator<MapBatch<K, V>>
+        {
+            private final AtomicReferenceArray currentArray;
+            // The last slot of the table holds the resize container, not a bucket
+            private final int bucketCount;
+            protected int chunkIndex;
+
+            private ConcurrentHashMapParallelSplitIterator(AtomicReferenceArray currentArray)
+            {
+                this.currentArray = currentArray;
+                this.bucketCount = currentArray.length() - 1;
+            }
+
+            public boolean hasNext()
+            {
+                return this.chunkIndex * ConcurrentHashMapParallelMapIterable.this.batchSize < this.bucketCount;
+            }
+
+            public MapBatch<K, V> next()
+            {
+                int chunkStartIndex = this.chunkIndex * ConcurrentHashMapParallelMapIterable.this.batchSize;
+                int chunkEndIndex = (this.chunkIndex + 1) * ConcurrentHashMapParallelMapIterable.this.batchSize;
+                int truncatedChunkEndIndex = Math.min(chunkEndIndex, this.bucketCount);
+                this.chunkIndex++;
+                return new ConcurrentHashMapBatch<K, V>(this.currentArray, chunkStartIndex, truncatedChunkEndIndex);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class ConcurrentHashMapParallelSplitLazyIterable
+                extends AbstractLazyIterable<MapBatch<K, V>>
+        {
+            private final AtomicReferenceArray currentArray;
+
+            private ConcurrentHashMapParallelSplitLazyIterable(AtomicReferenceArray currentArray)
+            {
+                this.currentArray = currentArray;
+            }
+
+            public void each(Procedure<? super MapBatch<K, V>> procedure)
+            {
+                for (MapBatch<K, V> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public Iterator<MapBatch<K, V>> iterator()
+            {
+                return new ConcurrentHashMapParallelSplitIterator(this.currentArray);
+            }
+        }
+    }
 }
@@ -0,0 +1,853 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.utility.Iterate;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * RobinHoodHashMap is an open-addressing variant of {@link UnifiedMap}. Keys and values are still stored in alternate
+ * slots of a single array, but collisions are resolved by linear probing instead of chaining, so a lookup never
+ * follows a pointer into a separate chain. A parallel int array caches the spread hash code of every key, and a probe
+ * only calls {@code equals} on a key whose cached hash code matches, which makes misses cheap for keys with an
+ * expensive {@code equals}, such as long Strings.
+ * <p>
+ * Insertion uses Robin Hood hashing: an entry that is further from its home slot than the entry occupying a slot takes
+ * that slot, and the displaced entry continues probing. This keeps the probe lengths short and even, and lets a lookup
+ * stop as soon as it reaches an entry that is closer to its home slot than the key would be. Removal shifts the
+ * following entries of the run back by one slot, so no tombstones are needed.
+ *
+ * @since 6.2
+ */
+@Beta
+@NotThreadSafe
+public class RobinHoodHashMap<K, V> extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    // Never passed to equals(), since a null key shares its cached hash code with every key whose hash code is zero
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "RobinHoodHashMap.NULL_KEY";
+        }
+    };
+
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+    // The cached hash code of an occupied slot always has this bit set, so zero marks an empty slot
+    private static final int OCCUPIED = 0x80000000;
+
+    private transient Object[] table;
+    private transient int[] hashes;
+    private transient int occupied;
+    private float loadFactor = DEFAULT_LOAD_FACTOR;
+    private int maxSize;
+
+    public RobinHoodHashMap()
+    {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public RobinHoodHashMap(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public RobinHoodHashMap(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (loadFactor <= 0.0f || loadFactor >= 1.0f)
+        {
+            throw new IllegalArgumentException("load factor must be between 0 and 1, exclusive");
+        }
+        this.loadFactor = loadFactor;
+        this.init(initialCapacity);
+    }
+
+    public RobinHoodHashMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY));
+        this.putAll(map);
+    }
+
+    public static <K, V> RobinHoodHashMap<K, V> newMap()
+    {
+        return new RobinHoodHashMap<K, V>();
+    }
+
+    public static <K, V> RobinHoodHashMap<K, V> newMap(int size)
+    {
+        return new RobinHoodHashMap<K, V>(size);
+    }
+
+    public static <K, V> RobinHoodHashMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new RobinHoodHashMap<K, V>(map);
+    }
+
+    private void init(int initialCapacity)
+    {
+        int capacity = 1;
+        while (capacity < DEFAULT_INITIAL_CAPACITY || capacity * this.loadFactor < initialCapacity)
+        {
+            capacity <<= 1;
+        }
+        this.allocate(capacity);
+    }
+
+    private void allocate(int capacity)
+    {
+        this.table = new Object[capacity << 1];
+        this.hashes = new int[capacity];
+        // At least one slot always stays empty, which bounds every probe
+        this.maxSize = Math.min(capacity - 1, (int) (capacity * this.loadFactor));
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        return h ^ h >>> 7 ^ h >>> 4 | OCCUPIED;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    /**
+     * Returns the slot of the key, or -1 if it is not present. The search stops at the first slot that is empty or
+     * whose entry is closer to its home slot than the key would be, since Robin Hood insertion would have placed the
+     * key before it.
+     */
+    private int slotOf(Object key, int hash)
+    {
+        int mask = this.hashes.length - 1;
+        int index = hash & mask;
+        for (int distance = 0; ; distance++)
+        {
+            int current = this.hashes[index];
+            if (current == 0 || ((index - current) & mask) < distance)
+            {
+                return -1;
+            }
+            if (current == hash)
+            {
+                Object cur = this.table[index << 1];
+                if (cur == key || (cur != NULL_KEY && key != NULL_KEY && cur.equals(key)))
+                {
+                    return index;
+                }
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void insert(int hash, Object key, Object value)
+    {
+        int mask = this.hashes.length - 1;
+        int index = hash & mask;
+        int distance = 0;
+        while (true)
+        {
+            int current = this.hashes[index];
+            if (current == 0)
+            {
+                this.hashes[index] = hash;
+                this.table[index << 1] = key;
+                this.table[(index << 1) + 1] = value;
+                return;
+            }
+            int currentDistance = (index - current) & mask;
+            if (currentDistance < distance)
+            {
+                Object currentKey = this.table[index << 1];
+                Object currentValue = this.table[(index << 1) + 1];
+                this.hashes[index] = hash;
+                this.table[index << 1] = key;
+                this.table[(index << 1) + 1] = value;
+                hash = current;
+                key = currentKey;
+                value = currentValue;
+                distance = currentDistance;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+    }
+
+    /**
+     * Empties the slot by shifting the rest of its run back by one slot, up to the first entry that is already in its
+     * home slot.
+     */
+    private void removeAt(int index)
+    {
+        int mask = this.hashes.length - 1;
+        int next = (index + 1) & mask;
+        while (true)
+        {
+            int current = this.hashes[next];
+            if (current == 0 || ((next - current) & mask) == 0)
+            {
+                break;
+            }
+            this.hashes[index] = current;
+            this.table[index << 1] = this.table[next << 1];
+            this.table[(index << 1) + 1] = this.table[(next << 1) + 1];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        this.hashes[index] = 0;
+        this.table[index << 1] = null;
+        this.table[(index << 1) + 1] = null;
+        this.occupied--;
+    }
+
+    private void rehash(int newCapacity)
+    {
+        int[] oldHashes = this.hashes;
+        Object[] oldTable = this.table;
+        this.allocate(newCapacity);
+        for (int i = 0; i < oldHashes.length; i++)
+        {
+            if (oldHashes[i] != 0)
+            {
+                this.insert(oldHashes[i], oldTable[i << 1], oldTable[(i << 1) + 1]);
+            }
+        }
+    }
+
+    public V put(K key, V value)
+    {
+        Object sentinelKey = RobinHoodHashMap.toSentinelIfNull(key);
+        int hash = RobinHoodHashMap.hash(key);
+        int index = this.slotOf(sentinelKey, hash);
+        if (index >= 0)
+        {
+            V oldValue = (V) this.table[(index << 1) + 1];
+            this.table[(index << 1) + 1] = value;
+            return oldValue;
+        }
+        if (this.occupied >= this.maxSize)
+        {
+            this.rehash(this.hashes.length << 1);
+        }
+        this.insert(hash, sentinelKey, value);
+        this.occupied++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public V get(Object key)
+    {
+        int index = this.slotOf(RobinHoodHashMap.toSentinelIfNull(key), RobinHoodHashMap.hash(key));
+        return index < 0 ? null : (V) this.table[(index << 1) + 1];
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.slotOf(RobinHoodHashMap.toSentinelIfNull(key), RobinHoodHashMap.hash(key)) >= 0;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (int i = 0; i < this.hashes.length; i++)
+        {
+            if (this.hashes[i] != 0 && Comparators.nullSafeEquals(this.table[(i << 1) + 1], value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V remove(Object key)
+    {
+        int index = this.slotOf(RobinHoodHashMap.toSentinelIfNull(key), RobinHoodHashMap.hash(key));
+        if (index < 0)
+        {
+            return null;
+        }
+        V oldValue = (V) this.table[(index << 1) + 1];
+        this.removeAt(index);
+        return oldValue;
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        Arrays.fill(this.hashes, 0);
+        Arrays.fill(this.table, null);
+        this.occupied = 0;
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    @Override
+    public RobinHoodHashMap<K, V> clone()
+    {
+        return new RobinHoodHashMap<K, V>(this);
+    }
+
+    public MutableMap<K, V> newEmpty()
+    {
+        return new RobinHoodHashMap<K, V>();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return RobinHoodHashMap.newMap(capacity);
+    }
+
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.addToMap(iterable, keyFunction, valueFunction, this);
+        return this;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < this.hashes.length; i++)
+        {
+            if (this.hashes[i] != 0)
+            {
+                procedure.value(this.nonSentinel(this.table[i << 1]), (V) this.table[(i << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (int i = 0; i < this.hashes.length; i++)
+        {
+            if (this.hashes[i] != 0)
+            {
+                procedure.value(this.nonSentinel(this.table[i << 1]));
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (int i = 0; i < this.hashes.length; i++)
+        {
+            if (this.hashes[i] != 0)
+            {
+                procedure.value((V) this.table[(i << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        int index = 0;
+        for (int i = 0; i < this.hashes.length; i++)
+        {
+            if (this.hashes[i] != 0)
+            {
+                objectIntProcedure.value((V) this.table[(i << 1) + 1], index++);
+            }
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        for (int i = 0; i < this.hashes.length; i++)
+        {
+            if (this.hashes[i] != 0)
+            {
+                procedure.value((V) this.table[(i << 1) + 1], parameter);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValuesIterator();
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    /**
+     * Returns the longest distance between an entry and its home slot. Exposed for testing and tuning.
+     */
+    public int getMaxProbeDistance()
+    {
+        int mask = this.hashes.length - 1;
+        int maxDistance = 0;
+        for (int i = 0; i < this.hashes.length; i++)
+        {
+            if (this.hashes[i] != 0)
+            {
+                maxDistance = Math.max(maxDistance, (i - this.hashes[i]) & mask);
+            }
+        }
+        return maxDistance;
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < this.hashes.length; i++)
+        {
+            if (this.hashes[i] != 0)
+            {
+                K key = this.nonSentinel(this.table[i << 1]);
+                V value = (V) this.table[(i << 1) + 1];
+                Object otherValue = other.get(key);
+                if (!Comparators.nullSafeEquals(otherValue, value) || (value == null && otherValue == null && !other.containsKey(key)))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.hashes.length; i++)
+        {
+            if (this.hashes[i] != 0)
+            {
+                Object key = this.table[i << 1];
+                Object value = this.table[(i << 1) + 1];
+                hashCode += (key == NULL_KEY ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('{');
+
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            private boolean first = true;
+
+            public void value(K key, V value)
+            {
+                if (this.first)
+                {
+                    this.first = false;
+                }
+                else
+                {
+                    builder.append(", ");
+                }
+
+                builder.append(key == RobinHoodHashMap.this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == RobinHoodHashMap.this ? "(this Map)" : value);
+            }
+        });
+
+        builder.append('}');
+        return builder.toString();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        for (int i = 0; i < this.hashes.length; i++)
+        {
+            if (this.hashes[i] != 0)
+            {
+                out.writeObject(this.nonSentinel(this.table[i << 1]));
+                out.writeObject(this.table[(i << 1) + 1]);
+            }
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.loadFactor = in.readFloat();
+        this.init(size);
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    /**
+     * Visits the slots in order, starting just after an empty slot. A run of entries never wraps past an empty slot, so
+     * when {@link #remove()} shifts the rest of a run back, every entry it moves lands on a slot that has not been
+     * visited yet, or on the slot that was just removed, which is visited again.
+     */
+    private abstract class SlotIterator<E> implements Iterator<E>
+    {
+        private final int start;
+        private int position;
+        private int remaining = RobinHoodHashMap.this.occupied;
+        private int lastReturned = -1;
+
+        protected SlotIterator()
+        {
+            int[] hashes = RobinHoodHashMap.this.hashes;
+            int empty = 0;
+            while (hashes[empty] != 0)
+            {
+                empty++;
+            }
+            this.start = empty + 1;
+        }
+
+        protected abstract E elementAt(int index);
+
+        public boolean hasNext()
+        {
+            return this.remaining > 0;
+        }
+
+        public E next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int[] hashes = RobinHoodHashMap.this.hashes;
+            int mask = hashes.length - 1;
+            int index = (this.start + this.position) & mask;
+            while (hashes[index] == 0)
+            {
+                this.position++;
+                index = (this.start + this.position) & mask;
+            }
+            this.position++;
+            this.remaining--;
+            this.lastReturned = index;
+            return this.elementAt(index);
+        }
+
+        public void remove()
+        {
+            if (this.lastReturned == -1)
+            {
+                throw new IllegalStateException();
+            }
+            RobinHoodHashMap.this.removeAt(this.lastReturned);
+            this.position--;
+            this.lastReturned = -1;
+        }
+    }
+
+    private final class KeysIterator extends SlotIterator<K>
+    {
+        @Override
+        protected K elementAt(int index)
+        {
+            return RobinHoodHashMap.this.nonSentinel(RobinHoodHashMap.this.table[index << 1]);
+        }
+    }
+
+    private final class ValuesIterator extends SlotIterator<V>
+    {
+        @Override
+        protected V elementAt(int index)
+        {
+            return (V) RobinHoodHashMap.this.table[(index << 1) + 1];
+        }
+    }
+
+    private final class EntriesIterator extends SlotIterator<Entry<K, V>>
+    {
+        @Override
+        protected Entry<K, V> elementAt(int index)
+        {
+            return new SlotEntry(
+                    RobinHoodHashMap.this.nonSentinel(RobinHoodHashMap.this.table[index << 1]),
+                    (V) RobinHoodHashMap.this.table[(index << 1) + 1]);
+        }
+    }
+
+    private final class SlotEntry implements Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private SlotEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            V oldValue = this.value;
+            this.value = value;
+            RobinHoodHashMap.this.put(this.key, value);
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) object;
+            return Comparators.nullSafeEquals(this.key, other.getKey())
+                    && Comparators.nullSafeEquals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeysIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return RobinHoodHashMap.this.occupied;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return RobinHoodHashMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            int index = RobinHoodHashMap.this.slotOf(RobinHoodHashMap.toSentinelIfNull(key), RobinHoodHashMap.hash(key));
+            if (index < 0)
+            {
+                return false;
+            }
+            RobinHoodHashMap.this.removeAt(index);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            RobinHoodHashMap.this.clear();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return RobinHoodHashMap.this.occupied;
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return RobinHoodHashMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            RobinHoodHashMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntriesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return RobinHoodHashMap.this.occupied;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return this.slotOfEntry(object) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            int index = this.slotOfEntry(object);
+            if (index < 0)
+            {
+                return false;
+            }
+            RobinHoodHashMap.this.removeAt(index);
+            return true;
+        }
+
+        private int slotOfEntry(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return -1;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            Object key = entry.getKey();
+            int index = RobinHoodHashMap.this.slotOf(RobinHoodHashMap.toSentinelIfNull(key), RobinHoodHashMap.hash(key));
+            if (index < 0 || !Comparators.nullSafeEquals(RobinHoodHashMap.this.table[(index << 1) + 1], entry.getValue()))
+            {
+                return -1;
+            }
+            return index;
+        }
+
+        @Override
+        public void clear()
+        {
+            RobinHoodHashMap.this.clear();
+        }
+    }
+}
@@ -16,12 +16,15 @@
 
 package com.gs.collections.impl.map.mutable;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
 import java.util.Collection;
@@ -29,27 +32,38 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.map.UnsortedMapIterable;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
+import com.gs.collections.impl.codec.BinaryCodec;
+import com.gs.collections.impl.codec.BinaryCodecs;
 import com.gs.collections.impl.factory.Maps;
 import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.map.AbstractParallelMapIterable;
+import com.gs.collections.impl.lazy.parallel.map.MapBatch;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.parallel.BatchIterable;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.tuple.ImmutableEntry;
+import com.gs.collections.impl.tuple.Tuples;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.Iterate;
 import net.jcip.annotations.NotThreadSafe;
@@ -1443,6 +1457,80 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    /**
+     * Writes the format version, the size and the load factor of this map, followed by its keys and values, which are
+     * written by the codecs instead of Java serialization. The codecs must handle null if the map contains null keys or
+     * values.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public void write(DataOutput out, BinaryCodec<? super K> keyCodec, BinaryCodec<? super V> valueCodec) throws IOException
+    {
+        BinaryCodecs.writeFormatVersion(out);
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object o = this.table[i];
+            if (o != null)
+            {
+                if (o == CHAINED_KEY)
+                {
+                    this.writeChain(out, (Object[]) this.table[i + 1], keyCodec, valueCodec);
+                }
+                else
+                {
+                    keyCodec.write(this.nonSentinel(o), out);
+                    valueCodec.write((V) this.table[i + 1], out);
+                }
+            }
+        }
+    }
+
+    private void writeChain(DataOutput out, Object[] chain, BinaryCodec<? super K> keyCodec, BinaryCodec<? super V> valueCodec) throws IOException
+    {
+        for (int i = 0; i < chain.length; i += 2)
+        {
+            Object cur = chain[i];
+            if (cur == null)
+            {
+                return;
+            }
+            keyCodec.write(this.nonSentinel(cur), out);
+            valueCodec.write((V) chain[i + 1], out);
+        }
+    }
+
+    /**
+     * Reads a map written by {@link #write(DataOutput, BinaryCodec, BinaryCodec)}. The table is sized for all of the
+     * entries up front, so it is never rehashed while reading.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public static <K, V> UnifiedMap<K, V> read(DataInput in, BinaryCodec<? extends K> keyCodec, BinaryCodec<? extends V> valueCodec) throws IOException
+    {
+        BinaryCodecs.readFormatVersion(in);
+        int size = in.readInt();
+        float loadFactor = in.readFloat();
+        if (size < 0)
+        {
+            throw new StreamCorruptedException("Negative size: " + size);
+        }
+        if (!(loadFactor > 0.0f) || Float.isInfinite(loadFactor))
+        {
+            throw new StreamCorruptedException("Invalid load factor: " + loadFactor);
+        }
+        UnifiedMap<K, V> result = new UnifiedMap<K, V>(BinaryCodecs.initialCapacity(in, size, 0), loadFactor);
+        for (int i = 0; i < size; i++)
+        {
+            K key = keyCodec.read(in);
+            result.put(key, valueCodec.read(in));
+        }
+        return result;
+    }
+
     @Override
     public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
     {
@@ -2693,4 +2781,170 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     {
         return Maps.immutable.withAll(this);
     }
+
+    /**
+     * Returns a parallel view of this map. The table is split into batches of batchSize buckets, chained buckets
+     * included. The map must not be modified while the view is being evaluated.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new UnifiedMapParallelMapIterable(executorService, batchSize);
+    }
+
+    private final class UnifiedMapBatch implements MapBatch<K, V>
+    {
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private UnifiedMapBatch(int chunkStartIndex, int chunkEndIndex)
+        {
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            Object[] table = UnifiedMap.this.table;
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i += 2)
+            {
+                Object cur = table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    UnifiedMap.this.chainedForEachEntry((Object[]) table[i + 1], procedure);
+                }
+                else if (cur != null)
+                {
+                    procedure.value(UnifiedMap.this.nonSentinel(cur), (V) table[i + 1]);
+                }
+            }
+        }
+
+        public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
+        {
+            Object[] table = UnifiedMap.this.table;
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i += 2)
+            {
+                Object cur = table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    Pair<K, V> result = this.chainedDetect((Object[]) table[i + 1], predicate);
+                    if (result != null)
+                    {
+                        return result;
+                    }
+                }
+                else if (cur != null)
+                {
+                    K key = UnifiedMap.this.nonSentinel(cur);
+                    V value = (V) table[i + 1];
+                    if (predicate.accept(key, value))
+                    {
+                        return Tuples.pair(key, value);
+                    }
+                }
+            }
+            return null;
+        }
+
+        private Pair<K, V> chainedDetect(Object[] chain, Predicate2<? super K, ? super V> predicate)
+        {
+            for (int i = 0; i < chain.length; i += 2)
+            {
+                Object cur = chain[i];
+                if (cur == null)
+                {
+                    return null;
+                }
+                K key = UnifiedMap.this.nonSentinel(cur);
+                V value = (V) chain[i + 1];
+                if (predicate.accept(key, value))
+                {
+                    return Tuples.pair(key, value);
+                }
+            }
+            return null;
+        }
+    }
+
+    private final class UnifiedMapParallelMapIterable extends AbstractParallelMapIterable<K, V>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private UnifiedMapParallelMapIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<MapBatch<K, V>> split()
+        {
+            return new UnifiedMapParallelSplitLazyIterable();
+        }
+
+        private class UnifiedMapParallelSplitIterator implements Iterator<MapBatch<K, V>>
+        {
+            protected int chunkIndex;
+
+            public boolean hasNext()
+            {
+                return this.chunkIndex * UnifiedMapParallelMapIterable.this.batchSize * 2 < UnifiedMap.this.table.length;
+            }
+
+            public MapBatch<K, V> next()
+            {
+                int chunkStartIndex = this.chunkIndex * UnifiedMapParallelMapIterable.this.batchSize * 2;
+                int chunkEndIndex = (this.chunkIndex + 1) * UnifiedMapParallelMapIterable.this.batchSize * 2;
+                int truncatedChunkEndIndex = Math.min(chunkEndIndex, UnifiedMap.this.table.length);
+                this.chunkIndex++;
+                return new UnifiedMapBatch(chunkStartIndex, truncatedChunkEndIndex);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class UnifiedMapParallelSplitLazyIterable
+                extends AbstractLazyIterable<MapBatch<K, V>>
+        {
+            public void each(Procedure<? super MapBatch<K, V>> procedure)
+            {
+                for (MapBatch<K, V> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public Iterator<MapBatch<K, V>> iterator()
+            {
+                return new UnifiedMapParallelSplitIterator();
+            }
+        }
+    }
 }
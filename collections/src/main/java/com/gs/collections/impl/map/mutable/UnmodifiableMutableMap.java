@@ -740,6 +740,16 @@ public class UnmodifiableMutableMap<K, V>
         return this.getMutableMap().maxBy(function);
     }
 
+    public <R extends Comparable<? super R>> MutableList<V> topKBy(int k, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableMap().topKBy(k, function);
+    }
+
+    public <R extends Comparable<? super R>> MutableList<V> bottomKBy(int k, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableMap().bottomKBy(k, function);
+    }
+
     public V min()
     {
         return this.getMutableMap().min();
@@ -28,6 +28,9 @@
  *          {@link com.gs.collections.impl.map.mutable.UnifiedMap} - a map which uses a hashtable as its underlying data store and stores key/value pairs in consecutive locations in a single array.
  *     </li>
  *     <li>
+ *          {@link com.gs.collections.impl.map.mutable.RobinHoodHashMap} - a UnifiedMap variant which resolves collisions by Robin Hood open addressing and caches the hash code of every key.
+ *     </li>
+ *     <li>
  *          {@link com.gs.collections.impl.map.mutable.SynchronizedMutableMap} - a synchronized view of a map.
  *     </li>
  *     <li>
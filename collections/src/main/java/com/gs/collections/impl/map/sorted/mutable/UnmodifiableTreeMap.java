@@ -757,6 +757,16 @@ public class UnmodifiableTreeMap<K, V>
         return this.getMutableSortedMap().maxBy(function);
     }
 
+    public <R extends Comparable<? super R>> MutableList<V> topKBy(int k, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableSortedMap().topKBy(k, function);
+    }
+
+    public <R extends Comparable<? super R>> MutableList<V> bottomKBy(int k, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableSortedMap().bottomKBy(k, function);
+    }
+
     public V min()
     {
         return this.getMutableSortedMap().min();
@@ -31,11 +31,13 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.TransientMap;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.factory.Maps;
 import com.gs.collections.impl.factory.Sets;
 import com.gs.collections.impl.map.immutable.AbstractImmutableMap;
+import com.gs.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy;
 import com.gs.collections.impl.utility.LazyIterate;
 import net.jcip.annotations.Immutable;
 
@@ -200,6 +202,12 @@ final class ImmutableEmptyMapWithHashingStrategy<K, V>
         return Maps.immutable.empty();
     }
 
+    @Override
+    public TransientMap<K, V> toTransient()
+    {
+        return new TransientMapWithHashingStrategy<K, V>(UnifiedMapWithHashingStrategy.<K, V>newMap(this.hashingStrategy));
+    }
+
     @Override
     public <R> ImmutableMap<K, R> collectValues(Function2<? super K, ? super V, ? extends R> function)
     {
@@ -29,6 +29,7 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.TransientMap;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.HashingStrategies;
 import com.gs.collections.impl.collection.mutable.UnmodifiableMutableCollection;
@@ -229,6 +230,12 @@ public class ImmutableUnifiedMapWithHashingStrategy<K, V>
         return result.toImmutable();
     }
 
+    @Override
+    public TransientMap<K, V> toTransient()
+    {
+        return new TransientMapWithHashingStrategy<K, V>(UnifiedMapWithHashingStrategy.newMap(this.delegate));
+    }
+
     @Override
     public <R> ImmutableMap<K, R> collectValues(Function2<? super K, ? super V, ? extends R> function)
     {
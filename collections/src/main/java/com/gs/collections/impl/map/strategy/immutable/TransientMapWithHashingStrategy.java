@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.strategy.immutable;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.TransientMap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy;
+
+/**
+ * A TransientMap for the immutable maps with a hashing strategy. The updates are applied to a mutable copy so that the
+ * hashing strategy is preserved, and {@link #toImmutable()} copies the entries into a new immutable map.
+ *
+ * @since 6.2
+ */
+final class TransientMapWithHashingStrategy<K, V>
+        implements TransientMap<K, V>
+{
+    private final UnifiedMapWithHashingStrategy<K, V> delegate;
+
+    TransientMapWithHashingStrategy(UnifiedMapWithHashingStrategy<K, V> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    public TransientMap<K, V> withKeyValue(K key, V value)
+    {
+        this.delegate.put(key, value);
+        return this;
+    }
+
+    public TransientMap<K, V> withAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            this.delegate.put(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return this;
+    }
+
+    public TransientMap<K, V> withoutKey(K key)
+    {
+        this.delegate.remove(key);
+        return this;
+    }
+
+    public V get(Object key)
+    {
+        return this.delegate.get(key);
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.delegate.containsKey(key);
+    }
+
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    public ImmutableMap<K, V> toImmutable()
+    {
+        return this.delegate.toImmutable();
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.memory;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.gs.collections.api.annotation.Beta;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * A block of zero-initialized memory outside of the garbage collected heap, addressed by a {@code long} byte offset.
+ * The block is backed by direct {@link ByteBuffer}s of at most 1 GB each, so it can be larger than 2 GB. Values are
+ * stored in the platform's native byte order, and a value must be aligned to its own size so that it never spans
+ * two buffers.
+ * <p>
+ * The memory is released by {@link #free()}. Any access after that throws an {@link IllegalStateException}. If the
+ * running JVM does not allow direct buffers to be released eagerly, the memory is returned when the buffers are
+ * garbage collected instead; {@link #isFreedEagerly()} tells which applies.
+ * <p>
+ * A block can also be a region of a file mapped with {@link #map(FileChannel, FileChannel.MapMode, long, long)}. In
+ * that case {@link #free()} unmaps the region. Writing to a block mapped read-only throws a
+ * {@link java.nio.ReadOnlyBufferException}.
+ *
+ * @since 6.2
+ */
+@Beta
+@NotThreadSafe
+public final class DirectMemory
+{
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1L;
+    private static final BufferCleaner GARBAGE_COLLECTOR = new GarbageCollector();
+    private static final BufferCleaner BUFFER_CLEANER =
+            DirectMemory.lookUpBufferCleaner("sun.nio.ch.DirectBuffer", "sun.misc.Cleaner", "sun.misc.Unsafe");
+
+    private final long sizeInBytes;
+    private ByteBuffer[] chunks;
+
+    public DirectMemory(long sizeInBytes)
+    {
+        if (sizeInBytes < 0L)
+        {
+            throw new IllegalArgumentException("size cannot be less than 0: " + sizeInBytes);
+        }
+        this.sizeInBytes = sizeInBytes;
+        int chunkCount = (int) ((sizeInBytes + CHUNK_MASK) >>> CHUNK_SHIFT);
+        this.chunks = new ByteBuffer[chunkCount];
+        long remaining = sizeInBytes;
+        for (int i = 0; i < chunkCount; i++)
+        {
+            int chunkSize = (int) Math.min(remaining, CHUNK_SIZE);
+            this.chunks[i] = ByteBuffer.allocateDirect(chunkSize).order(ByteOrder.nativeOrder());
+            remaining -= chunkSize;
+        }
+    }
+
+    private DirectMemory(long sizeInBytes, ByteBuffer[] chunks)
+    {
+        this.sizeInBytes = sizeInBytes;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Maps {@code sizeInBytes} bytes of the file starting at {@code position}. The file is grown if the region extends
+     * beyond its end and the mode is not read-only. The mapping stays valid after the channel is closed.
+     */
+    public static DirectMemory map(FileChannel channel, FileChannel.MapMode mode, long position, long sizeInBytes)
+            throws IOException
+    {
+        if (sizeInBytes < 0L)
+        {
+            throw new IllegalArgumentException("size cannot be less than 0: " + sizeInBytes);
+        }
+        int chunkCount = (int) ((sizeInBytes + CHUNK_MASK) >>> CHUNK_SHIFT);
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount];
+        for (int i = 0; i < chunkCount; i++)
+        {
+            long chunkPosition = (long) i << CHUNK_SHIFT;
+            long chunkSize = Math.min(sizeInBytes - chunkPosition, CHUNK_SIZE);
+            chunks[i] = channel.map(mode, position + chunkPosition, chunkSize).order(ByteOrder.nativeOrder());
+        }
+        return new DirectMemory(sizeInBytes, chunks);
+    }
+
+    public long sizeInBytes()
+    {
+        return this.sizeInBytes;
+    }
+
+    public boolean isFreed()
+    {
+        return this.chunks == null;
+    }
+
+    private ByteBuffer chunk(long offset)
+    {
+        if (this.chunks == null)
+        {
+            throw new IllegalStateException("Memory has already been freed");
+        }
+        return this.chunks[(int) (offset >>> CHUNK_SHIFT)];
+    }
+
+    private static int chunkOffset(long offset)
+    {
+        return (int) (offset & CHUNK_MASK);
+    }
+
+    public byte getByte(long offset)
+    {
+        return this.chunk(offset).get(DirectMemory.chunkOffset(offset));
+    }
+
+    public void putByte(long offset, byte value)
+    {
+        this.chunk(offset).put(DirectMemory.chunkOffset(offset), value);
+    }
+
+    public short getShort(long offset)
+    {
+        return this.chunk(offset).getShort(DirectMemory.chunkOffset(offset));
+    }
+
+    public void putShort(long offset, short value)
+    {
+        this.chunk(offset).putShort(DirectMemory.chunkOffset(offset), value);
+    }
+
+    public char getChar(long offset)
+    {
+        return this.chunk(offset).getChar(DirectMemory.chunkOffset(offset));
+    }
+
+    public void putChar(long offset, char value)
+    {
+        this.chunk(offset).putChar(DirectMemory.chunkOffset(offset), value);
+    }
+
+    public int getInt(long offset)
+    {
+        return this.chunk(offset).getInt(DirectMemory.chunkOffset(offset));
+    }
+
+    public void putInt(long offset, int value)
+    {
+        this.chunk(offset).putInt(DirectMemory.chunkOffset(offset), value);
+    }
+
+    public long getLong(long offset)
+    {
+        return this.chunk(offset).getLong(DirectMemory.chunkOffset(offset));
+    }
+
+    public void putLong(long offset, long value)
+    {
+        this.chunk(offset).putLong(DirectMemory.chunkOffset(offset), value);
+    }
+
+    public float getFloat(long offset)
+    {
+        return this.chunk(offset).getFloat(DirectMemory.chunkOffset(offset));
+    }
+
+    public void putFloat(long offset, float value)
+    {
+        this.chunk(offset).putFloat(DirectMemory.chunkOffset(offset), value);
+    }
+
+    public double getDouble(long offset)
+    {
+        return this.chunk(offset).getDouble(DirectMemory.chunkOffset(offset));
+    }
+
+    public void putDouble(long offset, double value)
+    {
+        this.chunk(offset).putDouble(DirectMemory.chunkOffset(offset), value);
+    }
+
+    /**
+     * Copies {@code length} bytes starting at {@code sourceOffset} in this block to {@code targetOffset} in the target
+     * block. If both ranges are in the same block they must not overlap.
+     */
+    public void copyTo(long sourceOffset, DirectMemory target, long targetOffset, long length)
+    {
+        long copied = 0L;
+        while (copied < length)
+        {
+            long from = sourceOffset + copied;
+            long to = targetOffset + copied;
+            int count = (int) Math.min(
+                    length - copied,
+                    Math.min(CHUNK_SIZE - DirectMemory.chunkOffset(from), CHUNK_SIZE - DirectMemory.chunkOffset(to)));
+            ByteBuffer source = this.chunk(from).duplicate();
+            source.position(DirectMemory.chunkOffset(from));
+            source.limit(DirectMemory.chunkOffset(from) + count);
+            ByteBuffer destination = target.chunk(to).duplicate();
+            destination.position(DirectMemory.chunkOffset(to));
+            destination.put(source);
+            copied += count;
+        }
+    }
+
+    /**
+     * Writes any changes to a block mapped from a file back to the storage device. Has no effect on other blocks.
+     */
+    public void force()
+    {
+        if (this.chunks == null)
+        {
+            throw new IllegalStateException("Memory has already been freed");
+        }
+        for (ByteBuffer chunk : this.chunks)
+        {
+            if (chunk instanceof MappedByteBuffer)
+            {
+                ((MappedByteBuffer) chunk).force();
+            }
+        }
+    }
+
+    /**
+     * Releases the memory. Calling this method more than once has no effect.
+     */
+    public void free()
+    {
+        ByteBuffer[] released = this.chunks;
+        this.chunks = null;
+        if (released != null)
+        {
+            for (ByteBuffer chunk : released)
+            {
+                BUFFER_CLEANER.clean(chunk);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@link #free()} returns the memory to the operating system immediately. The direct buffers are
+     * released through {@code sun.misc.Cleaner} up to Java 8, and through {@code sun.misc.Unsafe.invokeCleaner} on
+     * Java 9 and later. If neither is available this method returns false, and freed blocks keep their memory until
+     * their buffers are garbage collected, so a program which allocates blocks faster than the collector reclaims them
+     * may run out of direct memory.
+     */
+    public static boolean isFreedEagerly()
+    {
+        return BUFFER_CLEANER.isEager();
+    }
+
+    static BufferCleaner lookUpBufferCleaner(String directBufferClassName, String cleanerClassName, String unsafeClassName)
+    {
+        BufferCleaner cleaner = DirectMemory.lookUpCleanerMethods(directBufferClassName, cleanerClassName);
+        if (cleaner == null)
+        {
+            cleaner = DirectMemory.lookUpInvokeCleaner(unsafeClassName);
+        }
+        return cleaner == null ? GARBAGE_COLLECTOR : cleaner;
+    }
+
+    /**
+     * Looks up {@code DirectBuffer.cleaner()} and {@code Cleaner.clean()}, which exist up to Java 8. Returns null if
+     * they do not exist.
+     */
+    private static BufferCleaner lookUpCleanerMethods(String directBufferClassName, String cleanerClassName)
+    {
+        try
+        {
+            Method cleanerMethod = Class.forName(directBufferClassName).getMethod("cleaner");
+            Method cleanMethod = Class.forName(cleanerClassName).getMethod("clean");
+            if (!cleanMethod.getDeclaringClass().isAssignableFrom(cleanerMethod.getReturnType()))
+            {
+                return null;
+            }
+            return new CleanerMethods(cleanerMethod, cleanMethod);
+        }
+        catch (ClassNotFoundException ignored)
+        {
+            return null;
+        }
+        catch (NoSuchMethodException ignored)
+        {
+            return null;
+        }
+        catch (SecurityException ignored)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Looks up {@code Unsafe.invokeCleaner(ByteBuffer)}, which exists from Java 9. Returns null if it does not exist.
+     */
+    private static BufferCleaner lookUpInvokeCleaner(String unsafeClassName)
+    {
+        try
+        {
+            Class<?> unsafeClass = Class.forName(unsafeClassName);
+            Method invokeCleanerMethod = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafeField.setAccessible(true);
+            return new InvokeCleaner(theUnsafeField.get(null), invokeCleanerMethod);
+        }
+        catch (ClassNotFoundException ignored)
+        {
+            return null;
+        }
+        catch (NoSuchMethodException ignored)
+        {
+            return null;
+        }
+        catch (NoSuchFieldException ignored)
+        {
+            return null;
+        }
+        catch (IllegalAccessException ignored)
+        {
+            return null;
+        }
+        catch (SecurityException ignored)
+        {
+            return null;
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... arguments)
+    {
+        try
+        {
+            return method.invoke(target, arguments);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new IllegalStateException("Could not release a direct buffer", e);
+        }
+        catch (InvocationTargetException e)
+        {
+            throw new IllegalStateException("Could not release a direct buffer", e.getCause());
+        }
+    }
+
+    /**
+     * Releases the memory of direct buffers, or leaves them to the garbage collector if the running JVM offers no way to
+     * release them eagerly.
+     */
+    abstract static class BufferCleaner
+    {
+        abstract boolean isEager();
+
+        abstract void clean(ByteBuffer buffer);
+    }
+
+    private static final class GarbageCollector extends BufferCleaner
+    {
+        @Override
+        boolean isEager()
+        {
+            return false;
+        }
+
+        @Override
+        void clean(ByteBuffer buffer)
+        {
+        }
+    }
+
+    private static final class CleanerMethods extends BufferCleaner
+    {
+        private final Method cleanerMethod;
+        private final Method cleanMethod;
+
+        private CleanerMethods(Method cleanerMethod, Method cleanMethod)
+        {
+            this.cleanerMethod = cleanerMethod;
+            this.cleanMethod = cleanMethod;
+        }
+
+        @Override
+        boolean isEager()
+        {
+            return true;
+        }
+
+        @Override
+        void clean(ByteBuffer buffer)
+        {
+            Object cleaner = DirectMemory.invoke(this.cleanerMethod, buffer);
+            if (cleaner != null)
+            {
+                DirectMemory.invoke(this.cleanMethod, cleaner);
+            }
+        }
+    }
+
+    private static final class InvokeCleaner extends BufferCleaner
+    {
+        private final Object unsafe;
+        private final Method invokeCleanerMethod;
+
+        private InvokeCleaner(Object unsafe, Method invokeCleanerMethod)
+        {
+            this.unsafe = unsafe;
+            this.invokeCleanerMethod = invokeCleanerMethod;
+        }
+
+        @Override
+        boolean isEager()
+        {
+            return true;
+        }
+
+        @Override
+        void clean(ByteBuffer buffer)
+        {
+            DirectMemory.invoke(this.invokeCleanerMethod, this.unsafe, buffer);
+        }
+    }
+}
@@ -17,11 +17,14 @@
 package com.gs.collections.impl.multimap.bag;
 
 import java.io.Externalizable;
+import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.multimap.bag.MutableBagMultimap;
 import com.gs.collections.api.tuple.Pair;
@@ -86,6 +89,17 @@ public final class HashBagMultimap<K, V>
         return UnifiedMap.newMap(keyCount);
     }
 
+    /**
+     * Returns a parallel view of the backing map from each key to its collection of values.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public ParallelMapIterable<K, MutableBag<V>> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return ((UnifiedMap<K, MutableBag<V>>) this.map).asParallel(executorService, batchSize);
+    }
+
     @Override
     protected MutableBag<V> createCollection()
     {
@@ -18,10 +18,13 @@ package com.gs.collections.impl.multimap.list;
 
 import java.io.Externalizable;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.multimap.bag.MutableBagMultimap;
 import com.gs.collections.api.tuple.Pair;
@@ -106,6 +109,17 @@ public final class FastListMultimap<K, V>
         return UnifiedMap.newMap(keyCount);
     }
 
+    /**
+     * Returns a parallel view of the backing map from each key to its collection of values.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public ParallelMapIterable<K, MutableList<V>> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return ((UnifiedMap<K, MutableList<V>>) this.map).asParallel(executorService, batchSize);
+    }
+
     @Override
     protected MutableList<V> createCollection()
     {
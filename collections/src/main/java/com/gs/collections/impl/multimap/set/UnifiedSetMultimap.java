@@ -17,9 +17,12 @@
 package com.gs.collections.impl.multimap.set;
 
 import java.io.Externalizable;
+import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.multimap.set.MutableSetMultimap;
 import com.gs.collections.api.set.MutableSet;
@@ -85,6 +88,17 @@ public final class UnifiedSetMultimap<K, V>
         return UnifiedMap.newMap(keyCount);
     }
 
+    /**
+     * Returns a parallel view of the backing map from each key to its collection of values.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public ParallelMapIterable<K, MutableSet<V>> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return ((UnifiedMap<K, MutableSet<V>>) this.map).asParallel(executorService, batchSize);
+    }
+
     @Override
     protected MutableSet<V> createCollection()
     {
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * A merge sort over the first size elements of an array. The array is split into a power of two number of chunks which
+ * are sorted in parallel, and the sorted chunks are then merged pairwise in parallel rounds, alternating between the
+ * array and a buffer of the same length. Subclasses hold the array and the buffer and implement the type specific
+ * sorting and merging.
+ *
+ * @since 6.2
+ */
+@Beta
+public abstract class AbstractParallelMergeSort
+{
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 8192;
+
+    private final int size;
+
+    protected AbstractParallelMergeSort(int size)
+    {
+        this.size = size;
+    }
+
+    /**
+     * Sorts the elements of the array between fromIndex (inclusive) and toIndex (exclusive).
+     */
+    protected abstract void sortRange(int fromIndex, int toIndex);
+
+    protected abstract void allocateBuffer(int bufferSize);
+
+    /**
+     * Merges the adjacent sorted ranges [fromIndex, middleIndex) and [middleIndex, toIndex) of the array into the
+     * same range of the buffer, or of the buffer into the array if fromBuffer is true.
+     */
+    protected abstract void merge(boolean fromBuffer, int fromIndex, int middleIndex, int toIndex);
+
+    /**
+     * Copies the range [fromIndex, toIndex) of the buffer back into the array.
+     */
+    protected abstract void copyFromBuffer(int fromIndex, int toIndex);
+
+    public void sort()
+    {
+        this.sort(ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    public void sort(ExecutorService executorService)
+    {
+        this.sort(executorService, ParallelIterate.getDefaultMaxThreadPoolSize(), DEFAULT_MIN_CHUNK_SIZE);
+    }
+
+    public void sort(ExecutorService executorService, int parallelism, int minChunkSize)
+    {
+        int chunkCount = 1;
+        while (chunkCount < parallelism && this.size / (chunkCount << 1) >= minChunkSize)
+        {
+            chunkCount <<= 1;
+        }
+        if (chunkCount == 1)
+        {
+            this.sortRange(0, this.size);
+            return;
+        }
+
+        final int[] bounds = new int[chunkCount + 1];
+        for (int i = 0; i <= chunkCount; i++)
+        {
+            bounds[i] = (int) ((long) this.size * i / chunkCount);
+        }
+
+        MutableList<Runnable> sortTasks = FastList.newList(chunkCount);
+        for (int i = 0; i < chunkCount; i++)
+        {
+            final int chunk = i;
+            sortTasks.add(new Runnable()
+            {
+                public void run()
+                {
+                    AbstractParallelMergeSort.this.sortRange(bounds[chunk], bounds[chunk + 1]);
+                }
+            });
+        }
+        AbstractParallelMergeSort.invokeAll(executorService, sortTasks);
+
+        this.allocateBuffer(this.size);
+        boolean inBuffer = false;
+        for (int width = 1; width < chunkCount; width <<= 1)
+        {
+            final boolean fromBuffer = inBuffer;
+            final int mergeWidth = width;
+            MutableList<Runnable> mergeTasks = FastList.newList(chunkCount / (width << 1));
+            for (int i = 0; i < chunkCount; i += width << 1)
+            {
+                final int chunk = i;
+                mergeTasks.add(new Runnable()
+                {
+                    public void run()
+                    {
+                        AbstractParallelMergeSort.this.merge(
+                                fromBuffer,
+                                bounds[chunk],
+                                bounds[chunk + mergeWidth],
+                                bounds[chunk + (mergeWidth << 1)]);
+                    }
+                });
+            }
+            AbstractParallelMergeSort.invokeAll(executorService, mergeTasks);
+            inBuffer = !inBuffer;
+        }
+        if (inBuffer)
+        {
+            this.copyFromBuffer(0, this.size);
+        }
+    }
+
+    /**
+     * Runs the last task on the calling thread and the others on the executor, and waits for all of them.
+     */
+    private static void invokeAll(ExecutorService executorService, MutableList<Runnable> tasks)
+    {
+        MutableList<Future<?>> futures = FastList.newList(tasks.size() - 1);
+        for (int i = 0; i < tasks.size() - 1; i++)
+        {
+            futures.add(executorService.submit(tasks.get(i)));
+        }
+        tasks.getLast().run();
+        for (Future<?> future : futures)
+        {
+            try
+            {
+                future.get();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
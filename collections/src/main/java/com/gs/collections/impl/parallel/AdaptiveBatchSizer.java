@@ -0,0 +1,178 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * Chooses batch sizes so that each parallel task runs for roughly a target duration. The cost of one element is
+ * learned from timed samples, which the adaptive {@code ParallelIterate.forEach} methods record by running the first
+ * few batches on the calling thread. Until a sample has been recorded, batch sizes are derived from the collection size
+ * and the parallelism only.
+ * <p>
+ * A batch size that is not smaller than the size of the collection means that the work is too cheap to be worth
+ * forking. An AdaptiveBatchSizer is thread-safe and is meant to be reused for the same kind of work, so the batch size
+ * for {@code asParallel} can also be taken from it:
+ * <pre>
+ * AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer();
+ * ParallelIterate.forEach(orders, procedureFactory, combiner, batchSizer, executorService);
+ * orders.asParallel(executorService, batchSizer.batchSize(orders.size())).forEach(procedure);
+ * </pre>
+ * The samples are timed with a {@link Clock}, {@link #SYSTEM_CLOCK} unless another one is specified.
+ *
+ * @since 6.2
+ */
+@Beta
+public final class AdaptiveBatchSizer
+{
+    public static final long DEFAULT_TARGET_TASK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    public static final Clock SYSTEM_CLOCK = new SystemClock();
+
+    private static final long NO_SAMPLES = Double.doubleToLongBits(-1.0d);
+
+    private final long targetTaskNanos;
+    private final int parallelism;
+    private final Clock clock;
+    private final AtomicLong nanosPerElementBits = new AtomicLong(NO_SAMPLES);
+
+    public AdaptiveBatchSizer()
+    {
+        this(DEFAULT_TARGET_TASK_NANOS, ParallelIterate.getDefaultMaxThreadPoolSize());
+    }
+
+    public AdaptiveBatchSizer(long targetTaskNanos, int parallelism)
+    {
+        this(targetTaskNanos, parallelism, SYSTEM_CLOCK);
+    }
+
+    public AdaptiveBatchSizer(long targetTaskNanos, int parallelism, Clock clock)
+    {
+        if (targetTaskNanos <= 0L)
+        {
+            throw new IllegalArgumentException("Target task duration must be positive: " + targetTaskNanos);
+        }
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        if (clock == null)
+        {
+            throw new IllegalArgumentException("Clock must not be null");
+        }
+        this.targetTaskNanos = targetTaskNanos;
+        this.parallelism = parallelism;
+        this.clock = clock;
+    }
+
+    public long getTargetTaskNanos()
+    {
+        return this.targetTaskNanos;
+    }
+
+    public int getParallelism()
+    {
+        return this.parallelism;
+    }
+
+    public Clock getClock()
+    {
+        return this.clock;
+    }
+
+    public boolean hasSamples()
+    {
+        return this.getNanosPerElement() >= 0.0d;
+    }
+
+    private double getNanosPerElement()
+    {
+        return Double.longBitsToDouble(this.nanosPerElementBits.get());
+    }
+
+    /**
+     * Records that processing {@code elementCount} elements took {@code elapsedNanos}. Recent samples are weighted
+     * the same as everything recorded before them, so the estimate follows changes in the cost of the work.
+     */
+    public void recordSample(int elementCount, long elapsedNanos)
+    {
+        if (elementCount <= 0)
+        {
+            return;
+        }
+        double sample = (double) Math.max(0L, elapsedNanos) / (double) elementCount;
+        while (true)
+        {
+            long previousBits = this.nanosPerElementBits.get();
+            double previous = Double.longBitsToDouble(previousBits);
+            double next = previous < 0.0d ? sample : (previous + sample) / 2.0d;
+            if (this.nanosPerElementBits.compareAndSet(previousBits, Double.doubleToLongBits(next)))
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements which one task should process for a collection of the specified size.
+     */
+    public int batchSize(int size)
+    {
+        if (size <= 1)
+        {
+            return 1;
+        }
+        double estimate = this.getNanosPerElement();
+        if (estimate < 0.0d)
+        {
+            int taskCount = this.parallelism * ParallelIterate.getTaskRatio();
+            return Math.max(1, (int) Math.ceil((double) size / (double) taskCount));
+        }
+        if (estimate * size <= this.targetTaskNanos)
+        {
+            return size;
+        }
+        return (int) Math.max(1L, Math.min((long) size, (long) (this.targetTaskNanos / estimate)));
+    }
+
+    /**
+     * Returns true if a collection of the specified size should be split into more than one task.
+     */
+    public boolean shouldFork(int size)
+    {
+        return this.batchSize(size) < size;
+    }
+
+    /**
+     * A source of nanosecond timestamps, used to time the samples. Only the differences between timestamps are used.
+     */
+    public interface Clock
+    {
+        long nanoTime();
+    }
+
+    private static final class SystemClock implements Clock
+    {
+        public long nanoTime()
+        {
+            return System.nanoTime();
+        }
+    }
+}
@@ -75,6 +75,7 @@ public final class ParallelIterate
     static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
     static final int TASK_RATIO = 2;
     static final int DEFAULT_PARALLEL_TASK_COUNT = ParallelIterate.getDefaultTaskCount();
+    static final int ADAPTIVE_INITIAL_SAMPLE_SIZE = 1;
     static final ExecutorService EXECUTOR_SERVICE = ParallelIterate.newPooledExecutor(ParallelIterate.class.getSimpleName(), true);
 
     private ParallelIterate()
@@ -475,6 +476,117 @@ public final class ParallelIterate
         }
     }
 
+    /**
+     * Iterate over the collection specified in parallel batches whose size is chosen by the specified
+     * {@link AdaptiveBatchSizer}.  The {@code Procedure} used must be stateless, or use concurrent aware objects if
+     * they are to be shared.
+     *
+     * @see #forEach(Iterable, ProcedureFactory, Combiner, AdaptiveBatchSizer, Executor)
+     * @since 6.2
+     */
+    public static <T> void forEach(Iterable<T> iterable, Procedure<? super T> procedure, AdaptiveBatchSizer batchSizer)
+    {
+        ParallelIterate.forEach(iterable, procedure, batchSizer, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * @see #forEach(Iterable, Procedure, AdaptiveBatchSizer)
+     * @since 6.2
+     */
+    public static <T> void forEach(Iterable<T> iterable, Procedure<? super T> procedure, AdaptiveBatchSizer batchSizer, Executor executor)
+    {
+        ParallelIterate.forEach(
+                iterable,
+                new PassThruProcedureFactory<Procedure<? super T>>(procedure),
+                new PassThruCombiner<Procedure<? super T>>(),
+                batchSizer,
+                executor);
+    }
+
+    /**
+     * Iterate over the collection specified in parallel batches whose size is chosen by the specified
+     * {@link AdaptiveBatchSizer}.  The first few batches are run on the calling thread, starting with a single element
+     * and doubling in size until they have taken as long as the batch sizer's target task duration, so expensive work
+     * is sampled on one element only.  Their timing is recorded in the batch sizer, which then decides whether the rest
+     * of the collection is worth forking and how many elements each task should process.
+     * Cheap work over a small collection is therefore never forked, while expensive work is split into fine-grained
+     * tasks.
+     * <p>
+     * The ProcedureFactory can create stateful closures that will be collected and combined using the specified
+     * Combiner.  The closure of the batches run on the calling thread is combined before the closures of the forked
+     * tasks.
+     *
+     * @since 6.2
+     */
+    public static <T, BT extends Procedure<? super T>> void forEach(
+            Iterable<T> iterable,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            AdaptiveBatchSizer batchSizer,
+            Executor executor)
+    {
+        if (Iterate.notEmpty(iterable))
+        {
+            List<T> list = (iterable instanceof RandomAccess || iterable instanceof ListIterable) && iterable instanceof List
+                    ? (List<T>) iterable
+                    : ArrayAdapter.adapt((T[]) Iterate.toArray(iterable));
+            int size = list.size();
+            BT procedure = procedureFactory.create();
+            int sampled = 0;
+            int sampleSize = ParallelIterate.ADAPTIVE_INITIAL_SAMPLE_SIZE;
+            long elapsedNanos = 0L;
+            AdaptiveBatchSizer.Clock clock = batchSizer.getClock();
+            while (sampled < size && elapsedNanos < batchSizer.getTargetTaskNanos())
+            {
+                int sampleEnd = sampled + Math.min(sampleSize, size - sampled);
+                long start = clock.nanoTime();
+                for (int i = sampled; i < sampleEnd; i++)
+                {
+                    procedure.value(list.get(i));
+                }
+                elapsedNanos += clock.nanoTime() - start;
+                sampled = sampleEnd;
+                sampleSize = Math.min(sampleSize << 1, size);
+            }
+            batchSizer.recordSample(sampled, elapsedNanos);
+
+            int remaining = size - sampled;
+            if (!batchSizer.shouldFork(remaining))
+            {
+                for (int i = sampled; i < size; i++)
+                {
+                    procedure.value(list.get(i));
+                }
+                ParallelIterate.combineOne(combiner, procedure);
+            }
+            else
+            {
+                ParallelIterate.combineOne(combiner, procedure);
+                int batchSize = batchSizer.batchSize(remaining);
+                int taskCount = (remaining + batchSize - 1) / batchSize;
+                ParallelIterate.forEachInListOnExecutor(
+                        list.subList(sampled, size),
+                        procedureFactory,
+                        combiner,
+                        1,
+                        taskCount,
+                        executor);
+            }
+        }
+    }
+
+    private static <BT> void combineOne(Combiner<BT> combiner, BT procedure)
+    {
+        if (combiner.useCombineOne())
+        {
+            combiner.combineOne(procedure);
+        }
+        else
+        {
+            combiner.combineAll(iList(procedure));
+        }
+    }
+
     public static <T, BT extends Procedure<? super T>> void forEachInListOnExecutor(
             List<T> list,
             ProcedureFactory<BT> procedureFactory,
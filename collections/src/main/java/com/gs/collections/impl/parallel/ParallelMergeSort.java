@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.impl.block.factory.Comparators;
+
+/**
+ * A stable parallel merge sort for object arrays and lists. A null comparator sorts the elements in their natural order.
+ *
+ * @since 6.2
+ */
+@Beta
+public final class ParallelMergeSort<T> extends AbstractParallelMergeSort
+{
+    private final T[] array;
+    private final Comparator<? super T> comparator;
+    private T[] buffer;
+
+    private ParallelMergeSort(T[] array, int size, Comparator<? super T> comparator)
+    {
+        super(size);
+        this.array = array;
+        if (comparator == null)
+        {
+            this.comparator = Comparators.naturalOrder();
+        }
+        else
+        {
+            this.comparator = comparator;
+        }
+    }
+
+    public static <T> void sort(T[] array, int size, Comparator<? super T> comparator)
+    {
+        ParallelMergeSort.sort(array, size, comparator, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    public static <T> void sort(T[] array, int size, Comparator<? super T> comparator, ExecutorService executorService)
+    {
+        ParallelMergeSort.sort(array, size, comparator, executorService, ParallelIterate.getDefaultMaxThreadPoolSize(), DEFAULT_MIN_CHUNK_SIZE);
+    }
+
+    public static <T> void sort(
+            T[] array,
+            int size,
+            Comparator<? super T> comparator,
+            ExecutorService executorService,
+            int parallelism,
+            int minChunkSize)
+    {
+        if (size > 1)
+        {
+            new ParallelMergeSort<T>(array, size, comparator).sort(executorService, parallelism, minChunkSize);
+        }
+    }
+
+    /**
+     * Sorts the list by copying it into an array, sorting the array in parallel and writing the elements back through
+     * the list's iterator.
+     */
+    public static <T, L extends List<T>> L sortThis(L list, Comparator<? super T> comparator)
+    {
+        if (list.size() > 1)
+        {
+            T[] array = (T[]) list.toArray();
+            ParallelMergeSort.sort(array, array.length, comparator);
+            ListIterator<T> iterator = list.listIterator();
+            for (T each : array)
+            {
+                iterator.next();
+                iterator.set(each);
+            }
+        }
+        return list;
+    }
+
+    @Override
+    protected void sortRange(int fromIndex, int toIndex)
+    {
+        Arrays.sort(this.array, fromIndex, toIndex, this.comparator);
+    }
+
+    @Override
+    protected void allocateBuffer(int bufferSize)
+    {
+        this.buffer = (T[]) new Object[bufferSize];
+    }
+
+    @Override
+    protected void merge(boolean fromBuffer, int fromIndex, int middleIndex, int toIndex)
+    {
+        T[] source = fromBuffer ? this.buffer : this.array;
+        T[] target = fromBuffer ? this.array : this.buffer;
+        if (this.comparator.compare(source[middleIndex - 1], source[middleIndex]) <= 0)
+        {
+            System.arraycopy(source, fromIndex, target, fromIndex, toIndex - fromIndex);
+            return;
+        }
+        int left = fromIndex;
+        int right = middleIndex;
+        int index = fromIndex;
+        while (left < middleIndex && right < toIndex)
+        {
+            // Taking from the left run on ties keeps the sort stable.
+            target[index++] = this.comparator.compare(source[right], source[left]) < 0 ? source[right++] : source[left++];
+        }
+        System.arraycopy(source, left, target, index, middleIndex - left);
+        System.arraycopy(source, right, target, index + middleIndex - left, toIndex - right);
+    }
+
+    @Override
+    protected void copyFromBuffer(int fromIndex, int toIndex)
+    {
+        System.arraycopy(this.buffer, fromIndex, this.array, fromIndex, toIndex - fromIndex);
+    }
+}
@@ -0,0 +1,671 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.impl.block.factory.Comparators;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableHashTrieSet is a compressed hash-array mapped prefix tree (CHAMP). Each node consumes five bits of the
+ * spread hash code and keeps two bitmaps: one for the elements stored inline and one for the sub-nodes. Elements whose
+ * spread hash codes are equal end up together in a collision node below the last level.
+ * <p>
+ * {@link #newWith(Object)} and {@link #newWithout(Object)} copy only the nodes on the path to the element, which is
+ * O(log<sub>32</sub> n), and share every other node with the original set.
+ * <p>
+ * The factory in {@link com.gs.collections.impl.factory.Sets#immutable} only returns an ImmutableHashTrieSet for sets
+ * of at least {@link #MINIMUM_SIZE} elements.
+ *
+ * @since 6.2
+ */
+@Immutable
+final class ImmutableHashTrieSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    static final int MINIMUM_SIZE = 1024;
+
+    // Not important since it uses writeReplace()
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_LENGTH = 32;
+    // Seven levels of bitmap nodes, followed by a collision node
+    private static final int MAX_DEPTH = 8;
+
+    private static final BitmapIndexedNode<?> EMPTY_NODE = new BitmapIndexedNode<Object>(null, 0, 0, new Object[0]);
+
+    private final Node<T> root;
+    private final int size;
+
+    private ImmutableHashTrieSet(Node<T> root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    static <T> ImmutableHashTrieSet<T> newSetWith(T... elements)
+    {
+        Builder<T> builder = new Builder<T>((Node<T>) EMPTY_NODE, 0);
+        for (T element : elements)
+        {
+            builder.value(element);
+        }
+        return builder.build();
+    }
+
+    private static int hash(Object element)
+    {
+        int h = element == null ? 0 : element.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        return h ^ h >>> 7 ^ h >>> 4;
+    }
+
+    private static int bitpos(int hash, int shift)
+    {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static int index(int bitmap, int bit)
+    {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.root.contains(object, ImmutableHashTrieSet.hash(object), 0);
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new TrieIterator<T>(this.root);
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        this.root.forEach(procedure);
+    }
+
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.iterator().next();
+    }
+
+    public T getLast()
+    {
+        T result = null;
+        for (Iterator<T> iterator = this.iterator(); iterator.hasNext(); )
+        {
+            result = iterator.next();
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableSet<T> newWith(T element)
+    {
+        Change change = new Change();
+        Node<T> newRoot = this.root.add(null, element, ImmutableHashTrieSet.hash(element), 0, change);
+        return change.modified ? new ImmutableHashTrieSet<T>(newRoot, this.size + change.sizeDelta) : this;
+    }
+
+    @Override
+    public ImmutableSet<T> newWithout(T element)
+    {
+        Change change = new Change();
+        Node<T> newRoot = this.root.remove(null, element, ImmutableHashTrieSet.hash(element), 0, change);
+        return change.modified ? new ImmutableHashTrieSet<T>(newRoot, this.size + change.sizeDelta) : this;
+    }
+
+    @Override
+    public ImmutableSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        Builder<T> builder = new Builder<T>(this.root, this.size);
+        for (T element : elements)
+        {
+            builder.value(element);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        Builder<T> builder = new Builder<T>(this.root, this.size);
+        for (T element : elements)
+        {
+            builder.remove(element);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+        Set<?> other = (Set<?>) object;
+        if (this.size != other.size())
+        {
+            return false;
+        }
+        for (T each : this)
+        {
+            if (!other.contains(each))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (T each : this)
+        {
+            hashCode += this.nullSafeHashCode(each);
+        }
+        return hashCode;
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableSetSerializationProxy<T>(this);
+    }
+
+    /**
+     * Records what an update did, so that callers can tell whether a new set is needed and how its size changed.
+     */
+    private static final class Change
+    {
+        private boolean modified;
+        private int sizeDelta;
+
+        private void reset()
+        {
+            this.modified = false;
+            this.sizeDelta = 0;
+        }
+    }
+
+    /**
+     * Applies a batch of updates, editing in place the nodes that it created itself. Every node it has not created is
+     * copied before its first change, so the set it started from is never affected. After {@link #build()}, the
+     * builder no longer owns any node and can continue safely.
+     */
+    private static final class Builder<T> implements Procedure<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Change change = new Change();
+        private Object owner = new Object();
+        private Node<T> root;
+        private int size;
+
+        private Builder(Node<T> root, int size)
+        {
+            this.root = root;
+            this.size = size;
+        }
+
+        public void value(T element)
+        {
+            this.change.reset();
+            this.root = this.root.add(this.owner, element, ImmutableHashTrieSet.hash(element), 0, this.change);
+            this.size += this.change.sizeDelta;
+        }
+
+        private void remove(Object element)
+        {
+            this.change.reset();
+            this.root = this.root.remove(this.owner, element, ImmutableHashTrieSet.hash(element), 0, this.change);
+            this.size += this.change.sizeDelta;
+        }
+
+        private ImmutableHashTrieSet<T> build()
+        {
+            this.owner = new Object();
+            return new ImmutableHashTrieSet<T>(this.root, this.size);
+        }
+    }
+
+    private abstract static class Node<T>
+    {
+        abstract boolean contains(Object element, int hash, int shift);
+
+        abstract Node<T> add(Object owner, T element, int hash, int shift, Change change);
+
+        abstract Node<T> remove(Object owner, Object element, int hash, int shift, Change change);
+
+        abstract int payloadArity();
+
+        abstract T elementAt(int index);
+
+        abstract int nodeArity();
+
+        abstract Node<T> nodeAt(int index);
+
+        boolean hasSinglePayload()
+        {
+            return this.payloadArity() == 1 && this.nodeArity() == 0;
+        }
+
+        void forEach(Procedure<? super T> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.elementAt(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.nodeAt(i).forEach(procedure);
+            }
+        }
+    }
+
+    private static final class BitmapIndexedNode<T> extends Node<T>
+    {
+        private final Object owner;
+        private final int dataMap;
+        private final int nodeMap;
+        // Elements are stored from the front, sub-nodes in reverse order from the back
+        private final Object[] content;
+
+        private BitmapIndexedNode(Object owner, int dataMap, int nodeMap, Object[] content)
+        {
+            this.owner = owner;
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private static <T> Node<T> mergeTwo(Object owner, T element0, int hash0, T element1, int hash1, int shift)
+        {
+            if (shift >= HASH_LENGTH)
+            {
+                return new HashCollisionNode<T>(hash0, new Object[]{element0, element1});
+            }
+            int mask0 = (hash0 >>> shift) & MASK;
+            int mask1 = (hash1 >>> shift) & MASK;
+            if (mask0 != mask1)
+            {
+                int dataMap = 1 << mask0 | 1 << mask1;
+                Object[] content = mask0 < mask1 ? new Object[]{element0, element1} : new Object[]{element1, element0};
+                return new BitmapIndexedNode<T>(owner, dataMap, 0, content);
+            }
+            Node<T> node = BitmapIndexedNode.mergeTwo(owner, element0, hash0, element1, hash1, shift + BITS);
+            return new BitmapIndexedNode<T>(owner, 0, 1 << mask0, new Object[]{node});
+        }
+
+        @Override
+        boolean contains(Object element, int hash, int shift)
+        {
+            int bit = ImmutableHashTrieSet.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                return Comparators.nullSafeEquals(this.content[ImmutableHashTrieSet.index(this.dataMap, bit)], element);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return ((Node<T>) this.content[this.nodeIndex(bit)]).contains(element, hash, shift + BITS);
+            }
+            return false;
+        }
+
+        @Override
+        Node<T> add(Object owner, T element, int hash, int shift, Change change)
+        {
+            int bit = ImmutableHashTrieSet.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = ImmutableHashTrieSet.index(this.dataMap, bit);
+                T currentElement = (T) this.content[index];
+                if (Comparators.nullSafeEquals(currentElement, element))
+                {
+                    return this;
+                }
+                change.modified = true;
+                change.sizeDelta = 1;
+                Node<T> node = BitmapIndexedNode.mergeTwo(
+                        owner,
+                        currentElement, ImmutableHashTrieSet.hash(currentElement),
+                        element, hash,
+                        shift + BITS);
+                return this.withInlineMigratedToNode(owner, bit, node);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int nodeIndex = this.nodeIndex(bit);
+                Node<T> node = (Node<T>) this.content[nodeIndex];
+                Node<T> newNode = node.add(owner, element, hash, shift + BITS, change);
+                return change.modified ? this.withNode(owner, nodeIndex, newNode) : this;
+            }
+            change.modified = true;
+            change.sizeDelta = 1;
+            return this.withInsertedElement(owner, bit, element);
+        }
+
+        @Override
+        Node<T> remove(Object owner, Object element, int hash, int shift, Change change)
+        {
+            int bit = ImmutableHashTrieSet.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = ImmutableHashTrieSet.index(this.dataMap, bit);
+                if (!Comparators.nullSafeEquals(this.content[index], element))
+                {
+                    return this;
+                }
+                change.modified = true;
+                change.sizeDelta = -1;
+                if (this.payloadArity() == 2 && this.nodeArity() == 0)
+                {
+                    // The remaining element will be inlined by the parent; if this is the root, it stays here instead
+                    int newDataMap = shift == 0 ? this.dataMap ^ bit : ImmutableHashTrieSet.bitpos(hash, 0);
+                    return new BitmapIndexedNode<T>(owner, newDataMap, 0, new Object[]{this.content[1 - index]});
+                }
+                return this.withRemovedElement(owner, bit, index);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int nodeIndex = this.nodeIndex(bit);
+                Node<T> node = (Node<T>) this.content[nodeIndex];
+                Node<T> newNode = node.remove(owner, element, hash, shift + BITS, change);
+                if (!change.modified)
+                {
+                    return this;
+                }
+                if (newNode.hasSinglePayload())
+                {
+                    if (this.payloadArity() == 0 && this.nodeArity() == 1)
+                    {
+                        return newNode;
+                    }
+                    return this.withNodeMigratedToInline(owner, bit, newNode);
+                }
+                return this.withNode(owner, nodeIndex, newNode);
+            }
+            return this;
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        T elementAt(int index)
+        {
+            return (T) this.content[index];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        Node<T> nodeAt(int index)
+        {
+            return (Node<T>) this.content[this.content.length - 1 - index];
+        }
+
+        private int nodeIndex(int bit)
+        {
+            return this.content.length - 1 - ImmutableHashTrieSet.index(this.nodeMap, bit);
+        }
+
+        private BitmapIndexedNode<T> withNode(Object owner, int nodeIndex, Node<T> node)
+        {
+            if (owner != null && owner == this.owner)
+            {
+                this.content[nodeIndex] = node;
+                return this;
+            }
+            Object[] newContent = this.content.clone();
+            newContent[nodeIndex] = node;
+            return new BitmapIndexedNode<T>(owner, this.dataMap, this.nodeMap, newContent);
+        }
+
+        private BitmapIndexedNode<T> withInsertedElement(Object owner, int bit, T element)
+        {
+            int index = ImmutableHashTrieSet.index(this.dataMap, bit);
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            newContent[index] = element;
+            System.arraycopy(this.content, index, newContent, index + 1, this.content.length - index);
+            return new BitmapIndexedNode<T>(owner, this.dataMap | bit, this.nodeMap, newContent);
+        }
+
+        private BitmapIndexedNode<T> withRemovedElement(Object owner, int bit, int index)
+        {
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 1, newContent, index, this.content.length - index - 1);
+            return new BitmapIndexedNode<T>(owner, this.dataMap ^ bit, this.nodeMap, newContent);
+        }
+
+        private BitmapIndexedNode<T> withInlineMigratedToNode(Object owner, int bit, Node<T> node)
+        {
+            // The array keeps its length: one element leaves the front and one node joins the back
+            int dataIndex = ImmutableHashTrieSet.index(this.dataMap, bit);
+            int newNodeMap = this.nodeMap | bit;
+            Object[] newContent = new Object[this.content.length];
+            int newNodeIndex = newContent.length - 1 - ImmutableHashTrieSet.index(newNodeMap, bit);
+            System.arraycopy(this.content, 0, newContent, 0, dataIndex);
+            System.arraycopy(this.content, dataIndex + 1, newContent, dataIndex, newNodeIndex - dataIndex);
+            newContent[newNodeIndex] = node;
+            System.arraycopy(this.content, newNodeIndex + 1, newContent, newNodeIndex + 1, this.content.length - newNodeIndex - 1);
+            return new BitmapIndexedNode<T>(owner, this.dataMap ^ bit, newNodeMap, newContent);
+        }
+
+        private BitmapIndexedNode<T> withNodeMigratedToInline(Object owner, int bit, Node<T> node)
+        {
+            int oldNodeIndex = this.nodeIndex(bit);
+            int newDataMap = this.dataMap | bit;
+            int dataIndex = ImmutableHashTrieSet.index(newDataMap, bit);
+            Object[] newContent = new Object[this.content.length];
+            System.arraycopy(this.content, 0, newContent, 0, dataIndex);
+            newContent[dataIndex] = node.elementAt(0);
+            System.arraycopy(this.content, dataIndex, newContent, dataIndex + 1, oldNodeIndex - dataIndex);
+            System.arraycopy(this.content, oldNodeIndex + 1, newContent, oldNodeIndex + 1, this.content.length - oldNodeIndex - 1);
+            return new BitmapIndexedNode<T>(owner, newDataMap, this.nodeMap ^ bit, newContent);
+        }
+    }
+
+    private static final class HashCollisionNode<T> extends Node<T>
+    {
+        private final int hash;
+        private final Object[] content;
+
+        private HashCollisionNode(int hash, Object[] content)
+        {
+            this.hash = hash;
+            this.content = content;
+        }
+
+        private int indexOf(Object element)
+        {
+            for (int i = 0; i < this.content.length; i++)
+            {
+                if (Comparators.nullSafeEquals(this.content[i], element))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        boolean contains(Object element, int hash, int shift)
+        {
+            return this.indexOf(element) >= 0;
+        }
+
+        @Override
+        Node<T> add(Object owner, T element, int hash, int shift, Change change)
+        {
+            if (this.indexOf(element) >= 0)
+            {
+                return this;
+            }
+            change.modified = true;
+            change.sizeDelta = 1;
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, this.content.length);
+            newContent[this.content.length] = element;
+            return new HashCollisionNode<T>(this.hash, newContent);
+        }
+
+        @Override
+        Node<T> remove(Object owner, Object element, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(element);
+            if (index < 0)
+            {
+                return this;
+            }
+            change.modified = true;
+            change.sizeDelta = -1;
+            if (this.content.length == 2)
+            {
+                return new BitmapIndexedNode<T>(
+                        owner,
+                        ImmutableHashTrieSet.bitpos(this.hash, 0),
+                        0,
+                        new Object[]{this.content[1 - index]});
+            }
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 1, newContent, index, this.content.length - index - 1);
+            return new HashCollisionNode<T>(this.hash, newContent);
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return this.content.length;
+        }
+
+        @Override
+        T elementAt(int index)
+        {
+            return (T) this.content[index];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return 0;
+        }
+
+        @Override
+        Node<T> nodeAt(int index)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: 0");
+        }
+    }
+
+    /**
+     * Walks the trie depth first, returning the elements of each node before descending into its sub-nodes.
+     */
+    private static final class TrieIterator<T> implements Iterator<T>
+    {
+        private final Node<T>[] nodes = new Node[MAX_DEPTH];
+        private final int[] nextChildren = new int[MAX_DEPTH];
+        private int depth;
+        private Node<T> payloadNode;
+        private int nextPayload;
+
+        private TrieIterator(Node<T> root)
+        {
+            this.nodes[0] = root;
+            this.payloadNode = root;
+        }
+
+        public boolean hasNext()
+        {
+            while (this.nextPayload >= this.payloadNode.payloadArity())
+            {
+                if (!this.descend())
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean descend()
+        {
+            while (this.depth >= 0)
+            {
+                Node<T> node = this.nodes[this.depth];
+                if (this.nextChildren[this.depth] < node.nodeArity())
+                {
+                    Node<T> child = node.nodeAt(this.nextChildren[this.depth]++);
+                    this.depth++;
+                    this.nodes[this.depth] = child;
+                    this.nextChildren[this.depth] = 0;
+                    this.payloadNode = child;
+                    this.nextPayload = 0;
+                    return true;
+                }
+                this.nodes[this.depth] = null;
+                this.depth--;
+            }
+            return false;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.payloadNode.elementAt(this.nextPayload++);
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+}
@@ -143,6 +143,10 @@ public final class ImmutableSetFactoryImpl implements ImmutableSetFactory
             case 4:
                 return this.of(items[0], items[1], items[2], items[3]);
             default:
+                if (items.length >= ImmutableHashTrieSet.MINIMUM_SIZE)
+                {
+                    return ImmutableHashTrieSet.newSetWith(items);
+                }
                 return ImmutableUnifiedSet.newSetWith(items);
         }
     }
@@ -0,0 +1,585 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.impl.lazy.parallel.set.NonParallelUnsortedSetIterable;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * CompactUnifiedSet is a {@link MutableSet} for the many small and medium sized sets that a program like a large
+ * {@link com.gs.collections.api.multimap.set.SetMultimap} creates. While the set holds no more elements than its
+ * threshold, the elements are stored directly in a single array and collisions are resolved by linear probing, so no
+ * chain bucket is ever allocated, and a new set starts with a table of only {@value #MINIMUM_CAPACITY} slots. Removal
+ * shifts the following elements of the run back, so no tombstones are needed.
+ * <p>
+ * When the set grows past its threshold, its elements are moved into a {@link UnifiedSet}, whose chained layout
+ * degrades more gracefully with poor hash codes at large sizes, and every operation is delegated to it from then on.
+ * {@link #clear()} returns the set to the compact layout.
+ *
+ * @since 6.2
+ */
+@Beta
+@NotThreadSafe
+public class CompactUnifiedSet<T> extends AbstractMutableSet<T>
+        implements Externalizable
+{
+    public static final int DEFAULT_THRESHOLD = 64;
+
+    private static final long serialVersionUID = 1L;
+
+    // Never passed to equals(), since a null element has to match only itself
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "CompactUnifiedSet.NULL_KEY";
+        }
+    };
+
+    private static final int MINIMUM_CAPACITY = 4;
+
+    private transient Object[] table;
+    private transient int occupied;
+    private transient UnifiedSet<T> chained;
+    private int threshold;
+
+    public CompactUnifiedSet()
+    {
+        this(0, DEFAULT_THRESHOLD);
+    }
+
+    public CompactUnifiedSet(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_THRESHOLD);
+    }
+
+    public CompactUnifiedSet(int initialCapacity, int threshold)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (threshold < 0)
+        {
+            throw new IllegalArgumentException("threshold cannot be less than 0");
+        }
+        this.threshold = threshold;
+        this.init(initialCapacity);
+    }
+
+    public CompactUnifiedSet(Collection<? extends T> collection)
+    {
+        this(collection.size());
+        this.addAll(collection);
+    }
+
+    public static <K> CompactUnifiedSet<K> newSet()
+    {
+        return new CompactUnifiedSet<K>();
+    }
+
+    public static <K> CompactUnifiedSet<K> newSet(int size)
+    {
+        return new CompactUnifiedSet<K>(size);
+    }
+
+    public static <K> CompactUnifiedSet<K> newSet(int size, int threshold)
+    {
+        return new CompactUnifiedSet<K>(size, threshold);
+    }
+
+    public static <K> CompactUnifiedSet<K> newSet(Iterable<? extends K> source)
+    {
+        if (source instanceof Collection)
+        {
+            return new CompactUnifiedSet<K>((Collection<K>) source);
+        }
+        return CompactUnifiedSet.<K>newSet().withAll(source);
+    }
+
+    public static <K> CompactUnifiedSet<K> newSetWith(K... elements)
+    {
+        return CompactUnifiedSet.<K>newSet(elements.length).with(elements);
+    }
+
+    private void init(int initialCapacity)
+    {
+        if (initialCapacity > this.threshold)
+        {
+            this.table = null;
+            this.chained = UnifiedSet.newSet(initialCapacity);
+            return;
+        }
+        int capacity = MINIMUM_CAPACITY;
+        while (maxSize(capacity) < initialCapacity)
+        {
+            capacity <<= 1;
+        }
+        this.chained = null;
+        this.table = new Object[capacity];
+    }
+
+    private static int maxSize(int capacity)
+    {
+        // Always leaves at least one slot empty, which bounds every probe
+        return capacity - (capacity >> 2);
+    }
+
+    private int index(Object key)
+    {
+        int h = key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h & (this.table.length - 1);
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private T nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (T) key;
+    }
+
+    private static boolean nonNullTableObjectEquals(Object cur, Object key)
+    {
+        return cur == key || (cur != NULL_KEY && key != NULL_KEY && cur.equals(key));
+    }
+
+    /**
+     * Returns the slot of the key, or of the empty slot that ends its run if the key is not present.
+     */
+    private int slotOf(Object key)
+    {
+        Object[] table = this.table;
+        int mask = table.length - 1;
+        int index = this.homeOf(key);
+        Object cur = table[index];
+        while (cur != null && !nonNullTableObjectEquals(cur, key))
+        {
+            index = (index + 1) & mask;
+            cur = table[index];
+        }
+        return index;
+    }
+
+    private int homeOf(Object key)
+    {
+        return key == NULL_KEY ? 0 : this.index(key);
+    }
+
+    /**
+     * Returns {@code true} while the elements are stored in the open-addressing table rather than in a
+     * {@link UnifiedSet}. Exposed for testing and tuning.
+     */
+    public boolean isCompact()
+    {
+        return this.chained == null;
+    }
+
+    public int getThreshold()
+    {
+        return this.threshold;
+    }
+
+    public int size()
+    {
+        return this.chained == null ? this.occupied : this.chained.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        if (this.chained != null)
+        {
+            return this.chained.contains(object);
+        }
+        return this.table[this.slotOf(toSentinelIfNull(object))] != null;
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        if (this.chained != null)
+        {
+            return this.chained.add(element);
+        }
+        Object key = toSentinelIfNull(element);
+        int index = this.slotOf(key);
+        if (this.table[index] != null)
+        {
+            return false;
+        }
+        this.table[index] = key;
+        this.occupied++;
+        if (this.occupied > this.threshold)
+        {
+            this.switchToChained();
+        }
+        else if (this.occupied > maxSize(this.table.length))
+        {
+            this.rehash(this.table.length << 1);
+        }
+        return true;
+    }
+
+    private void rehash(int newCapacity)
+    {
+        Object[] old = this.table;
+        this.table = new Object[newCapacity];
+        int mask = newCapacity - 1;
+        for (int i = 0; i < old.length; i++)
+        {
+            Object key = old[i];
+            if (key != null)
+            {
+                int index = this.homeOf(key);
+                while (this.table[index] != null)
+                {
+                    index = (index + 1) & mask;
+                }
+                this.table[index] = key;
+            }
+        }
+    }
+
+    private void switchToChained()
+    {
+        UnifiedSet<T> set = UnifiedSet.newSet(this.occupied << 1);
+        for (int i = 0; i < this.table.length; i++)
+        {
+            Object key = this.table[i];
+            if (key != null)
+            {
+                set.add(this.nonSentinel(key));
+            }
+        }
+        this.chained = set;
+        this.table = null;
+        this.occupied = 0;
+    }
+
+    @Override
+    public boolean remove(Object object)
+    {
+        if (this.chained != null)
+        {
+            return this.chained.remove(object);
+        }
+        int index = this.slotOf(toSentinelIfNull(object));
+        if (this.table[index] == null)
+        {
+            return false;
+        }
+        this.removeAt(index);
+        return true;
+    }
+
+    /**
+     * Empties the slot by moving back every following element of the run whose home slot does not lie between the
+     * emptied slot and its own slot.
+     */
+    private void removeAt(int index)
+    {
+        Object[] table = this.table;
+        int mask = table.length - 1;
+        int empty = index;
+        int next = (index + 1) & mask;
+        Object key = table[next];
+        while (key != null)
+        {
+            int home = this.homeOf(key);
+            if (((next - home) & mask) >= ((next - empty) & mask))
+            {
+                table[empty] = key;
+                empty = next;
+            }
+            next = (next + 1) & mask;
+            key = table[next];
+        }
+        table[empty] = null;
+        this.occupied--;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.chained != null || this.occupied > 0)
+        {
+            this.init(0);
+            this.occupied = 0;
+        }
+    }
+
+    public Iterator<T> iterator()
+    {
+        if (this.chained != null)
+        {
+            return this.chained.iterator();
+        }
+        return new CompactIterator();
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        if (this.chained != null)
+        {
+            this.chained.each(procedure);
+            return;
+        }
+        Object[] table = this.table;
+        for (int i = 0; i < table.length; i++)
+        {
+            Object key = table[i];
+            if (key != null)
+            {
+                procedure.value(this.nonSentinel(key));
+            }
+        }
+    }
+
+    public CompactUnifiedSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public CompactUnifiedSet<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public CompactUnifiedSet<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public CompactUnifiedSet<T> with(T... elements)
+    {
+        for (T element : elements)
+        {
+            this.add(element);
+        }
+        return this;
+    }
+
+    public CompactUnifiedSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public CompactUnifiedSet<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    public CompactUnifiedSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public CompactUnifiedSet<T> newEmpty()
+    {
+        return new CompactUnifiedSet<T>(0, this.threshold);
+    }
+
+    @Override
+    public CompactUnifiedSet<T> clone()
+    {
+        CompactUnifiedSet<T> clone = new CompactUnifiedSet<T>(0, this.threshold);
+        if (this.chained != null)
+        {
+            clone.table = null;
+            clone.chained = this.chained.clone();
+        }
+        else
+        {
+            clone.table = this.table.clone();
+            clone.occupied = this.occupied;
+        }
+        return clone;
+    }
+
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.iterator().next();
+    }
+
+    public T getLast()
+    {
+        T last = null;
+        for (T each : this)
+        {
+            last = each;
+        }
+        return last;
+    }
+
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new NonParallelUnsortedSetIterable<T>(this);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+
+        Set<?> other = (Set<?>) object;
+        return this.size() == other.size() && this.containsAll(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        if (this.chained != null)
+        {
+            return this.chained.hashCode();
+        }
+        int hashCode = 0;
+        for (int i = 0; i < this.table.length; i++)
+        {
+            Object key = this.table[i];
+            if (key != null && key != NULL_KEY)
+            {
+                hashCode += key.hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeInt(this.threshold);
+        for (T each : this)
+        {
+            out.writeObject(each);
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.threshold = in.readInt();
+        this.init(size);
+        for (int i = 0; i < size; i++)
+        {
+            this.add((T) in.readObject());
+        }
+    }
+
+    /**
+     * Visits the slots in order, starting just after an empty slot. A run of elements never wraps past an empty slot,
+     * so when {@link #remove()} moves elements of a run back, every element it moves lands on a slot that has not been
+     * visited yet, or on the slot that was just removed, which is visited again.
+     */
+    private final class CompactIterator implements Iterator<T>
+    {
+        private final int start;
+        private int position;
+        private int remaining = CompactUnifiedSet.this.occupied;
+        private int lastReturned = -1;
+
+        private CompactIterator()
+        {
+            Object[] table = CompactUnifiedSet.this.table;
+            int empty = 0;
+            while (table[empty] != null)
+            {
+                empty++;
+            }
+            this.start = empty + 1;
+        }
+
+        public boolean hasNext()
+        {
+            return this.remaining > 0;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            Object[] table = CompactUnifiedSet.this.table;
+            int mask = table.length - 1;
+            int index = (this.start + this.position) & mask;
+            while (table[index] == null)
+            {
+                this.position++;
+                index = (this.start + this.position) & mask;
+            }
+            this.position++;
+            this.remaining--;
+            this.lastReturned = index;
+            return CompactUnifiedSet.this.nonSentinel(table[index]);
+        }
+
+        public void remove()
+        {
+            if (this.lastReturned == -1)
+            {
+                throw new IllegalStateException();
+            }
+            CompactUnifiedSet.this.removeAt(this.lastReturned);
+            this.position--;
+            this.lastReturned = -1;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.primitive.BooleanFunction;
@@ -70,6 +71,7 @@ import com.gs.collections.api.set.primitive.MutableLongSet;
 import com.gs.collections.api.set.primitive.MutableShortSet;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection;
+import com.gs.collections.impl.collection.mutable.StripedReadWriteLock;
 import com.gs.collections.impl.factory.Sets;
 import com.gs.collections.impl.lazy.parallel.set.MultiReaderParallelUnsortedSetIterable;
 import com.gs.collections.impl.utility.LazyIterate;
@@ -136,6 +138,29 @@ public final class MultiReaderUnifiedSet<T>
         return new MultiReaderUnifiedSet<T>(UnifiedSet.newSetWith(elements));
     }
 
+    /**
+     * Creates an empty set guarded by a {@link StripedReadWriteLock} with one stripe per available processor.
+     * Readers on different threads then do not contend on a shared reader count, at the cost of more expensive writes.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public static <T> MultiReaderUnifiedSet<T> newStripedSet()
+    {
+        return new MultiReaderUnifiedSet<T>(UnifiedSet.<T>newSet(), new StripedReadWriteLock());
+    }
+
+    /**
+     * Creates an empty set guarded by a {@link StripedReadWriteLock} with at least concurrencyLevel stripes.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public static <T> MultiReaderUnifiedSet<T> newStripedSet(int concurrencyLevel)
+    {
+        return new MultiReaderUnifiedSet<T>(UnifiedSet.<T>newSet(), new StripedReadWriteLock(concurrencyLevel));
+    }
+
     @Override
     protected MutableSet<T> getDelegate()
     {
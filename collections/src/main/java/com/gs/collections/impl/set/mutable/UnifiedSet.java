@@ -16,10 +16,13 @@
 
 package com.gs.collections.impl.set.mutable;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Collection;
@@ -75,6 +78,8 @@ import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.PartitionPredicate2Procedure;
 import com.gs.collections.impl.block.procedure.PartitionProcedure;
 import com.gs.collections.impl.block.procedure.SelectInstancesOfProcedure;
+import com.gs.collections.impl.codec.BinaryCodec;
+import com.gs.collections.impl.codec.BinaryCodecs;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.factory.Sets;
 import com.gs.collections.impl.lazy.AbstractLazyIterable;
@@ -1561,6 +1566,93 @@ public class UnifiedSet<T>
         while (true);
     }
 
+    /**
+     * Writes the format version, the size and the load factor of this set, followed by its elements, which are written
+     * by the codec instead of Java serialization. The codec must handle null if the set contains null.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public void write(DataOutput out, BinaryCodec<? super T> codec) throws IOException
+    {
+        BinaryCodecs.writeFormatVersion(out);
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        for (int i = 0; i < this.table.length; i++)
+        {
+            Object o = this.table[i];
+            if (o != null)
+            {
+                if (o instanceof ChainedBucket)
+                {
+                    this.writeChain(out, (ChainedBucket) o, codec);
+                }
+                else
+                {
+                    codec.write(this.nonSentinel(o), out);
+                }
+            }
+        }
+    }
+
+    private void writeChain(DataOutput out, ChainedBucket bucket, BinaryCodec<? super T> codec) throws IOException
+    {
+        do
+        {
+            codec.write(this.nonSentinel(bucket.zero), out);
+            if (bucket.one == null)
+            {
+                return;
+            }
+            codec.write(this.nonSentinel(bucket.one), out);
+            if (bucket.two == null)
+            {
+                return;
+            }
+            codec.write(this.nonSentinel(bucket.two), out);
+            if (bucket.three == null)
+            {
+                return;
+            }
+            if (bucket.three instanceof ChainedBucket)
+            {
+                bucket = (ChainedBucket) bucket.three;
+                continue;
+            }
+            codec.write(this.nonSentinel(bucket.three), out);
+            return;
+        }
+        while (true);
+    }
+
+    /**
+     * Reads a set written by {@link #write(DataOutput, BinaryCodec)}. The table is sized for all of the elements up
+     * front, so it is never rehashed while reading.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public static <T> UnifiedSet<T> read(DataInput in, BinaryCodec<? extends T> codec) throws IOException
+    {
+        BinaryCodecs.readFormatVersion(in);
+        int size = in.readInt();
+        float loadFactor = in.readFloat();
+        if (size < 0)
+        {
+            throw new StreamCorruptedException("Negative size: " + size);
+        }
+        if (!(loadFactor > 0.0f) || Float.isInfinite(loadFactor))
+        {
+            throw new StreamCorruptedException("Invalid load factor: " + loadFactor);
+        }
+        UnifiedSet<T> result = new UnifiedSet<T>(BinaryCodecs.initialCapacity(in, size, 0), loadFactor);
+        for (int i = 0; i < size; i++)
+        {
+            result.add(codec.read(in));
+        }
+        return result;
+    }
+
     public boolean removeAll(Collection<?> collection)
     {
         return this.removeAllIterable(collection);
@@ -20,6 +20,9 @@
  *     This package contains the following mutable set implementations:
  * <ul>
  *     <li>
+ *          {@link com.gs.collections.impl.set.mutable.CompactUnifiedSet} - an open-addressing set for small sets, which switches to a UnifiedSet above a threshold.
+ *     </li>
+ *     <li>
  *          {@link com.gs.collections.impl.set.mutable.MultiReaderUnifiedSet} -  a thread safe wrapper around UnifiedSet.
  *     </li>
  *     <li>
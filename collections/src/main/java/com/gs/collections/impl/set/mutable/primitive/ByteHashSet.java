@@ -23,9 +23,12 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.ByteIterable;
 import com.gs.collections.api.LazyByteIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableByteBag;
 import com.gs.collections.api.block.function.primitive.ByteToObjectFunction;
 import com.gs.collections.api.block.function.primitive.ObjectByteToObjectFunction;
@@ -42,6 +45,7 @@ import com.gs.collections.api.set.primitive.MutableByteSet;
 import com.gs.collections.impl.bag.mutable.primitive.ByteHashBag;
 import com.gs.collections.impl.block.procedure.checked.primitive.CheckedByteProcedure;
 import com.gs.collections.impl.factory.primitive.ByteSets;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelByteArrayIterable;
 import com.gs.collections.impl.lazy.primitive.LazyByteIterableAdapter;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
 import com.gs.collections.impl.set.immutable.primitive.ImmutableByteSetSerializationProxy;
@@ -493,6 +497,19 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return new SynchronizedByteSet(this);
     }
 
+    /**
+     * Returns a parallel view over a snapshot of this set. The set is backed by a bitmap of 256 bits, so the
+     * snapshot is at most 256 bytes.
+     *
+     * @since 6.2
+     */
+    @Beta
+    public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        byte[] items = this.toArray();
+        return new ParallelByteArrayIterable(items, items.length, executorService, batchSize);
+    }
+
     public ImmutableByteSet toImmutable()
     {
         if (this.size() == 0)
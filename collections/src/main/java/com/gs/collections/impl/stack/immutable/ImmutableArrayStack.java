@@ -665,6 +665,16 @@ final class ImmutableArrayStack<T> implements ImmutableStack<T>, Serializable
         return this.delegate.asReversed().maxBy(function);
     }
 
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.asReversed().topKBy(k, function);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.asReversed().bottomKBy(k, function);
+    }
+
     public long sumOfInt(IntFunction<? super T> intFunction)
     {
         return this.delegate.asReversed().sumOfInt(intFunction);
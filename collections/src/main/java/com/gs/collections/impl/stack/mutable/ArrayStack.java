@@ -663,6 +663,16 @@ public class ArrayStack<T> implements MutableStack<T>, Externalizable
         return this.delegate.asReversed().maxBy(function);
     }
 
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.asReversed().topKBy(k, function);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.asReversed().bottomKBy(k, function);
+    }
+
     public T min()
     {
         return this.delegate.asReversed().min();
@@ -583,6 +583,16 @@ public final class UnmodifiableStack<T> implements MutableStack<T>, Serializable
         return this.mutableStack.maxBy(function);
     }
 
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.mutableStack.topKBy(k, function);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.mutableStack.bottomKBy(k, function);
+    }
+
     public long sumOfInt(IntFunction<? super T> intFunction)
     {
         return this.mutableStack.sumOfInt(intFunction);
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import com.gs.collections.api.bag.Bag;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.tuple.primitive.ObjectIntPair;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
+
+/**
+ * Occurrence based operations on bags.
+ * <p>
+ * {@link #topOccurrences(Bag, int)} and {@link #bottomOccurrences(Bag, int)} find the n-th highest (or lowest) count
+ * with a heap of n counts, then collect the items at or beyond that count, so only the results are ever sorted. This
+ * takes O(d log n) time for d distinct items instead of sorting all of them.
+ *
+ * @since 6.2
+ */
+public final class BagIterables
+{
+    private static final IntFunction<ObjectIntPair<?>> DESCENDING_OCCURRENCES = new IntFunction<ObjectIntPair<?>>()
+    {
+        public int intValueOf(ObjectIntPair<?> item)
+        {
+            return -item.getTwo();
+        }
+    };
+
+    private static final IntFunction<ObjectIntPair<?>> ASCENDING_OCCURRENCES = new IntFunction<ObjectIntPair<?>>()
+    {
+        public int intValueOf(ObjectIntPair<?> item)
+        {
+            return item.getTwo();
+        }
+    };
+
+    private BagIterables()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns the items with the n highest counts, highest first, including every item tied with the n-th.
+     */
+    public static <T> MutableList<ObjectIntPair<T>> topOccurrences(Bag<T> bag, int n)
+    {
+        return BagIterables.occurrencesBeyondNth(bag, n, false);
+    }
+
+    /**
+     * Returns the items with the n lowest counts, lowest first, including every item tied with the n-th.
+     */
+    public static <T> MutableList<ObjectIntPair<T>> bottomOccurrences(Bag<T> bag, int n)
+    {
+        return BagIterables.occurrencesBeyondNth(bag, n, true);
+    }
+
+    private static <T> MutableList<ObjectIntPair<T>> occurrencesBeyondNth(Bag<T> bag, int n, final boolean lowest)
+    {
+        if (n < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of n < 0");
+        }
+        int keySize = Math.min(n, bag.sizeDistinct());
+        if (keySize == 0)
+        {
+            return FastList.newList();
+        }
+
+        // Counts are negated when looking for the lowest, so the heap always keeps the greatest keys
+        CountHeap countHeap = new CountHeap(keySize, lowest);
+        bag.forEachWithOccurrences(countHeap);
+        final int threshold = countHeap.getNth();
+
+        final MutableList<ObjectIntPair<T>> result = FastList.newList(keySize);
+        bag.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (lowest ? occurrences <= threshold : occurrences >= threshold)
+                {
+                    result.add(PrimitiveTuples.pair(each, occurrences));
+                }
+            }
+        });
+        IntFunction<ObjectIntPair<?>> order = lowest ? ASCENDING_OCCURRENCES : DESCENDING_OCCURRENCES;
+        return result.sortThisByInt(order);
+    }
+
+    private static final class CountHeap implements ObjectIntProcedure<Object>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] heap;
+        private final boolean negate;
+        private int size;
+
+        private CountHeap(int capacity, boolean negate)
+        {
+            this.heap = new int[capacity];
+            this.negate = negate;
+        }
+
+        public void value(Object each, int occurrences)
+        {
+            int key = this.negate ? -occurrences : occurrences;
+            if (this.size < this.heap.length)
+            {
+                int child = this.size++;
+                while (child > 0)
+                {
+                    int parent = (child - 1) >>> 1;
+                    if (this.heap[parent] <= key)
+                    {
+                        break;
+                    }
+                    this.heap[child] = this.heap[parent];
+                    child = parent;
+                }
+                this.heap[child] = key;
+            }
+            else if (key > this.heap[0])
+            {
+                int parent = 0;
+                int half = this.size >>> 1;
+                while (parent < half)
+                {
+                    int child = 2 * parent + 1;
+                    if (child + 1 < this.size && this.heap[child + 1] < this.heap[child])
+                    {
+                        child++;
+                    }
+                    if (key <= this.heap[child])
+                    {
+                        break;
+                    }
+                    this.heap[parent] = this.heap[child];
+                    parent = child;
+                }
+                this.heap[parent] = key;
+            }
+        }
+
+        private int getNth()
+        {
+            return this.negate ? -this.heap[0] : this.heap[0];
+        }
+    }
+}
@@ -19,9 +19,12 @@
  * <p>
  *     All the iteration patterns in this package are internal. It is used by iterators specialized for various collections.
  * <p>
- *     This package contains 10 Iteration implementations:
+ *     This package contains 11 Iteration implementations:
  * <ul>
  *     <li>
+ *          {@link com.gs.collections.impl.utility.internal.BagIterables} - a class provides for bag occurrence operations.
+ *     </li>
+ *     <li>
  *          {@link com.gs.collections.impl.utility.internal.DefaultSpeciesNewStrategy} - creates a new instance of a collection based on the class type of collection.
  *     </li>
  *     <li>
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.lazy.parallel.BatchExecutorService;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * A {@link BatchExecutorService} backed by a {@link ForkJoinPool}. The batches of a parallel iterable are handed to the
+ * pool as a single task which recursively splits the list of batches in halves, so idle workers steal whole ranges of
+ * batches instead of taking them one at a time from a shared queue.
+ * <p>
+ * Parallel iterables running on this executor may be nested. When {@code submitAll} is called from a worker thread of
+ * the same pool the batches are run by the calling worker, which lets the other workers steal from it instead of
+ * blocking it on the results.
+ *
+ * <pre>
+ * ExecutorService executorService = new FJBatchExecutorService(new ForkJoinPool());
+ * long sum = list.asParallel(executorService, 10000).sumOfLong(function);
+ * </pre>
+ *
+ * @since 6.2
+ */
+@Beta
+public class FJBatchExecutorService extends AbstractExecutorService implements BatchExecutorService
+{
+    private final ForkJoinPool pool;
+
+    public FJBatchExecutorService(ForkJoinPool pool)
+    {
+        if (pool == null)
+        {
+            throw new NullPointerException();
+        }
+        this.pool = pool;
+    }
+
+    public ForkJoinPool getPool()
+    {
+        return this.pool;
+    }
+
+    public <B, V> MutableList<Future<V>> submitAll(ListIterable<B> batches, final Function<? super B, ? extends V> function)
+    {
+        MutableList<FutureTask<V>> tasks = FastList.newList(batches.size());
+        for (final B batch : batches)
+        {
+            tasks.add(new FutureTask<V>(new Callable<V>()
+            {
+                public V call()
+                {
+                    return function.valueOf(batch);
+                }
+            }));
+        }
+        if (tasks.notEmpty())
+        {
+            BatchSplitTask<V> rootTask = new BatchSplitTask<V>(tasks, 0, tasks.size());
+            if (this.isWorkerThreadOfPool())
+            {
+                rootTask.invoke();
+            }
+            else
+            {
+                this.pool.execute(rootTask);
+            }
+        }
+        return FastList.<Future<V>>newList(tasks);
+    }
+
+    private boolean isWorkerThreadOfPool()
+    {
+        Thread thread = Thread.currentThread();
+        return thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == this.pool;
+    }
+
+    public void execute(Runnable command)
+    {
+        this.pool.execute(command);
+    }
+
+    public void shutdown()
+    {
+        this.pool.shutdown();
+    }
+
+    public List<Runnable> shutdownNow()
+    {
+        return this.pool.shutdownNow();
+    }
+
+    public boolean isShutdown()
+    {
+        return this.pool.isShutdown();
+    }
+
+    public boolean isTerminated()
+    {
+        return this.pool.isTerminated();
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        return this.pool.awaitTermination(timeout, unit);
+    }
+
+    private static final class BatchSplitTask<V> extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final List<FutureTask<V>> tasks;
+        private final int fromIndex;
+        private final int toIndex;
+
+        private BatchSplitTask(List<FutureTask<V>> tasks, int fromIndex, int toIndex)
+        {
+            this.tasks = tasks;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (this.toIndex - this.fromIndex == 1)
+            {
+                // FutureTask records failures and does nothing if the batch was cancelled before it started.
+                this.tasks.get(this.fromIndex).run();
+            }
+            else
+            {
+                int middleIndex = (this.fromIndex + this.toIndex) >>> 1;
+                ForkJoinTask.invokeAll(
+                        new BatchSplitTask<V>(this.tasks, this.fromIndex, middleIndex),
+                        new BatchSplitTask<V>(this.tasks, middleIndex, this.toIndex));
+            }
+        }
+    }
+}
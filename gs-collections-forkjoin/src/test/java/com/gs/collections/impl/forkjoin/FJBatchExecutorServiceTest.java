@@ -0,0 +1,267 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FJBatchExecutorServiceTest
+{
+    private static final LongFunction<Integer> TO_LONG = new LongFunction<Integer>()
+    {
+        public long longValueOf(Integer each)
+        {
+            return each.longValue();
+        }
+    };
+
+    private final FJBatchExecutorService executorService = new FJBatchExecutorService(new ForkJoinPool(4));
+
+    @After
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdown();
+        Assert.assertTrue(this.executorService.awaitTermination(1L, TimeUnit.SECONDS));
+        Assert.assertTrue(this.executorService.isShutdown());
+        Assert.assertTrue(this.executorService.isTerminated());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void constructor_throws()
+    {
+        new FJBatchExecutorService(null);
+    }
+
+    @Test
+    public void submitAll() throws InterruptedException, ExecutionException
+    {
+        MutableList<Future<Integer>> futures = this.executorService.submitAll(Interval.oneTo(100).toList(), new Function<Integer, Integer>()
+        {
+            public Integer valueOf(Integer each)
+            {
+                return each * 2;
+            }
+        });
+        Verify.assertSize(100, futures);
+        for (int i = 0; i < futures.size(); i++)
+        {
+            Assert.assertEquals(Integer.valueOf((i + 1) * 2), futures.get(i).get());
+        }
+        Verify.assertEmpty(this.executorService.submitAll(FastList.<Integer>newList(), Functions.<Integer>getPassThru()));
+    }
+
+    @Test
+    public void submitAll_executionException() throws InterruptedException
+    {
+        MutableList<Future<Object>> futures = this.executorService.submitAll(Interval.oneTo(3).toList(), new Function<Integer, Object>()
+        {
+            public Object valueOf(Integer each)
+            {
+                throw new IllegalStateException("Execution exception " + each);
+            }
+        });
+        try
+        {
+            futures.get(1).get();
+            Assert.fail();
+        }
+        catch (ExecutionException e)
+        {
+            Assert.assertEquals("Execution exception 2", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void listAsParallel()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(20000));
+        Assert.assertEquals(list.sumOfLong(TO_LONG), list.asParallel(this.executorService, 100).sumOfLong(TO_LONG));
+        Assert.assertEquals(
+                list.select(Predicates.greaterThan(100)),
+                list.asParallel(this.executorService, 100).select(Predicates.greaterThan(100)).toList());
+        Assert.assertEquals(Integer.valueOf(15000), list.asParallel(this.executorService, 100).detect(Predicates.greaterThan(14999)));
+        Assert.assertEquals(Integer.valueOf(20000), list.asParallel(this.executorService, 100).max());
+        Assert.assertTrue(list.asParallel(this.executorService, 100).anySatisfy(Predicates.equal(12345)));
+        Assert.assertFalse(list.asParallel(this.executorService, 100).allSatisfy(Predicates.lessThan(12345)));
+        Assert.assertTrue(list.asParallel(this.executorService, 100).allSatisfy(Predicates.lessThan(20001)));
+    }
+
+    @Test
+    public void setAsParallel()
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newSet(Interval.oneTo(20000));
+        Assert.assertEquals(set.sumOfLong(TO_LONG), set.asParallel(this.executorService, 100).sumOfLong(TO_LONG));
+        MutableSet<Integer> collected = set.asParallel(this.executorService, 100).collect(Functions.<Integer>getPassThru()).toSet();
+        Assert.assertEquals(set, collected);
+        Assert.assertEquals(set, set.asParallel(this.executorService, 100).groupBy(Functions.<Integer>getPassThru()).keysView().toSet());
+    }
+
+    @Test
+    public void mapAsParallel()
+    {
+        MutableMap<Integer, Integer> map = UnifiedMap.newMap();
+        for (int i = 0; i < 10000; i++)
+        {
+            map.put(i, i * 2);
+        }
+        Assert.assertEquals(
+                map.valuesView().sumOfLong(TO_LONG),
+                ((UnifiedMap<Integer, Integer>) map).asParallel(this.executorService, 100).valuesView().sumOfLong(TO_LONG));
+    }
+
+    @Test
+    public void primitiveAsParallel()
+    {
+        IntArrayList list = new IntArrayList();
+        for (int i = 1; i <= 10000; i++)
+        {
+            list.add(i);
+        }
+        Assert.assertEquals(list.sum(), list.asParallel(this.executorService, 100).sum());
+        Assert.assertTrue(list.asParallel(this.executorService, 100).anySatisfy(new IntPredicate()
+        {
+            public boolean accept(int each)
+            {
+                return each == 9999;
+            }
+        }));
+    }
+
+    @Test
+    public void anySatisfy_stopsEarly()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(100000));
+        CountingPredicate predicate = new CountingPredicate(Predicates.equal(1));
+        Assert.assertTrue(list.asParallel(this.executorService, 100).anySatisfy(predicate));
+        Assert.assertTrue(predicate.getCount() < list.size());
+    }
+
+    @Test
+    public void allSatisfy_stopsEarly()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(100000));
+        CountingPredicate predicate = new CountingPredicate(Predicates.greaterThan(1));
+        Assert.assertFalse(list.asParallel(this.executorService, 100).allSatisfy(predicate));
+        Assert.assertTrue(predicate.getCount() < list.size());
+    }
+
+    @Test
+    public void detect_stopsEarly()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(100000));
+        CountingPredicate predicate = new CountingPredicate(Predicates.greaterThan(50));
+        Assert.assertEquals(Integer.valueOf(51), list.asParallel(this.executorService, 100).detect(predicate));
+        Assert.assertTrue(predicate.getCount() < list.size());
+    }
+
+    @Test
+    public void nestedAsParallel()
+    {
+        final FastList<Integer> inner = FastList.newList(Interval.oneTo(1000));
+        final long innerSum = inner.sumOfLong(TO_LONG);
+        final AtomicLong total = new AtomicLong();
+        Interval.oneTo(64).toList().asParallel(this.executorService, 1).forEach(new Procedure<Integer>()
+        {
+            public void value(Integer each)
+            {
+                total.addAndGet(inner.asParallel(FJBatchExecutorServiceTest.this.executorService, 10).sumOfLong(TO_LONG));
+            }
+        });
+        Assert.assertEquals(innerSum * 64L, total.get());
+    }
+
+    @Test
+    public void forEach_executionException()
+    {
+        try
+        {
+            Interval.oneTo(1000).toList().asParallel(this.executorService, 10).forEach(new Procedure<Integer>()
+            {
+                public void value(Integer each)
+                {
+                    throw new RuntimeException("Execution exception");
+                }
+            });
+            Assert.fail();
+        }
+        catch (RuntimeException e)
+        {
+            ExecutionException executionException = (ExecutionException) e.getCause();
+            Assert.assertEquals("Execution exception", executionException.getCause().getMessage());
+        }
+    }
+
+    private static final class CountingPredicate implements Predicate<Integer>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super Integer> predicate;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private CountingPredicate(Predicate<? super Integer> predicate)
+        {
+            this.predicate = predicate;
+        }
+
+        public boolean accept(Integer each)
+        {
+            this.count.incrementAndGet();
+            return this.predicate.accept(each);
+        }
+
+        public int getCount()
+        {
+            return this.count.get();
+        }
+    }
+
+    @Test
+    public void submit() throws InterruptedException, ExecutionException
+    {
+        Assert.assertEquals("result", this.executorService.submit(new Runnable()
+        {
+            public void run()
+            {
+            }
+        }, "result").get());
+        Assert.assertFalse(this.executorService.getPool().isShutdown());
+    }
+}
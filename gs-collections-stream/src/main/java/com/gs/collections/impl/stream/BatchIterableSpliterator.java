@@ -0,0 +1,159 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.parallel.BatchIterable;
+
+/**
+ * A Spliterator over the hash table of a UnifiedSet or UnifiedMap. The table is divided into one section per slot
+ * ({@code getBatchCount(1)}), and the spliterator splits its range of sections in halves. Since the table length is a
+ * power of two, the ranges stay aligned, and the remaining elements are traversed with as few calls to
+ * {@link BatchIterable#batchForEach(Procedure, int, int)} as possible.
+ * <p>
+ * Like the spliterator of {@link java.util.HashMap}, only the unsplit spliterator reports {@link #SIZED}. After a split
+ * the size of each half is an estimate. The table must not be rehashed while it is traversed.
+ *
+ * @since 6.2
+ */
+public final class BatchIterableSpliterator<T> implements Spliterator<T>
+{
+    private final BatchIterable<T> iterable;
+    private final int sectionCount;
+    private final int fence;
+    private final int characteristics;
+    private int section;
+    private long estimatedSize;
+    private boolean sized;
+
+    private FastList<T> buffer;
+    private int bufferIndex;
+
+    public BatchIterableSpliterator(BatchIterable<T> iterable, int characteristics)
+    {
+        this.iterable = iterable;
+        this.sectionCount = iterable.getBatchCount(1);
+        this.section = 0;
+        this.fence = this.sectionCount;
+        this.estimatedSize = (long) iterable.size();
+        this.sized = true;
+        this.characteristics = characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    private BatchIterableSpliterator(
+            BatchIterable<T> iterable,
+            int sectionCount,
+            int origin,
+            int fence,
+            long estimatedSize,
+            int characteristics)
+    {
+        this.iterable = iterable;
+        this.sectionCount = sectionCount;
+        this.section = origin;
+        this.fence = fence;
+        this.estimatedSize = estimatedSize;
+        this.sized = false;
+        this.characteristics = characteristics;
+    }
+
+    public boolean tryAdvance(Consumer<? super T> action)
+    {
+        while (this.buffer == null || this.bufferIndex == this.buffer.size())
+        {
+            if (this.section >= this.fence)
+            {
+                return false;
+            }
+            if (this.buffer == null)
+            {
+                this.buffer = FastList.newList();
+            }
+            this.buffer.clear();
+            this.bufferIndex = 0;
+            this.iterable.batchForEach(this.buffer::add, this.section++, this.sectionCount);
+        }
+        action.accept(this.buffer.get(this.bufferIndex++));
+        if (this.sized)
+        {
+            this.estimatedSize--;
+        }
+        return true;
+    }
+
+    public void forEachRemaining(Consumer<? super T> action)
+    {
+        if (this.buffer != null)
+        {
+            for (int i = this.bufferIndex; i < this.buffer.size(); i++)
+            {
+                action.accept(this.buffer.get(i));
+            }
+            this.buffer = null;
+        }
+
+        Procedure<T> procedure = action::accept;
+        int lo = this.section;
+        int hi = this.fence;
+        this.section = hi;
+        while (lo < hi)
+        {
+            int length = 1;
+            while (lo % (length << 1) == 0 && lo + (length << 1) <= hi && this.sectionCount % (length << 1) == 0)
+            {
+                length <<= 1;
+            }
+            this.iterable.batchForEach(procedure, lo / length, this.sectionCount / length);
+            lo += length;
+        }
+        this.estimatedSize = 0L;
+    }
+
+    public Spliterator<T> trySplit()
+    {
+        int origin = this.section;
+        int middle = (origin + this.fence) >>> 1;
+        if (origin >= middle)
+        {
+            return null;
+        }
+        this.section = middle;
+        this.sized = false;
+        this.estimatedSize >>>= 1;
+        return new BatchIterableSpliterator<>(
+                this.iterable,
+                this.sectionCount,
+                origin,
+                middle,
+                this.estimatedSize,
+                this.characteristics);
+    }
+
+    public long estimateSize()
+    {
+        return this.estimatedSize;
+    }
+
+    public int characteristics()
+    {
+        return this.sized ? this.characteristics | Spliterator.SIZED : this.characteristics;
+    }
+}
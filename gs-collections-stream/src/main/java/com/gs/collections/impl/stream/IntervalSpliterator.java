@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import com.gs.collections.impl.list.Interval;
+
+/**
+ * A Spliterator.OfInt over an {@link Interval}. Elements are computed from the first element and the step, so
+ * splitting and traversal never box and never touch the Interval again after the spliterator is created.
+ *
+ * @since 6.2
+ */
+public final class IntervalSpliterator implements Spliterator.OfInt
+{
+    private static final int CHARACTERISTICS = Spliterator.ORDERED
+            | Spliterator.SIZED
+            | Spliterator.SUBSIZED
+            | Spliterator.IMMUTABLE
+            | Spliterator.NONNULL
+            | Spliterator.DISTINCT;
+
+    private final int first;
+    private final int step;
+    private final int fence;
+    private int index;
+
+    public IntervalSpliterator(Interval interval)
+    {
+        int size = interval.size();
+        this.first = size == 0 ? 0 : interval.getFirst();
+        this.step = size < 2 ? 1 : interval.get(1) - this.first;
+        this.index = 0;
+        this.fence = size;
+    }
+
+    private IntervalSpliterator(int first, int step, int origin, int fence)
+    {
+        this.first = first;
+        this.step = step;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    public boolean tryAdvance(IntConsumer action)
+    {
+        if (this.index < this.fence)
+        {
+            action.accept(this.first + this.step * this.index++);
+            return true;
+        }
+        return false;
+    }
+
+    public void forEachRemaining(IntConsumer action)
+    {
+        int to = this.fence;
+        for (int i = this.index; i < to; i++)
+        {
+            action.accept(this.first + this.step * i);
+        }
+        this.index = to;
+    }
+
+    public Spliterator.OfInt trySplit()
+    {
+        int origin = this.index;
+        int middle = (origin + this.fence) >>> 1;
+        if (origin >= middle)
+        {
+            return null;
+        }
+        this.index = middle;
+        return new IntervalSpliterator(this.first, this.step, origin, middle);
+    }
+
+    public long estimateSize()
+    {
+        return (long) (this.fence - this.index);
+    }
+
+    public int characteristics()
+    {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+import com.gs.collections.api.list.primitive.LongList;
+
+/**
+ * A Spliterator.OfLong over a range of indexes of a LongList, such as a LongArrayList. It splits the range in halves,
+ * so every part knows its exact size, and it never boxes.
+ * <p>
+ * The range is fixed when the spliterator is created, so the list must not change size while it is traversed.
+ *
+ * @since 6.2
+ */
+public final class LongListSpliterator implements Spliterator.OfLong
+{
+    private static final int CHARACTERISTICS = Spliterator.ORDERED
+            | Spliterator.SIZED
+            | Spliterator.SUBSIZED
+            | Spliterator.NONNULL;
+
+    private final LongList list;
+    private final int fence;
+    private int index;
+
+    public LongListSpliterator(LongList list)
+    {
+        this(list, 0, list.size());
+    }
+
+    private LongListSpliterator(LongList list, int origin, int fence)
+    {
+        this.list = list;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    public boolean tryAdvance(LongConsumer action)
+    {
+        if (this.index < this.fence)
+        {
+            action.accept(this.list.get(this.index++));
+            return true;
+        }
+        return false;
+    }
+
+    public void forEachRemaining(LongConsumer action)
+    {
+        int to = this.fence;
+        for (int i = this.index; i < to; i++)
+        {
+            action.accept(this.list.get(i));
+        }
+        this.index = to;
+    }
+
+    public Spliterator.OfLong trySplit()
+    {
+        int origin = this.index;
+        int middle = (origin + this.fence) >>> 1;
+        if (origin >= middle)
+        {
+            return null;
+        }
+        this.index = middle;
+        return new LongListSpliterator(this.list, origin, middle);
+    }
+
+    public long estimateSize()
+    {
+        return (long) (this.fence - this.index);
+    }
+
+    public int characteristics()
+    {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.gs.collections.api.ordered.OrderedIterable;
+
+/**
+ * A Spliterator over a range of indexes of a {@link RandomAccess} list, such as a FastList. It splits the range in
+ * halves, so every part knows its exact size. When the list is an {@link OrderedIterable}, the remaining elements are
+ * traversed with {@link OrderedIterable#forEach(int, int, com.gs.collections.api.block.procedure.Procedure)}, which
+ * runs over the backing array of the list instead of calling {@code get} for each index.
+ * <p>
+ * The range is fixed when the spliterator is created, so the list must not change size while it is traversed.
+ *
+ * @since 6.2
+ */
+public final class RandomAccessListSpliterator<T> implements Spliterator<T>
+{
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+    private final List<T> list;
+    private final int fence;
+    private int index;
+
+    public RandomAccessListSpliterator(List<T> list)
+    {
+        if (!(list instanceof RandomAccess))
+        {
+            throw new IllegalArgumentException("Expected a RandomAccess list but was " + list.getClass().getSimpleName());
+        }
+        this.list = list;
+        this.index = 0;
+        this.fence = list.size();
+    }
+
+    private RandomAccessListSpliterator(List<T> list, int origin, int fence)
+    {
+        this.list = list;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    public boolean tryAdvance(Consumer<? super T> action)
+    {
+        if (this.index < this.fence)
+        {
+            action.accept(this.list.get(this.index++));
+            return true;
+        }
+        return false;
+    }
+
+    public void forEachRemaining(Consumer<? super T> action)
+    {
+        int from = this.index;
+        int to = this.fence;
+        if (from >= to)
+        {
+            return;
+        }
+        this.index = to;
+        if (this.list instanceof OrderedIterable)
+        {
+            ((OrderedIterable<T>) this.list).forEach(from, to - 1, action::accept);
+        }
+        else
+        {
+            for (int i = from; i < to; i++)
+            {
+                action.accept(this.list.get(i));
+            }
+        }
+    }
+
+    public Spliterator<T> trySplit()
+    {
+        int origin = this.index;
+        int middle = (origin + this.fence) >>> 1;
+        if (origin >= middle)
+        {
+            return null;
+        }
+        this.index = middle;
+        return new RandomAccessListSpliterator<>(this.list, origin, middle);
+    }
+
+    public long estimateSize()
+    {
+        return (long) (this.fence - this.index);
+    }
+
+    public int characteristics()
+    {
+        return CHARACTERISTICS;
+    }
+}
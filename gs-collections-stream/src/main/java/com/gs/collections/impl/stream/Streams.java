@@ -0,0 +1,165 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.gs.collections.api.DoubleIterable;
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.LongIterable;
+import com.gs.collections.api.list.primitive.DoubleList;
+import com.gs.collections.api.list.primitive.IntList;
+import com.gs.collections.api.list.primitive.LongList;
+import com.gs.collections.api.set.primitive.DoubleSet;
+import com.gs.collections.api.set.primitive.IntSet;
+import com.gs.collections.api.set.primitive.LongSet;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy;
+import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrategy;
+
+/**
+ * The Streams class creates size-aware, splittable {@link Spliterator}s for GS Collections, and sequential or parallel
+ * {@link Stream}s on top of them.
+ * <p>
+ * Random access lists such as FastList split by index range, UnifiedSet and UnifiedMap split their hash tables, and
+ * Interval and the int, long and double lists are traversed without boxing. Other primitive iterables, such as the
+ * primitive hash sets and the values of primitive maps, are copied to an array first, which costs one pass but splits
+ * perfectly. All other iterables use their own {@link Iterable#spliterator()}.
+ *
+ * @since 6.2
+ */
+public final class Streams
+{
+    private Streams()
+    {
+        // utility class only
+    }
+
+    public static <T> Spliterator<T> spliterator(Iterable<T> iterable)
+    {
+        if (iterable instanceof Interval)
+        {
+            return (Spliterator<T>) new IntervalSpliterator((Interval) iterable);
+        }
+        if (iterable instanceof List && iterable instanceof RandomAccess)
+        {
+            return new RandomAccessListSpliterator<>((List<T>) iterable);
+        }
+        if (iterable instanceof UnifiedSet || iterable instanceof UnifiedSetWithHashingStrategy)
+        {
+            return new BatchIterableSpliterator<>((BatchIterable<T>) iterable, Spliterator.DISTINCT);
+        }
+        if (iterable instanceof UnifiedMap || iterable instanceof UnifiedMapWithHashingStrategy)
+        {
+            return new BatchIterableSpliterator<>((BatchIterable<T>) iterable, 0);
+        }
+        return iterable.spliterator();
+    }
+
+    public static <T> Stream<T> stream(Iterable<T> iterable)
+    {
+        return StreamSupport.stream(Streams.spliterator(iterable), false);
+    }
+
+    public static <T> Stream<T> parallelStream(Iterable<T> iterable)
+    {
+        return StreamSupport.stream(Streams.spliterator(iterable), true);
+    }
+
+    public static Spliterator.OfInt intSpliterator(Interval interval)
+    {
+        return new IntervalSpliterator(interval);
+    }
+
+    public static IntStream intStream(Interval interval)
+    {
+        return StreamSupport.intStream(Streams.intSpliterator(interval), false);
+    }
+
+    public static IntStream parallelIntStream(Interval interval)
+    {
+        return StreamSupport.intStream(Streams.intSpliterator(interval), true);
+    }
+
+    public static Spliterator.OfInt intSpliterator(IntIterable iterable)
+    {
+        if (iterable instanceof IntList)
+        {
+            return new IntListSpliterator((IntList) iterable);
+        }
+        return Spliterators.spliterator(iterable.toArray(), iterable instanceof IntSet ? Spliterator.DISTINCT : 0);
+    }
+
+    public static IntStream intStream(IntIterable iterable)
+    {
+        return StreamSupport.intStream(Streams.intSpliterator(iterable), false);
+    }
+
+    public static IntStream parallelIntStream(IntIterable iterable)
+    {
+        return StreamSupport.intStream(Streams.intSpliterator(iterable), true);
+    }
+
+    public static Spliterator.OfLong longSpliterator(LongIterable iterable)
+    {
+        if (iterable instanceof LongList)
+        {
+            return new LongListSpliterator((LongList) iterable);
+        }
+        return Spliterators.spliterator(iterable.toArray(), iterable instanceof LongSet ? Spliterator.DISTINCT : 0);
+    }
+
+    public static LongStream longStream(LongIterable iterable)
+    {
+        return StreamSupport.longStream(Streams.longSpliterator(iterable), false);
+    }
+
+    public static LongStream parallelLongStream(LongIterable iterable)
+    {
+        return StreamSupport.longStream(Streams.longSpliterator(iterable), true);
+    }
+
+    public static Spliterator.OfDouble doubleSpliterator(DoubleIterable iterable)
+    {
+        if (iterable instanceof DoubleList)
+        {
+            return new DoubleListSpliterator((DoubleList) iterable);
+        }
+        return Spliterators.spliterator(iterable.toArray(), iterable instanceof DoubleSet ? Spliterator.DISTINCT : 0);
+    }
+
+    public static DoubleStream doubleStream(DoubleIterable iterable)
+    {
+        return StreamSupport.doubleStream(Streams.doubleSpliterator(iterable), false);
+    }
+
+    public static DoubleStream parallelDoubleStream(DoubleIterable iterable)
+    {
+        return StreamSupport.doubleStream(Streams.doubleSpliterator(iterable), true);
+    }
+}
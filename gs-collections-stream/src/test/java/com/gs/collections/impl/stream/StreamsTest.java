@@ -0,0 +1,177 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import com.gs.collections.api.block.HashingStrategy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.IntIntHashMap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import com.gs.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrategy;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StreamsTest
+{
+    @Test
+    public void fastList()
+    {
+        MutableList<Integer> list = Interval.oneTo(10000).toList();
+        Spliterator<Integer> spliterator = Streams.spliterator(list);
+        Assert.assertTrue(spliterator instanceof RandomAccessListSpliterator);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Assert.assertEquals(10000L, spliterator.getExactSizeIfKnown());
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertEquals(5000L, prefix.getExactSizeIfKnown());
+        Assert.assertEquals(5000L, spliterator.getExactSizeIfKnown());
+        Assert.assertTrue(prefix.tryAdvance(each -> Assert.assertEquals(Integer.valueOf(1), each)));
+        Assert.assertEquals(4999L, prefix.estimateSize());
+
+        Assert.assertEquals(list, Streams.parallelStream(list).collect(Collectors.toList()));
+        Assert.assertEquals(50005000L, Streams.parallelStream(list).mapToLong(Integer::longValue).sum());
+        Assert.assertEquals(list.select(each -> each % 3 == 0), Streams.stream(list).filter(each -> each % 3 == 0).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void interval()
+    {
+        Interval interval = Interval.fromToBy(10, -10, -3);
+        Assert.assertEquals(interval, Streams.stream(interval).collect(Collectors.toList()));
+        Assert.assertArrayEquals(new int[]{10, 7, 4, 1, -2, -5, -8}, Streams.parallelIntStream(interval).toArray());
+        Assert.assertEquals(50005000L, Streams.parallelIntStream(Interval.oneTo(10000)).asLongStream().sum());
+        Assert.assertArrayEquals(new int[]{5}, Streams.intStream(Interval.fromTo(5, 5)).toArray());
+
+        Spliterator.OfInt spliterator = Streams.intSpliterator(Interval.oneTo(7));
+        Spliterator.OfInt prefix = spliterator.trySplit();
+        Assert.assertEquals(3L, prefix.estimateSize());
+        Assert.assertEquals(4L, spliterator.estimateSize());
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT | Spliterator.NONNULL));
+    }
+
+    @Test
+    public void unifiedSet()
+    {
+        MutableSet<Integer> set = UnifiedSet.newSet(Interval.oneTo(10000));
+        Spliterator<Integer> spliterator = Streams.spliterator(set);
+        Assert.assertTrue(spliterator instanceof BatchIterableSpliterator);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(10000L, spliterator.getExactSizeIfKnown());
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(5000L, prefix.estimateSize());
+
+        MutableSet<Integer> seen = UnifiedSet.newSet();
+        Assert.assertTrue(prefix.tryAdvance(seen::add));
+        Assert.assertTrue(spliterator.tryAdvance(seen::add));
+        Spliterator<Integer> middle = spliterator.trySplit();
+        middle.forEachRemaining(seen::add);
+        prefix.forEachRemaining(seen::add);
+        spliterator.forEachRemaining(seen::add);
+        Assert.assertFalse(spliterator.tryAdvance(seen::add));
+        Assert.assertEquals(set, seen);
+
+        Assert.assertEquals(set, Streams.parallelStream(set).collect(Collectors.toSet()));
+        Assert.assertEquals(50005000L, Streams.parallelStream(set).mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    public void unifiedSetWithCollisions()
+    {
+        MutableSet<String> set = UnifiedSetWithHashingStrategy.newSet(new HashingStrategy<String>()
+        {
+            public int computeHashCode(String object)
+            {
+                return object.length();
+            }
+
+            public boolean equals(String object1, String object2)
+            {
+                return object1.equals(object2);
+            }
+        });
+        for (int i = 0; i < 100; i++)
+        {
+            set.add("x" + i);
+        }
+        Assert.assertEquals(set, Streams.parallelStream(set).collect(Collectors.toSet()));
+        Assert.assertEquals(100L, Streams.stream(set).count());
+    }
+
+    @Test
+    public void unifiedMap()
+    {
+        MutableMap<Integer, String> map = UnifiedMap.newMap();
+        Interval.oneTo(1000).each(each -> map.put(each, String.valueOf(each)));
+        Spliterator<String> spliterator = Streams.spliterator(map);
+        Assert.assertEquals(1000L, spliterator.getExactSizeIfKnown());
+        Assert.assertEquals(HashBag.newBag(map.values()), HashBag.newBag(Streams.parallelStream(map).collect(Collectors.toList())));
+        Assert.assertEquals(0L, Streams.stream(UnifiedMap.newMap()).count());
+    }
+
+    @Test
+    public void fallsBackToTheSpliteratorOfTheIterable()
+    {
+        HashBag<Integer> bag = HashBag.newBagWith(1, 1, 2, 3);
+        Assert.assertEquals(bag, HashBag.newBag(Streams.parallelStream(bag).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void primitiveLists()
+    {
+        IntArrayList ints = IntArrayList.newListWith(1, 2, 3, 4, 5);
+        Spliterator.OfInt spliterator = Streams.intSpliterator(ints);
+        Assert.assertTrue(spliterator instanceof IntListSpliterator);
+        Assert.assertEquals(2L, spliterator.trySplit().estimateSize());
+        Assert.assertArrayEquals(ints.toArray(), Streams.parallelIntStream(ints).toArray());
+        Assert.assertEquals(15, Streams.intStream(ints).sum());
+
+        LongArrayList longs = LongArrayList.newListWith(1L, 2L, 3L);
+        Assert.assertArrayEquals(longs.toArray(), Streams.parallelLongStream(longs).toArray());
+
+        DoubleArrayList doubles = DoubleArrayList.newListWith(1.5, 2.5);
+        Assert.assertEquals(4.0, Streams.parallelDoubleStream(doubles).sum(), 0.0);
+    }
+
+    @Test
+    public void primitiveHashSetsAndMaps()
+    {
+        IntHashSet set = IntHashSet.newSet(IntArrayList.newListWith(Interval.oneTo(1000).toIntArray()));
+        Spliterator.OfInt spliterator = Streams.intSpliterator(set);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(500500, Streams.parallelIntStream(set).sum());
+
+        LongHashSet longs = LongHashSet.newSetWith(1L, 2L, 3L);
+        Assert.assertEquals(6L, Streams.parallelLongStream(longs).sum());
+
+        IntIntHashMap map = IntIntHashMap.newWithKeysValues(1, 10, 2, 20, 3, 30);
+        Assert.assertEquals(60, Streams.parallelIntStream(map).sum());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the throughput of maps shared by several threads. Each operation is a get, or a write with probability
+ * {@code writePercent}; writes alternate between put and remove, so the map keeps changing structurally. The groups
+ * run the same operations with 1, 2, 4 and 8 threads, and more threads can be added with the thread groups option
+ * ({@code -tg}).
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConcurrentMapContentionTest
+{
+    @Param({"JDK_CONCURRENT", "GSC_CONCURRENT", "GSC_CONCURRENT_UNSAFE", "GSC_SYNCHRONIZED"})
+    public String implementation;
+    @Param({"0", "5", "50"})
+    public int writePercent;
+    @Param({"UNIFORM", "ZIPFIAN"})
+    public String distribution;
+    @Param({"1000", "1000000"})
+    public int size;
+    private Map<Integer, Integer> map;
+    private KeySequence sequence;
+
+    @Setup
+    public void setUp()
+    {
+        this.map = this.newMap();
+        this.sequence = new KeySequence(this.size, this.distribution, this.writePercent);
+        for (Integer key : this.sequence.keys())
+        {
+            this.map.put(key, key);
+        }
+    }
+
+    private Map<Integer, Integer> newMap()
+    {
+        if ("JDK_CONCURRENT".equals(this.implementation))
+        {
+            return new java.util.concurrent.ConcurrentHashMap<>(this.size);
+        }
+        if ("GSC_CONCURRENT".equals(this.implementation))
+        {
+            return ConcurrentHashMap.newMap(this.size);
+        }
+        if ("GSC_CONCURRENT_UNSAFE".equals(this.implementation))
+        {
+            return ConcurrentHashMapUnsafe.newMap(this.size);
+        }
+        if ("GSC_SYNCHRONIZED".equals(this.implementation))
+        {
+            return UnifiedMap.<Integer, Integer>newMap(this.size).asSynchronized();
+        }
+        throw new IllegalArgumentException(this.implementation);
+    }
+
+    private Integer operate(Cursor cursor)
+    {
+        int index = cursor.index++;
+        Integer key = this.sequence.key(index);
+        if (this.sequence.isWrite(index))
+        {
+            return (index & 1) == 0 ? this.map.put(key, key) : this.map.remove(key);
+        }
+        return this.map.get(key);
+    }
+
+    @Benchmark
+    @Group("threads1")
+    @GroupThreads(1)
+    public Integer threads1(Cursor cursor)
+    {
+        return this.operate(cursor);
+    }
+
+    @Benchmark
+    @Group("threads2")
+    @GroupThreads(2)
+    public Integer threads2(Cursor cursor)
+    {
+        return this.operate(cursor);
+    }
+
+    @Benchmark
+    @Group("threads4")
+    @GroupThreads(4)
+    public Integer threads4(Cursor cursor)
+    {
+        return this.operate(cursor);
+    }
+
+    @Benchmark
+    @Group("threads8")
+    @GroupThreads(8)
+    public Integer threads8(Cursor cursor)
+    {
+        return this.operate(cursor);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor
+    {
+        private int index;
+
+        @Setup
+        public void setUp()
+        {
+            this.index = KeySequence.start();
+        }
+    }
+}
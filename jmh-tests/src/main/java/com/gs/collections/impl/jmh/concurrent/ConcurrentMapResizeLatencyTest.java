@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the latency of single puts into maps which are not presized, so they resize all the way from the default
+ * capacity while several threads put into them. Once a map holds {@code size} keys it is replaced by an empty one, so
+ * every iteration keeps resizing. Compare the 0.99 and 0.999 percentiles: GSC_CONCURRENT resizes in chunks, while
+ * GSC_CONCURRENT_UNSAFE keeps the resize in which the thread that starts it copies the whole table.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConcurrentMapResizeLatencyTest
+{
+    @Param({"JDK_CONCURRENT", "GSC_CONCURRENT", "GSC_CONCURRENT_UNSAFE"})
+    public String implementation;
+    @Param({"100000", "1000000"})
+    public int size;
+    private Integer[] keys;
+    private final AtomicLong puts = new AtomicLong();
+    private volatile Map<Integer, Integer> map;
+
+    @Setup
+    public void setUp()
+    {
+        this.keys = new Integer[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            this.keys[i] = i;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration()
+    {
+        this.puts.set(0L);
+        this.map = this.newMap();
+    }
+
+    private Map<Integer, Integer> newMap()
+    {
+        if ("JDK_CONCURRENT".equals(this.implementation))
+        {
+            return new java.util.concurrent.ConcurrentHashMap<>();
+        }
+        if ("GSC_CONCURRENT".equals(this.implementation))
+        {
+            return ConcurrentHashMap.newMap();
+        }
+        if ("GSC_CONCURRENT_UNSAFE".equals(this.implementation))
+        {
+            return ConcurrentHashMapUnsafe.newMap();
+        }
+        throw new IllegalArgumentException(this.implementation);
+    }
+
+    private Integer put()
+    {
+        long put = this.puts.getAndIncrement();
+        int index = (int) (put % this.size);
+        if (index == 0 && put > 0L)
+        {
+            // threads which are still putting into the full map are harmless; their puts are discarded with it
+            this.map = this.newMap();
+        }
+        Integer key = this.keys[index];
+        return this.map.put(key, key);
+    }
+
+    @Benchmark
+    @Group("threads1")
+    @GroupThreads(1)
+    public Integer threads1()
+    {
+        return this.put();
+    }
+
+    @Benchmark
+    @Group("threads2")
+    @GroupThreads(2)
+    public Integer threads2()
+    {
+        return this.put();
+    }
+
+    @Benchmark
+    @Group("threads4")
+    @GroupThreads(4)
+    public Integer threads4()
+    {
+        return this.put();
+    }
+
+    @Benchmark
+    @Group("threads8")
+    @GroupThreads(8)
+    public Integer threads8()
+    {
+        return this.put();
+    }
+}
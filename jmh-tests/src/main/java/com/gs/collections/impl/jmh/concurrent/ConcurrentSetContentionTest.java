@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.concurrent;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.set.mutable.MultiReaderUnifiedSet;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The set counterpart of {@link ConcurrentMapContentionTest}. Each operation is a contains, or a write with
+ * probability {@code writePercent}; writes alternate between add and remove.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConcurrentSetContentionTest
+{
+    @Param({"JDK_CONCURRENT", "GSC_MULTI_READER", "GSC_MULTI_READER_STRIPED", "GSC_SYNCHRONIZED"})
+    public String implementation;
+    @Param({"0", "5", "50"})
+    public int writePercent;
+    @Param({"UNIFORM", "ZIPFIAN"})
+    public String distribution;
+    @Param({"1000", "1000000"})
+    public int size;
+    private Set<Integer> set;
+    private KeySequence sequence;
+
+    @Setup
+    public void setUp()
+    {
+        this.set = this.newSet();
+        this.sequence = new KeySequence(this.size, this.distribution, this.writePercent);
+        Collections.addAll(this.set, this.sequence.keys());
+    }
+
+    private Set<Integer> newSet()
+    {
+        if ("JDK_CONCURRENT".equals(this.implementation))
+        {
+            return ConcurrentHashMap.newKeySet(this.size);
+        }
+        if ("GSC_MULTI_READER".equals(this.implementation))
+        {
+            return MultiReaderUnifiedSet.newSet(this.size);
+        }
+        if ("GSC_MULTI_READER_STRIPED".equals(this.implementation))
+        {
+            return MultiReaderUnifiedSet.newStripedSet();
+        }
+        if ("GSC_SYNCHRONIZED".equals(this.implementation))
+        {
+            return UnifiedSet.<Integer>newSet(this.size).asSynchronized();
+        }
+        throw new IllegalArgumentException(this.implementation);
+    }
+
+    private boolean operate(Cursor cursor)
+    {
+        int index = cursor.index++;
+        Integer key = this.sequence.key(index);
+        if (this.sequence.isWrite(index))
+        {
+            return (index & 1) == 0 ? this.set.add(key) : this.set.remove(key);
+        }
+        return this.set.contains(key);
+    }
+
+    @Benchmark
+    @Group("threads1")
+    @GroupThreads(1)
+    public boolean threads1(Cursor cursor)
+    {
+        return this.operate(cursor);
+    }
+
+    @Benchmark
+    @Group("threads2")
+    @GroupThreads(2)
+    public boolean threads2(Cursor cursor)
+    {
+        return this.operate(cursor);
+    }
+
+    @Benchmark
+    @Group("threads4")
+    @GroupThreads(4)
+    public boolean threads4(Cursor cursor)
+    {
+        return this.operate(cursor);
+    }
+
+    @Benchmark
+    @Group("threads8")
+    @GroupThreads(8)
+    public boolean threads8(Cursor cursor)
+    {
+        return this.operate(cursor);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor
+    {
+        private int index;
+
+        @Setup
+        public void setUp()
+        {
+            this.index = KeySequence.start();
+        }
+    }
+}
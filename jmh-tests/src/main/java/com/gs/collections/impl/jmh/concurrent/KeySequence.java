@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.concurrent;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The keys and the sequence of operations shared by the threads of a contention benchmark. The sequence is computed
+ * up front, so that the benchmarks measure the collection rather than the random number generator. Each thread walks
+ * it from its own starting point.
+ */
+final class KeySequence
+{
+    private static final int LENGTH = 1 << 18;
+    private static final int MASK = LENGTH - 1;
+    private static final double ZIPFIAN_CONSTANT = 0.99;
+
+    private final Integer[] keys;
+    private final int[] ranks = new int[LENGTH];
+    private final boolean[] writes = new boolean[LENGTH];
+
+    KeySequence(int size, String distribution, int writePercent)
+    {
+        Random random = new Random(123456789012345L);
+
+        this.keys = new Integer[size];
+        for (int i = 0; i < size; i++)
+        {
+            this.keys[i] = i;
+        }
+        // Scatter the hot keys of the Zipfian distribution across the table
+        for (int i = size - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            Integer swap = this.keys[i];
+            this.keys[i] = this.keys[j];
+            this.keys[j] = swap;
+        }
+
+        if ("UNIFORM".equals(distribution))
+        {
+            for (int i = 0; i < LENGTH; i++)
+            {
+                this.ranks[i] = random.nextInt(size);
+            }
+        }
+        else if ("ZIPFIAN".equals(distribution))
+        {
+            this.fillZipfian(size, random);
+        }
+        else
+        {
+            throw new IllegalArgumentException(distribution);
+        }
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            this.writes[i] = random.nextInt(100) < writePercent;
+        }
+    }
+
+    /**
+     * The Zipfian generator of Gray et al., "Quickly Generating Billion-Record Synthetic Databases", as used by YCSB.
+     */
+    private void fillZipfian(int size, Random random)
+    {
+        double zetan = 0.0;
+        for (int i = 1; i <= size; i++)
+        {
+            zetan += 1.0 / Math.pow(i, ZIPFIAN_CONSTANT);
+        }
+        double zeta2 = 1.0 + 1.0 / Math.pow(2.0, ZIPFIAN_CONSTANT);
+        double alpha = 1.0 / (1.0 - ZIPFIAN_CONSTANT);
+        double eta = (1.0 - Math.pow(2.0 / size, 1.0 - ZIPFIAN_CONSTANT)) / (1.0 - zeta2 / zetan);
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            double u = random.nextDouble();
+            double uz = u * zetan;
+            if (uz < 1.0)
+            {
+                this.ranks[i] = 0;
+            }
+            else if (uz < 1.0 + Math.pow(0.5, ZIPFIAN_CONSTANT))
+            {
+                this.ranks[i] = Math.min(1, size - 1);
+            }
+            else
+            {
+                this.ranks[i] = Math.min((int) (size * Math.pow(eta * u - eta + 1.0, alpha)), size - 1);
+            }
+        }
+    }
+
+    Integer[] keys()
+    {
+        return this.keys;
+    }
+
+    Integer key(int index)
+    {
+        return this.keys[this.ranks[index & MASK]];
+    }
+
+    boolean isWrite(int index)
+    {
+        return this.writes[index & MASK];
+    }
+
+    static int start()
+    {
+        return ThreadLocalRandom.current().nextInt(LENGTH);
+    }
+}
@@ -509,6 +509,16 @@ public class LazyIterableTestHelper<T> implements LazyIterable<T>
         return null;
     }
 
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return null;
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return null;
+    }
+
     @Override
     public long sumOfInt(IntFunction<? super T> function)
     {
@@ -594,6 +594,28 @@ public abstract class AbstractRichIterableTestCase
         Assert.assertEquals(Integer.valueOf(3), this.newWith(1, 3, 2).maxBy(String::valueOf));
     }
 
+    @Test
+    public void topKBy()
+    {
+        RichIterable<Integer> integers = this.newWith(1, 4, 3, 2);
+        Assert.assertEquals(Lists.mutable.with(4, 3), integers.topKBy(2, Functions.getIntegerPassThru()));
+        Assert.assertEquals(Lists.mutable.with(1, 2, 3), integers.topKBy(3, each -> -each));
+        Assert.assertEquals(Lists.mutable.with(4, 3, 2, 1), integers.topKBy(Integer.MAX_VALUE, String::valueOf));
+        Verify.assertEmpty(integers.topKBy(0, Functions.getIntegerPassThru()));
+        Verify.assertThrows(IllegalArgumentException.class, () -> integers.topKBy(-1, Functions.getIntegerPassThru()));
+    }
+
+    @Test
+    public void bottomKBy()
+    {
+        RichIterable<Integer> integers = this.newWith(1, 4, 3, 2);
+        Assert.assertEquals(Lists.mutable.with(1, 2), integers.bottomKBy(2, Functions.getIntegerPassThru()));
+        Assert.assertEquals(Lists.mutable.with(4, 3, 2), integers.bottomKBy(3, each -> -each));
+        Assert.assertEquals(Lists.mutable.with(1, 2, 3, 4), integers.bottomKBy(Integer.MAX_VALUE, String::valueOf));
+        Verify.assertEmpty(integers.bottomKBy(0, Functions.getIntegerPassThru()));
+        Verify.assertThrows(IllegalArgumentException.class, () -> integers.bottomKBy(-1, Functions.getIntegerPassThru()));
+    }
+
     @Test(expected = NullPointerException.class)
     public void minBy_null_throws()
     {
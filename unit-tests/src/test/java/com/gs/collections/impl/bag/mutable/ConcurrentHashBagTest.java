@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.mutable;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.tuple.primitive.ObjectIntPair;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    @Override
+    protected <T> MutableBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (ObjectIntPair<T> itemToAdd : elementsWithOccurrences)
+        {
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Test
+    public void newBagFromIterableAndBag()
+    {
+        assertBagsEqual(
+                HashBag.newBagWith(1, 2, 2, 3, 3, 3),
+                ConcurrentHashBag.newBag(Interval.fromTo(1, 3).flatCollect(each -> Interval.fromTo(1, each).collect(i -> each))));
+        Assert.assertEquals(
+                HashBag.newBagWith(null, 2, 2, 3, 3, 3),
+                ConcurrentHashBag.newBag(HashBag.newBagWith(null, 2, 2, 3, 3, 3)));
+        Verify.assertInstanceOf(ConcurrentHashBag.class, ConcurrentHashBag.newBag().newEmpty());
+    }
+
+    @Test
+    public void removeToZeroAndAddAgain()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "a", "b");
+        Assert.assertTrue(bag.removeOccurrences("a", 5));
+        Assert.assertEquals(1, bag.sizeDistinct());
+        Assert.assertFalse(bag.removeOccurrences("a", 1));
+        bag.addOccurrences("a", 3);
+        Assert.assertEquals(3, bag.occurrencesOf("a"));
+        Assert.assertTrue(bag.setOccurrences("a", 0));
+        Assert.assertFalse(bag.contains("a"));
+        Assert.assertEquals(HashBag.newBagWith("b"), bag);
+    }
+
+    @Test
+    public void concurrentAddAndRemove() throws InterruptedException, ExecutionException
+    {
+        final ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        int threads = 8;
+        final int iterations = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        MutableList<Future<?>> futures = FastList.newList(threads);
+        for (int i = 0; i < threads; i++)
+        {
+            final boolean removing = i % 2 == 1;
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < iterations; j++)
+                {
+                    Integer item = j % 4;
+                    bag.addOccurrences(item, 2);
+                    if (removing)
+                    {
+                        Assert.assertTrue(bag.remove(item));
+                        Assert.assertTrue(bag.remove(item));
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures)
+        {
+            future.get();
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1L, TimeUnit.MINUTES));
+        Assert.assertEquals(threads / 2 * iterations * 2, bag.size());
+        Assert.assertEquals(threads / 2 * iterations / 2, bag.occurrencesOf(0));
+        Verify.assertSize(4, bag.toSet());
+    }
+}
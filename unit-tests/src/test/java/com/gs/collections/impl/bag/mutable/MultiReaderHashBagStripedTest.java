@@ -0,0 +1,33 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.mutable;
+
+import java.util.Collections;
+
+/**
+ * Runs the MultiReaderHashBag tests against a bag guarded by a {@link com.gs.collections.impl.collection.mutable.StripedReadWriteLock}.
+ */
+public class MultiReaderHashBagStripedTest extends MultiReaderHashBagTest
+{
+    @Override
+    protected <T> MultiReaderHashBag<T> newWith(T... littleElements)
+    {
+        MultiReaderHashBag<T> result = MultiReaderHashBag.newStripedBag(4);
+        Collections.addAll(result, littleElements);
+        return result;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BinaryCodecsTest
+{
+    @Test
+    public void strings() throws IOException
+    {
+        String longString = new String(new char[70000]).replace('\0', '\u00e9');
+        this.assertRoundTrip(BinaryCodecs.strings(), "", null, "abc", "\u20ac", longString);
+    }
+
+    @Test
+    public void boxedPrimitives() throws IOException
+    {
+        this.assertRoundTrip(BinaryCodecs.integers(), 1, null, Integer.MIN_VALUE);
+        this.assertRoundTrip(BinaryCodecs.longs(), 1L, null, Long.MAX_VALUE);
+        this.assertRoundTrip(BinaryCodecs.doubles(), 1.5, null, Double.NaN);
+    }
+
+    @Test
+    public void byteBuffers() throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        DataOutput out = BinaryCodecs.asDataOutput(buffer);
+        out.writeInt(42);
+        out.write(new byte[]{1, 2, 3});
+        out.writeLong(-1L);
+        Assert.assertEquals(15, buffer.position());
+        buffer.flip();
+
+        DataInput in = BinaryCodecs.asDataInput(buffer);
+        Assert.assertEquals(42, in.readInt());
+        byte[] bytes = new byte[3];
+        in.readFully(bytes);
+        Assert.assertArrayEquals(new byte[]{1, 2, 3}, bytes);
+        Assert.assertEquals(-1L, in.readLong());
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void writingPastTheLimit() throws IOException
+    {
+        BinaryCodecs.asDataOutput(ByteBuffer.allocate(3)).writeInt(1);
+    }
+
+    @Test(expected = EOFException.class)
+    public void readingPastTheLimit() throws IOException
+    {
+        BinaryCodecs.asDataInput(ByteBuffer.allocate(3)).readInt();
+    }
+
+    @Test
+    public void formatVersion() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryCodecs.writeFormatVersion(new DataOutputStream(bytes));
+        bytes.write(BinaryCodecs.FORMAT_VERSION + 1);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        BinaryCodecs.readFormatVersion(in);
+        Verify.assertThrows(StreamCorruptedException.class, () -> {
+            BinaryCodecs.readFormatVersion(in);
+            return null;
+        });
+    }
+
+    @Test
+    public void initialCapacity() throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        Assert.assertEquals(4, BinaryCodecs.initialCapacity(BinaryCodecs.asDataInput(buffer), 4, 4));
+        Verify.assertThrows(EOFException.class, () -> BinaryCodecs.initialCapacity(BinaryCodecs.asDataInput(buffer), 5, 4));
+        Verify.assertThrows(EOFException.class, () -> BinaryCodecs.initialCapacity(BinaryCodecs.asDataInput(buffer), Integer.MAX_VALUE, 8));
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(new byte[0]));
+        Assert.assertEquals(4, BinaryCodecs.initialCapacity(in, 4, 4));
+        Assert.assertEquals(BinaryCodecs.MAXIMUM_UNCHECKED_CAPACITY, BinaryCodecs.initialCapacity(in, Integer.MAX_VALUE, 4));
+    }
+
+    @Test
+    public void hugeLengthsAreNotTrusted() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(Integer.MAX_VALUE - 8);
+        out.writeInt(42);
+        Verify.assertThrows(EOFException.class, () -> IntArrayCodec.read(Integer.MAX_VALUE - 8, new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        Verify.assertThrows(EOFException.class, () -> BinaryCodecs.strings().read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        Verify.assertThrows(EOFException.class, () -> BinaryCodecs.strings().read(BinaryCodecs.asDataInput(ByteBuffer.wrap(bytes.toByteArray()))));
+    }
+
+    @Test
+    public void arrayCodecs() throws IOException
+    {
+        int[] ints = new int[10000];
+        for (int i = 0; i < ints.length; i++)
+        {
+            ints[i] = i * 31;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        IntArrayCodec.write(ints, 1, ints.length - 1, new DataOutputStream(bytes));
+        Assert.assertEquals((ints.length - 1) * IntArrayCodec.BYTES, bytes.size());
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Assert.assertEquals(ints[1], in.readInt());
+        int[] copy = new int[ints.length];
+        IntArrayCodec.read(copy, 2, ints.length - 2, in);
+        for (int i = 2; i < ints.length; i++)
+        {
+            Assert.assertEquals(ints[i], copy[i]);
+        }
+
+        Verify.assertClassNonInstantiable(BinaryCodecs.class);
+        Verify.assertClassNonInstantiable(IntArrayCodec.class);
+        Verify.assertClassNonInstantiable(ByteArrayCodec.class);
+    }
+
+    private <T> void assertRoundTrip(BinaryCodec<T> codec, T... objects) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (T each : objects)
+        {
+            codec.write(each, out);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (T each : objects)
+        {
+            Assert.assertEquals(each, codec.read(in));
+        }
+        Assert.assertEquals(0, in.available());
+    }
+}
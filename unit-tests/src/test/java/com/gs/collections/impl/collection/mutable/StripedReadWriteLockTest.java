@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.collection.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StripedReadWriteLockTest
+{
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void tearDown()
+    {
+        this.executor.shutdown();
+    }
+
+    @Test
+    public void constructor()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new StripedReadWriteLock(0));
+        Assert.assertEquals(1, new StripedReadWriteLock(1).getStripeCount());
+        Assert.assertEquals(8, new StripedReadWriteLock(5).getStripeCount());
+        Assert.assertEquals(256, new StripedReadWriteLock(1000).getStripeCount());
+    }
+
+    @Test
+    public void readLockIsShared() throws Exception
+    {
+        StripedReadWriteLock lock = new StripedReadWriteLock(4);
+        lock.readLock().lock();
+        lock.readLock().lock();
+        try
+        {
+            Assert.assertTrue(this.executor.submit(() -> this.tryAndRelease(lock.readLock())).get());
+            Assert.assertFalse(this.executor.submit(() -> this.tryAndRelease(lock.writeLock())).get());
+        }
+        finally
+        {
+            lock.readLock().unlock();
+            lock.readLock().unlock();
+        }
+        Assert.assertTrue(this.executor.submit(() -> this.tryAndRelease(lock.writeLock())).get());
+    }
+
+    @Test
+    public void writeLockIsExclusive() throws Exception
+    {
+        StripedReadWriteLock lock = new StripedReadWriteLock(4);
+        lock.writeLock().lock();
+        try
+        {
+            Assert.assertFalse(this.executor.submit(() -> this.tryAndRelease(lock.readLock())).get());
+            Assert.assertFalse(this.executor.submit(() -> this.tryAndRelease(lock.writeLock())).get());
+            Future<Boolean> timedTryLock = this.executor.submit(() -> {
+                boolean locked = lock.writeLock().tryLock(1L, TimeUnit.MILLISECONDS);
+                if (locked)
+                {
+                    lock.writeLock().unlock();
+                }
+                return locked;
+            });
+            Assert.assertFalse(timedTryLock.get());
+
+            lock.readLock().lock();
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+        try
+        {
+            Assert.assertTrue(this.executor.submit(() -> this.tryAndRelease(lock.readLock())).get());
+            Assert.assertFalse(this.executor.submit(() -> this.tryAndRelease(lock.writeLock())).get());
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+        Assert.assertTrue(this.executor.submit(() -> this.tryAndRelease(lock.writeLock())).get());
+    }
+
+    @Test
+    public void newCondition()
+    {
+        StripedReadWriteLock lock = new StripedReadWriteLock();
+        Verify.assertThrows(UnsupportedOperationException.class, () -> lock.readLock().newCondition());
+        Verify.assertThrows(UnsupportedOperationException.class, () -> lock.writeLock().newCondition());
+    }
+
+    private boolean tryAndRelease(Lock lock)
+    {
+        if (lock.tryLock())
+        {
+            lock.unlock();
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FusedProcedureTest
+{
+    @Test
+    public void fusedChainMatchesEagerEvaluation()
+    {
+        StringBuilder tapped = new StringBuilder();
+        LazyIterable<String> lazy = Interval.oneTo(20).asLazy()
+                .select(each -> each % 2 == 0)
+                .collect(each -> each * 3)
+                .tap(tapped::append)
+                .reject(each -> each % 4 == 0)
+                .collect(String::valueOf);
+
+        Assert.assertTrue(FusedProcedure.isFusible(lazy));
+        MutableList<String> expected = Interval.oneTo(20).toList()
+                .select(each -> each % 2 == 0)
+                .collect(each -> each * 3)
+                .reject(each -> each % 4 == 0)
+                .collect(String::valueOf);
+        Assert.assertEquals(expected, lazy.toList());
+        Assert.assertEquals("6121824303642485460", tapped.toString());
+
+        MutableList<String> withIndex = FastList.newList();
+        lazy.forEachWithIndex((each, index) -> withIndex.add(index + ":" + each));
+        Assert.assertEquals(FastList.newListWith("0:6", "1:18", "2:30", "3:42", "4:54"), withIndex);
+
+        MutableList<String> with = FastList.newList();
+        lazy.forEachWith((each, parameter) -> with.add(parameter + each), ">");
+        Assert.assertEquals(FastList.newListWith(">6", ">18", ">30", ">42", ">54"), with);
+    }
+
+    @Test
+    public void stagesRunInOrderForEachElement()
+    {
+        StringBuilder builder = new StringBuilder();
+        Interval.oneTo(3).asLazy()
+                .tap(each -> builder.append('a').append(each))
+                .select(each -> each != 2)
+                .tap(each -> builder.append('b').append(each))
+                .each(each -> builder.append('c').append(each));
+        Assert.assertEquals("a1b1c1a2a3b3c3", builder.toString());
+    }
+
+    @Test
+    public void pipelineBreakersKeepTheirSemantics()
+    {
+        LazyIterable<Integer> lazy = Interval.oneTo(10).asLazy()
+                .collect(each -> each % 4)
+                .distinct()
+                .select(each -> each > 0)
+                .collect(each -> each * 10)
+                .take(2);
+        Assert.assertEquals(FastList.newListWith(10, 20), lazy.toList());
+        Assert.assertFalse(FusedProcedure.isFusible(lazy));
+    }
+
+    @Test
+    public void subclassesAreNotFused()
+    {
+        StringBuilder builder = new StringBuilder();
+        LazyIterable<Integer> subclass = new SelectIterable<Integer>(Interval.oneTo(3), each -> each != 2)
+        {
+            @Override
+            public void each(Procedure<? super Integer> procedure)
+            {
+                builder.append("each");
+                super.each(procedure);
+            }
+        };
+        LazyIterable<Integer> lazy = subclass.collect(each -> each * 10);
+        Assert.assertFalse(FusedProcedure.isFusible(subclass));
+        Assert.assertTrue(FusedProcedure.isFusible(lazy));
+        MutableList<Integer> result = FastList.newList();
+        lazy.each(result::add);
+        Assert.assertEquals(FastList.newListWith(10, 30), result);
+        Assert.assertEquals("each", builder.toString());
+    }
+
+    @Test
+    public void deepChainDoesNotNestProcedures()
+    {
+        LazyIterable<Integer> lazy = Interval.oneTo(3).asLazy();
+        for (int i = 0; i < 100000; i++)
+        {
+            lazy = lazy.collect(each -> each + 1);
+        }
+        Assert.assertEquals(FastList.newListWith(100001, 100002, 100003), lazy.toList());
+    }
+}
@@ -37,6 +37,7 @@ import com.gs.collections.api.collection.MutableCollection;
 import com.gs.collections.api.list.ImmutableList;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.set.ParallelSetIterable;
 import com.gs.collections.api.set.sorted.ParallelSortedSetIterable;
 import com.gs.collections.api.tuple.Pair;
@@ -853,6 +854,115 @@ public abstract class ParallelIterableTestCase
                 this.classUnderTest().aggregateInPlaceBy(isOddFunction, AtomicInteger::new, AtomicInteger::addAndGet).collect(atomicIntToInt));
     }
 
+    @Test
+    public void collectInt()
+    {
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).toBag(),
+                this.classUnderTest().collectInt(Integer::intValue).toBag());
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).select(each -> each > 2).toBag(),
+                this.classUnderTest().collectInt(Integer::intValue).select(each -> each > 2).toBag());
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).sum(),
+                this.classUnderTest().collectInt(Integer::intValue).sum());
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).count(each -> each % 2 == 0),
+                this.classUnderTest().collectInt(Integer::intValue).count(each -> each % 2 == 0));
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).collect(String::valueOf).toBag(),
+                this.classUnderTest().collectInt(Integer::intValue).collect(String::valueOf).toBag());
+    }
+
+    @Test
+    public void collectLong()
+    {
+        Assert.assertEquals(
+                this.getExpectedCollect().collectLong(Integer::longValue).toBag(),
+                this.classUnderTest().collectLong(Integer::longValue).toBag());
+        Assert.assertEquals(
+                this.getExpectedCollect().collectLong(Integer::longValue).sum(),
+                this.classUnderTest().collectLong(Integer::longValue).sum());
+    }
+
+    @Test
+    public void collectDouble()
+    {
+        Assert.assertEquals(
+                this.getExpectedCollect().collectDouble(Integer::doubleValue).toBag(),
+                this.classUnderTest().collectDouble(Integer::doubleValue).toBag());
+        Assert.assertEquals(
+                this.getExpectedCollect().collectDouble(Integer::doubleValue).sum(),
+                this.classUnderTest().collectDouble(Integer::doubleValue).sum(),
+                0.0);
+    }
+
+    @Test
+    public void sumByInt()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().sumByInt(isOddFunction, Integer::intValue),
+                this.classUnderTest().sumByInt(isOddFunction, Integer::intValue));
+    }
+
+    @Test
+    public void sumByLong()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().sumByLong(isOddFunction, Integer::longValue),
+                this.classUnderTest().sumByLong(isOddFunction, Integer::longValue));
+    }
+
+    @Test
+    public void sumByFloat()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().sumByFloat(isOddFunction, Integer::floatValue),
+                this.classUnderTest().sumByFloat(isOddFunction, Integer::floatValue));
+    }
+
+    @Test
+    public void sumByDouble()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().sumByDouble(isOddFunction, Integer::doubleValue),
+                this.classUnderTest().sumByDouble(isOddFunction, Integer::doubleValue));
+    }
+
+    @Test
+    public void sumByLong_batches()
+    {
+        Function<Integer, Integer> mod10 = each -> each % 10;
+        MutableList<Integer> list = Interval.oneTo(10_000).toList();
+        ObjectLongMap<Integer> expected = this.getExpectedWith(list.toArray(new Integer[]{})).sumByLong(mod10, Integer::longValue);
+
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+
+            ParallelIterable<Integer> testCollection = this.newWith(list.toArray(new Integer[]{}));
+            Assert.assertEquals("Batch size: " + this.batchSize, expected, testCollection.sumByLong(mod10, Integer::longValue));
+        }
+    }
+
+    @Test
+    public void countBy()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().sumByLong(isOddFunction, each -> 1L),
+                this.classUnderTest().countBy(isOddFunction));
+    }
+
     @Test
     public void sumOfInt()
     {
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gs.collections.impl.lazy.parallel.map;
+
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.lazy.parallel.ParallelIterableTestCase;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UnifiedMapValuesParallelIterableTest extends ParallelIterableTestCase
+{
+    @Override
+    protected ParallelIterable<Integer> classUnderTest()
+    {
+        return this.newWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    @Override
+    protected ParallelIterable<Integer> newWith(Integer... littleElements)
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newMap();
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            map.put(i, littleElements[i]);
+        }
+        return map.asParallel(this.executorService, this.batchSize).valuesView();
+    }
+
+    @Override
+    protected MutableBag<Integer> getExpected()
+    {
+        return HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    @Override
+    protected MutableBag<Integer> getExpectedWith(Integer... littleElements)
+    {
+        return HashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected boolean isOrdered()
+    {
+        return false;
+    }
+
+    @Override
+    protected boolean isUnique()
+    {
+        return false;
+    }
+
+    @Test
+    public void forEachKeyValue()
+    {
+        MutableMap<Integer, String> map = Interval.oneTo(10000).toMap(each -> each, String::valueOf);
+        UnifiedMap<Integer, String> source = UnifiedMap.newMap(map);
+        for (int batchSize : new int[]{1, 2, 5, 100, 100000})
+        {
+            MutableMap<Integer, String> actual = ConcurrentHashMap.newMap();
+            source.asParallel(this.executorService, batchSize).forEachKeyValue(actual::put);
+            Assert.assertEquals(map, actual);
+        }
+    }
+
+    @Test
+    public void keyValuesView()
+    {
+        UnifiedMap<Integer, String> map = UnifiedMap.newMap(Interval.oneTo(10000).toMap(each -> each, String::valueOf));
+        MutableSet<Pair<Integer, String>> expected = UnifiedSet.newSet(map.keyValuesView());
+        for (int batchSize : new int[]{1, 2, 5, 100, 100000})
+        {
+            ParallelIterable<Pair<Integer, String>> keyValues = map.asParallel(this.executorService, batchSize).keyValuesView();
+            Assert.assertEquals(expected, keyValues.toSet());
+            Assert.assertEquals(
+                    expected.count(pair -> pair.getOne() % 3 == 0),
+                    keyValues.count(pair -> pair.getOne() % 3 == 0));
+            Assert.assertTrue(keyValues.anySatisfy(pair -> "5000".equals(pair.getTwo())));
+            Assert.assertTrue(keyValues.allSatisfy(pair -> pair.getOne().toString().equals(pair.getTwo())));
+            Assert.assertEquals(Integer.valueOf(42), keyValues.detect(pair -> pair.getOne() == 42).getOne());
+        }
+    }
+
+    @Test
+    public void chainedBuckets()
+    {
+        // "Aa" and "BB" have the same hashCode, so all 64 keys end up in a single chained bucket
+        MutableList<String> keys = Lists.mutable.with("");
+        for (int i = 0; i < 6; i++)
+        {
+            keys = keys.flatCollect(each -> Lists.mutable.with(each + "Aa", each + "BB"));
+        }
+        UnifiedMap<String, Integer> map = UnifiedMap.newMap();
+        keys.forEachWithIndex(map::put);
+        for (int batchSize : new int[]{1, 2, 100})
+        {
+            Assert.assertEquals(map.keySet(), map.asParallel(this.executorService, batchSize).keysView().toSet());
+            Assert.assertEquals(map.valuesView().toBag(), map.asParallel(this.executorService, batchSize).valuesView().toBag());
+            Assert.assertEquals("BBBBBBBBBBBB", map.asParallel(this.executorService, batchSize).keysView().detect("BBBBBBBBBBBB"::equals));
+            Assert.assertFalse(map.asParallel(this.executorService, batchSize).valuesView().anySatisfy(each -> each >= 64));
+        }
+    }
+}
@@ -132,6 +132,14 @@ public class EmptyListTest
         Assert.assertSame(sortedList, list);
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        MutableList<Object> list = Lists.fixedSize.of();
+        Assert.assertSame(list, list.sortThisParallel(null));
+        Verify.assertEmpty(list);
+    }
+
     @Test
     public void sortThisBy()
     {
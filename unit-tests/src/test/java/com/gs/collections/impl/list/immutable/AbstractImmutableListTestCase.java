@@ -30,6 +30,7 @@ import com.gs.collections.api.collection.MutableCollection;
 import com.gs.collections.api.collection.primitive.ImmutableBooleanCollection;
 import com.gs.collections.api.list.ImmutableList;
 import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.list.TransientList;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.multimap.MutableMultimap;
@@ -608,4 +609,22 @@ public abstract class AbstractImmutableListTestCase extends AbstractImmutableCol
         Assert.assertEquals(integers, actual);
         Assert.assertSame(integers, actual);
     }
+
+    @Test
+    public void toTransient()
+    {
+        ImmutableList<Integer> immutableList = this.classUnderTest();
+        TransientList<Integer> transientList = immutableList.toTransient().with(-1).withAll(Interval.fromTo(-2, -3));
+        MutableList<Integer> expected = immutableList.toList().with(-1).with(-2).with(-3);
+        Assert.assertEquals(expected.size(), transientList.size());
+        Assert.assertEquals(Integer.valueOf(-3), transientList.get(transientList.size() - 1));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> transientList.get(transientList.size()));
+
+        ImmutableList<Integer> frozen = transientList.toImmutable();
+        Assert.assertEquals(expected, frozen);
+        transientList.with(-4);
+        Assert.assertEquals(expected, frozen);
+        Assert.assertEquals(expected.with(-4), transientList.toImmutable());
+        Assert.assertEquals(this.classUnderTest(), immutableList);
+    }
 }
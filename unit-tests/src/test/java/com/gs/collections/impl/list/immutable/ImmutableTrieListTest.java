@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable;
+
+import java.util.Iterator;
+
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.list.TransientList;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableTrieList}.
+ */
+public class ImmutableTrieListTest extends AbstractImmutableListTestCase
+{
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return ImmutableTrieList.newListWith(1, 2, 3, 4);
+    }
+
+    @Test
+    public void factorySelectsTrieAboveThreshold()
+    {
+        int threshold = ImmutableTrieList.MINIMUM_SIZE;
+        Verify.assertInstanceOf(ImmutableArrayList.class, Lists.immutable.withAll(Interval.oneTo(threshold - 1)));
+        Verify.assertInstanceOf(ImmutableTrieList.class, Lists.immutable.withAll(Interval.oneTo(threshold)));
+        Verify.assertInstanceOf(ImmutableTrieList.class, Interval.oneTo(threshold).toList().toImmutable());
+
+        ImmutableList<Integer> arrayList = Lists.immutable.withAll(Interval.oneTo(threshold - 1));
+        ImmutableList<Integer> grown = arrayList.newWith(threshold);
+        Verify.assertInstanceOf(ImmutableTrieList.class, grown);
+        Assert.assertEquals(Interval.oneTo(threshold), grown);
+        Assert.assertEquals(Interval.oneTo(threshold - 1), arrayList);
+    }
+
+    @Test
+    public void newWithAcrossLevels()
+    {
+        // Crosses the boundaries of the tail, the first level and the second level of the trie
+        int size = 32 * 32 * 32 + 100;
+        ImmutableList<Integer> list = ImmutableTrieList.newListWith();
+        MutableList<Integer> expected = FastList.newList();
+        for (int i = 0; i < size; i++)
+        {
+            list = list.newWith(i);
+            expected.add(i);
+        }
+        Assert.assertEquals(expected, list);
+        Assert.assertEquals(expected.hashCode(), list.hashCode());
+        for (int i = 0; i < size; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), list.get(i));
+        }
+        Assert.assertEquals(Integer.valueOf(0), list.getFirst());
+        Assert.assertEquals(Integer.valueOf(size - 1), list.getLast());
+    }
+
+    @Test
+    public void newListMatchesRepeatedNewWith()
+    {
+        int[] sizes = {0, 1, 31, 32, 33, 64, 1024, 1055, 1056, 1057, 32 * 32 * 32 + 32, 32 * 32 * 32 + 33};
+        for (int size : sizes)
+        {
+            Integer[] elements = new Integer[size];
+            for (int i = 0; i < size; i++)
+            {
+                elements[i] = i;
+            }
+            ImmutableList<Integer> built = ImmutableTrieList.newListWith(elements);
+            Verify.assertSize(size, built);
+            Assert.assertEquals(FastList.newListWith(elements), built);
+            Assert.assertEquals(FastList.newListWith(elements).with(size), built.newWith(size));
+        }
+    }
+
+    @Test
+    public void newWithSharesOriginal()
+    {
+        ImmutableList<Integer> original = ImmutableTrieList.newListWith(Interval.oneTo(2000).toArray());
+        ImmutableList<Integer> first = original.newWith(-1);
+        ImmutableList<Integer> second = original.newWith(-2);
+        Verify.assertSize(2000, original);
+        Assert.assertEquals(Integer.valueOf(-1), first.getLast());
+        Assert.assertEquals(Integer.valueOf(-2), second.getLast());
+        Assert.assertEquals(Interval.oneTo(2000), first.subList(0, 2000));
+        Assert.assertEquals(Interval.oneTo(2000), second.subList(0, 2000));
+        Assert.assertEquals(Interval.fromTo(1001, 1500), original.subList(1000, 1500));
+    }
+
+    @Test
+    public void newWithAll()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newListWith(Interval.oneTo(1000).toArray());
+        Assert.assertEquals(Interval.oneTo(1100), list.newWithAll(Interval.fromTo(1001, 1100)));
+        Assert.assertEquals(Interval.oneTo(1000), list);
+        Assert.assertEquals(Interval.oneTo(1000), list.newWithAll(Lists.immutable.<Integer>of()));
+        Assert.assertEquals(Interval.oneTo(999), list.newWithout(1000));
+    }
+
+    @Test
+    public void iteration()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newListWith(Interval.zeroTo(5000).toArray());
+        Iterator<Integer> iterator = list.iterator();
+        for (int i = 0; i <= 5000; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), iterator.next());
+        }
+        Assert.assertFalse(iterator.hasNext());
+        MutableList<Integer> indices = FastList.newList();
+        list.forEachWithIndex((each, index) -> {
+            Assert.assertEquals(each.intValue(), index);
+            indices.add(index);
+        });
+        Assert.assertEquals(Interval.zeroTo(5000), indices);
+    }
+
+    @Test
+    public void transientAcrossLevels()
+    {
+        int size = 32 * 32 * 32 + 100;
+        TransientList<Integer> transientList = ImmutableTrieList.newTransient();
+        for (int i = 0; i < size; i++)
+        {
+            transientList.with(i);
+        }
+        ImmutableList<Integer> list = transientList.toImmutable();
+        Verify.assertInstanceOf(ImmutableTrieList.class, list);
+        Assert.assertEquals(Interval.zeroTo(size - 1), list);
+        for (int i = 0; i < size; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), transientList.get(i));
+        }
+        Assert.assertEquals(Interval.zeroTo(size), list.newWith(size));
+        Assert.assertSame(Lists.immutable.with(1).getClass(), ImmutableTrieList.newTransient().with(1).toImmutable().getClass());
+    }
+
+    @Test
+    public void transientDoesNotChangeFrozenLists()
+    {
+        ImmutableList<Integer> original = ImmutableTrieList.newListWith(Interval.oneTo(2000).toArray());
+        TransientList<Integer> transientList = original.toTransient();
+        ImmutableList<Integer> first = transientList.withAll(Interval.fromTo(2001, 2016)).toImmutable();
+        // The tail is exactly full here, so it is handed over to the second list
+        ImmutableList<Integer> second = transientList.withAll(Interval.fromTo(2017, 2048)).toImmutable();
+        ImmutableList<Integer> third = transientList.withAll(Interval.fromTo(2049, 3100)).toImmutable();
+        Assert.assertEquals(Interval.oneTo(2000), original);
+        Assert.assertEquals(Interval.oneTo(2016), first);
+        Assert.assertEquals(Interval.oneTo(2048), second);
+        Assert.assertEquals(Interval.oneTo(3100), third);
+        Assert.assertEquals(Interval.oneTo(2017), first.newWith(2017));
+        Assert.assertEquals(Interval.oneTo(2049), second.newWith(2049));
+        Assert.assertEquals(Interval.oneTo(2000).toList().with(0), original.newWith(0));
+    }
+
+    @Test
+    public void serializationUsesArrayForm()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newListWith(Interval.oneTo(1100).toArray());
+        ImmutableList<Integer> deserialized = SerializeTestHelper.serializeDeserialize(list);
+        Assert.assertEquals(list, deserialized);
+        Verify.assertInstanceOf(ImmutableArrayList.class, deserialized);
+    }
+}
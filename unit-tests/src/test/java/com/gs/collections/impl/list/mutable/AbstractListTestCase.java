@@ -458,6 +458,22 @@ public abstract class AbstractListTestCase
         Assert.assertEquals(Interval.oneTo(1000).toList(), actual);
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        MutableList<Integer> actual = this.newWith(Interval.oneTo(50000).toArray());
+        Collections.shuffle(actual);
+        MutableList<Integer> sorted = actual.sortThisParallel(null);
+        Assert.assertSame(actual, sorted);
+        Assert.assertEquals(Interval.oneTo(50000).toList(), actual);
+
+        Assert.assertEquals(Interval.fromToBy(50000, 1, -1).toList(), actual.sortThisParallel(Collections.<Integer>reverseOrder()));
+
+        Collections.shuffle(actual);
+        MutableList<Integer> expected = FastList.newList(actual).sortThis(Comparators.byFunction(each -> each % 10));
+        Assert.assertEquals(expected, actual.sortThisParallel(Comparators.byFunction(each -> each % 10)));
+    }
+
     @Test
     public void sortThis_with_comparator_small()
     {
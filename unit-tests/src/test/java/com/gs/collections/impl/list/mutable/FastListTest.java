@@ -16,7 +16,13 @@
 
 package com.gs.collections.impl.list.mutable;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -42,6 +48,7 @@ import com.gs.collections.impl.block.function.MinSizeFunction;
 import com.gs.collections.impl.block.function.PassThruFunction0;
 import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
 import com.gs.collections.impl.block.procedure.CountProcedure;
+import com.gs.collections.impl.codec.BinaryCodecs;
 import com.gs.collections.impl.factory.Bags;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.factory.Sets;
@@ -1214,4 +1221,25 @@ public class FastListTest extends AbstractListTestCase
     {
         this.newWith().max();
     }
+
+    @Test
+    public void binaryRoundTrip() throws IOException
+    {
+        FastList<String> list = FastList.newListWith("one", null, "three", "");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        list.write(new DataOutputStream(bytes), BinaryCodecs.strings());
+        FastList<String> copy = FastList.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), BinaryCodecs.strings());
+        Assert.assertEquals(list, copy);
+        copy.add("four");
+        Verify.assertSize(5, copy);
+
+        byte[] negativeSize = {BinaryCodecs.FORMAT_VERSION, -1, -1, -1, -1};
+        Verify.assertThrows(StreamCorruptedException.class, () -> FastList.read(new DataInputStream(new ByteArrayInputStream(negativeSize)), BinaryCodecs.strings()));
+
+        byte[] wrongVersion = {BinaryCodecs.FORMAT_VERSION + 1, 0, 0, 0, 0};
+        Verify.assertThrows(StreamCorruptedException.class, () -> FastList.read(new DataInputStream(new ByteArrayInputStream(wrongVersion)), BinaryCodecs.strings()));
+
+        byte[] truncated = {BinaryCodecs.FORMAT_VERSION, 0x7f, -1, -1, -1};
+        Verify.assertThrows(EOFException.class, () -> FastList.read(new DataInputStream(new ByteArrayInputStream(truncated)), BinaryCodecs.strings()));
+    }
 }
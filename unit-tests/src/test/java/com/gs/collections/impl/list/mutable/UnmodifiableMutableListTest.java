@@ -104,6 +104,12 @@ public class UnmodifiableMutableListTest
         Verify.assertThrows(UnsupportedOperationException.class, () -> this.unmodifiableList.sortThis());
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        Verify.assertThrows(UnsupportedOperationException.class, () -> this.unmodifiableList.sortThisParallel(null));
+    }
+
     @Test
     public void sortThisWithComparator()
     {
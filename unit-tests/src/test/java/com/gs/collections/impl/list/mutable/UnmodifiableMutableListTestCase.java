@@ -136,6 +136,12 @@ public abstract class UnmodifiableMutableListTestCase extends UnmodifiableMemory
         Verify.assertThrows(UnsupportedOperationException.class, () -> this.getCollection().sortThis(Comparators.naturalOrder()));
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        Verify.assertThrows(UnsupportedOperationException.class, () -> this.getCollection().sortThisParallel(Comparators.naturalOrder()));
+    }
+
     @Test
     public void sortThisBy()
     {
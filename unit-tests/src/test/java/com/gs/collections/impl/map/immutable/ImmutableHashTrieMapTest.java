@@ -0,0 +1,204 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import java.util.Random;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.TransientMap;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableHashTrieMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        Assert.assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+    }
+
+    @Test
+    public void factorySelectsTrieAboveThreshold()
+    {
+        int threshold = ImmutableHashTrieMap.MINIMUM_SIZE;
+        MutableMap<Integer, Integer> small = Interval.oneTo(threshold - 1).toMap(each -> each, each -> each);
+        Verify.assertInstanceOf(ImmutableUnifiedMap.class, Maps.immutable.withAll(small));
+        ImmutableMap<Integer, Integer> grown = small.toImmutable().newWithKeyValue(threshold, threshold);
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, grown);
+        Assert.assertEquals(Interval.oneTo(threshold).toMap(each -> each, each -> each), grown);
+    }
+
+    @Test
+    public void randomUpdatesMatchUnifiedMap()
+    {
+        Random random = new Random(42L);
+        MutableMap<Integer, Integer> expected = UnifiedMap.newMap();
+        ImmutableMap<Integer, Integer> actual = ImmutableHashTrieMap.newMap(expected);
+        for (int i = 0; i < 20000; i++)
+        {
+            Integer key = random.nextInt(5000) * 7919;
+            if (random.nextInt(3) == 0)
+            {
+                expected.remove(key);
+                actual = actual.newWithoutKey(key);
+            }
+            else
+            {
+                expected.put(key, i);
+                actual = actual.newWithKeyValue(key, i);
+            }
+        }
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        Assert.assertEquals(expected.keySet(), actual.castToMap().keySet());
+        Verify.assertSize(expected.size(), actual.keysView().toList());
+        Verify.assertSize(expected.size(), actual.keyValuesView().toList());
+
+        for (Integer key : expected.keySet())
+        {
+            actual = actual.newWithoutKey(key);
+        }
+        Verify.assertEmpty(actual);
+        Assert.assertEquals(UnifiedMap.newMap(), actual);
+    }
+
+    @Test
+    public void collidingKeys()
+    {
+        // "Aa" and "BB" have the same hash code, so every key below collides with every other key
+        String[] keys = {"AaAaAa", "AaAaBB", "AaBBAa", "AaBBBB", "BBAaAa", "BBAaBB", "BBBBAa", "BBBBBB"};
+        ImmutableMap<String, Integer> map = ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues("other", 0));
+        for (int i = 0; i < keys.length; i++)
+        {
+            map = map.newWithKeyValue(keys[i], i);
+        }
+        Verify.assertSize(keys.length + 1, map);
+        for (int i = 0; i < keys.length; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.get(keys[i]));
+        }
+        Assert.assertNull(map.get("AaAa"));
+        Assert.assertEquals(Integer.valueOf(10), map.newWithKeyValue(keys[3], 10).get(keys[3]));
+        for (int i = 0; i < keys.length; i++)
+        {
+            map = map.newWithoutKey(keys[i]);
+            Verify.assertSize(keys.length - i, map);
+        }
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("other", 0), map);
+    }
+
+    @Test
+    public void nullKeyAndValue()
+    {
+        ImmutableMap<Integer, String> map = this.classUnderTest().newWithKeyValue(null, null);
+        Assert.assertTrue(map.containsKey(null));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertNull(map.get(null));
+        Verify.assertSize(5, map);
+        Assert.assertSame(map, map.newWithKeyValue(null, null));
+        Assert.assertEquals(this.classUnderTest(), map.newWithoutKey(null));
+    }
+
+    @Test
+    public void updatesShareOriginal()
+    {
+        ImmutableMap<Integer, Integer> original = ImmutableHashTrieMap.newMap(Interval.oneTo(2000).toMap(each -> each, each -> each));
+        ImmutableMap<Integer, Integer> updated = original.newWithKeyValue(1, -1).newWithoutKey(2).newWithAllKeyValues(
+                Interval.fromTo(3, 10).collect(each -> Tuples.pair(each, -each)));
+        Assert.assertEquals(Integer.valueOf(1), original.get(1));
+        Assert.assertEquals(Integer.valueOf(2), original.get(2));
+        Assert.assertEquals(Integer.valueOf(3), original.get(3));
+        Assert.assertEquals(Integer.valueOf(-1), updated.get(1));
+        Assert.assertFalse(updated.containsKey(2));
+        Assert.assertEquals(Integer.valueOf(-3), updated.get(3));
+        Verify.assertSize(1999, updated);
+        Verify.assertSize(1990, original.newWithoutAllKeys(Interval.oneTo(10)));
+        Verify.assertSize(2000, original);
+    }
+
+    @Test
+    public void transientMatchesUnifiedMap()
+    {
+        Random random = new Random(7L);
+        MutableMap<Integer, Integer> expected = Interval.oneTo(2000).toMap(each -> each, each -> each);
+        ImmutableMap<Integer, Integer> original = ImmutableHashTrieMap.newMap(expected);
+        TransientMap<Integer, Integer> transientMap = original.toTransient();
+        ImmutableMap<Integer, Integer> previous = original;
+        MutableMap<Integer, Integer> previousExpected = UnifiedMap.newMap(expected);
+        for (int i = 0; i < 20000; i++)
+        {
+            Integer key = random.nextInt(5000);
+            if (random.nextInt(3) == 0)
+            {
+                expected.remove(key);
+                transientMap.withoutKey(key);
+            }
+            else
+            {
+                expected.put(key, i);
+                transientMap.withKeyValue(key, i);
+            }
+            if (i % 5000 == 0)
+            {
+                Assert.assertEquals(previousExpected, previous);
+                previous = transientMap.toImmutable();
+                previousExpected = UnifiedMap.newMap(expected);
+            }
+        }
+        Assert.assertEquals(expected.size(), transientMap.size());
+        Assert.assertEquals(expected, transientMap.toImmutable());
+        Assert.assertEquals(previousExpected, previous);
+        Assert.assertEquals(Interval.oneTo(2000).toMap(each -> each, each -> each), original);
+
+        TransientMap<Integer, Integer> shrinking = original.toTransient();
+        for (int i = 1; i <= 1500; i++)
+        {
+            shrinking.withoutKey(i);
+        }
+        Verify.assertInstanceOf(ImmutableUnifiedMap.class, shrinking.toImmutable());
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableMap<Integer, Integer> map = ImmutableHashTrieMap.newMap(Interval.oneTo(2000).toMap(each -> each, each -> -each));
+        ImmutableMap<Integer, Integer> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        Assert.assertEquals(map, deserialized);
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, deserialized);
+    }
+}
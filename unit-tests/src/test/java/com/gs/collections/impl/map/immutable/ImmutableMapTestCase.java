@@ -21,6 +21,9 @@ import java.util.Map;
 
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.TransientMap;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.tuple.Tuples;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -58,4 +61,30 @@ public abstract class ImmutableMapTestCase extends ImmutableMapIterableTestCase
         Assert.assertEquals(immutable.size(), immutable.castToMap().entrySet().size());
         Assert.assertEquals(map.entrySet(), immutable.castToMap().entrySet());
     }
+
+    @Test
+    public void toTransient()
+    {
+        ImmutableMap<Integer, String> immutable = this.classUnderTest();
+        TransientMap<Integer, String> transientMap = immutable.toTransient();
+        transientMap.withKeyValue(Integer.MAX_VALUE, "max")
+                .withAllKeyValues(Lists.mutable.of(Tuples.pair(Integer.MIN_VALUE, "min")))
+                .withoutKey(1);
+        Assert.assertEquals("max", transientMap.get(Integer.MAX_VALUE));
+        Assert.assertTrue(transientMap.containsKey(Integer.MIN_VALUE));
+        Assert.assertFalse(transientMap.containsKey(1));
+        MutableMap<Integer, String> expected = immutable.toMap();
+        expected.put(Integer.MAX_VALUE, "max");
+        expected.put(Integer.MIN_VALUE, "min");
+        expected.remove(1);
+        Assert.assertEquals(expected.size(), transientMap.size());
+        Assert.assertEquals(expected, transientMap.toImmutable());
+
+        ImmutableMap<Integer, String> frozen = transientMap.toImmutable();
+        transientMap.withKeyValue(0, "0").withoutKey(Integer.MAX_VALUE);
+        Assert.assertEquals("max", frozen.get(Integer.MAX_VALUE));
+        Assert.assertFalse(frozen.containsKey(0));
+        Assert.assertEquals(frozen.newWithKeyValue(0, "0").newWithoutKey(Integer.MAX_VALUE), transientMap.toImmutable());
+        Assert.assertEquals(this.classUnderTest(), immutable);
+    }
 }
@@ -38,6 +38,7 @@ import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.parallel.ParallelIterate;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.SerializeTestHelper;
 import com.gs.collections.impl.test.Verify;
 import com.gs.collections.impl.tuple.ImmutableEntry;
 import org.junit.Assert;
@@ -385,6 +386,43 @@ public class ConcurrentHashMapTest extends ConcurrentHashMapTestCase
         }, 1, this.executor);
     }
 
+    @Test
+    public void concurrentPutAndGetWhileResizing()
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap();
+        ParallelIterate.forEach(Interval.oneTo(100), each -> {
+            for (int i = 0; i < 1000; i++)
+            {
+                Integer key = each * 1000 + i;
+                map.put(key, each);
+                Assert.assertEquals(each, map.get(key));
+                Assert.assertEquals(each, map.get(each * 1000));
+            }
+        }, 1, this.executor);
+        Verify.assertSize(100000, map);
+        MutableMap<Integer, Integer> expected = Interval.fromTo(1000, 100999).toMap(each -> each, each -> each / 1000);
+        Verify.assertEqualsAndHashCode(expected, map);
+    }
+
+    @Test
+    public void bulkOperationsFinishResizeInProgress()
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap();
+        UnifiedMap<Integer, Integer> expected = UnifiedMap.newMap();
+        for (int i = 0; i < 50000; i++)
+        {
+            map.put(i, i);
+            expected.put(i, i);
+            if (i % 4999 == 0)
+            {
+                Assert.assertEquals(expected.hashCode(), map.hashCode());
+                Verify.assertSize(i + 1, map.keysView().toList());
+            }
+        }
+        Verify.assertEqualsAndHashCode(expected, map);
+        Verify.assertEqualsAndHashCode(expected, SerializeTestHelper.serializeDeserialize(map));
+    }
+
     @Test
     public void emptyToString()
     {
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link RobinHoodHashMap}.
+ */
+public class RobinHoodHashMapTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return RobinHoodHashMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return RobinHoodHashMap.<K, V>newMap().withKeyValue(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return RobinHoodHashMap.<K, V>newMap().withKeyValue(key1, value1).withKeyValue(key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return RobinHoodHashMap.<K, V>newMap()
+                .withKeyValue(key1, value1)
+                .withKeyValue(key2, value2)
+                .withKeyValue(key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return RobinHoodHashMap.<K, V>newMap()
+                .withKeyValue(key1, value1)
+                .withKeyValue(key2, value2)
+                .withKeyValue(key3, value3)
+                .withKeyValue(key4, value4);
+    }
+
+    @Test
+    public void randomUpdatesMatchUnifiedMap()
+    {
+        Random random = new Random(42L);
+        MutableMap<Integer, Integer> expected = UnifiedMap.newMap();
+        RobinHoodHashMap<Integer, Integer> actual = RobinHoodHashMap.newMap();
+        for (int i = 0; i < 50000; i++)
+        {
+            Integer key = random.nextInt(5000) << random.nextInt(8);
+            if (random.nextInt(3) == 0)
+            {
+                Assert.assertEquals(expected.remove(key), actual.remove(key));
+            }
+            else
+            {
+                Assert.assertEquals(expected.put(key, i), actual.put(key, i));
+            }
+        }
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        Assert.assertEquals(expected.keySet(), actual.keySet());
+        for (Integer key : expected.keySet())
+        {
+            Assert.assertEquals(expected.get(key), actual.get(key));
+        }
+    }
+
+    @Test
+    public void nullKeyAndZeroHashCode()
+    {
+        // A null key shares its cached hash code with 0
+        RobinHoodHashMap<Integer, String> map = RobinHoodHashMap.newMap();
+        map.put(0, "zero");
+        map.put(null, "null");
+        Verify.assertSize(2, map);
+        Assert.assertEquals("zero", map.get(0));
+        Assert.assertEquals("null", map.get(null));
+        Assert.assertEquals("null", map.remove(null));
+        Assert.assertFalse(map.containsKey(null));
+        Assert.assertEquals("zero", map.get(0));
+    }
+
+    @Test
+    public void cachedHashCodesAvoidEquals()
+    {
+        AtomicInteger equalsCalls = new AtomicInteger();
+        RobinHoodHashMap<CountingKey, Integer> map = RobinHoodHashMap.newMap();
+        for (int i = 0; i < 1000; i++)
+        {
+            map.put(new CountingKey(i, equalsCalls), i);
+        }
+        equalsCalls.set(0);
+        for (int i = 1000; i < 2000; i++)
+        {
+            Assert.assertNull(map.get(new CountingKey(i, equalsCalls)));
+        }
+        Assert.assertEquals(0, equalsCalls.get());
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.get(new CountingKey(i, equalsCalls)));
+        }
+        Assert.assertEquals(1000, equalsCalls.get());
+    }
+
+    @Test
+    public void iteratorRemoveShiftsRuns()
+    {
+        // Every key has the same home slot in a large table, so removing one shifts the rest of the run back
+        for (int i = 0; i < 3; i++)
+        {
+            int removed = i;
+            RobinHoodHashMap<Integer, Integer> map = RobinHoodHashMap.newMap(64);
+            Interval.zeroTo(39).forEach((int each) -> map.put(each << 20, each));
+            Iterator<Map.Entry<Integer, Integer>> iterator = map.entrySet().iterator();
+            int visited = 0;
+            while (iterator.hasNext())
+            {
+                Map.Entry<Integer, Integer> entry = iterator.next();
+                visited++;
+                if (entry.getValue() % 3 == removed)
+                {
+                    iterator.remove();
+                }
+            }
+            Assert.assertEquals(40, visited);
+            Verify.assertSize(40 - Interval.zeroTo(39).count(each -> each % 3 == removed), map);
+            Interval.zeroTo(39).forEach((int each) -> Assert.assertEquals(each % 3 != removed, map.containsKey(each << 20)));
+        }
+    }
+
+    @Test
+    public void probeDistanceStaysShort()
+    {
+        RobinHoodHashMap<Integer, Integer> map = RobinHoodHashMap.newMap();
+        Interval.oneTo(100000).forEach((int each) -> map.put(each * 31, each));
+        Assert.assertTrue(map.getMaxProbeDistance() < 32);
+    }
+
+    @Test
+    public void serialization()
+    {
+        RobinHoodHashMap<Integer, String> map = RobinHoodHashMap.newMap();
+        Interval.oneTo(1000).forEach((int each) -> map.put(each, String.valueOf(each)));
+        map.put(null, null);
+        Map<Integer, String> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        Verify.assertInstanceOf(RobinHoodHashMap.class, deserialized);
+        Assert.assertEquals(map, deserialized);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidLoadFactor()
+    {
+        new RobinHoodHashMap<Integer, Integer>(8, 1.0f);
+    }
+
+    private static final class CountingKey
+    {
+        private final int value;
+        private final AtomicInteger equalsCalls;
+
+        private CountingKey(int value, AtomicInteger equalsCalls)
+        {
+            this.value = value;
+            this.equalsCalls = equalsCalls;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            this.equalsCalls.incrementAndGet();
+            return o instanceof CountingKey && ((CountingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value;
+        }
+    }
+}
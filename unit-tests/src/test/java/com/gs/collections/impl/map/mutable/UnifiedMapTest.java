@@ -16,6 +16,12 @@
 
 package com.gs.collections.impl.map.mutable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
@@ -25,6 +31,7 @@ import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Procedures;
 import com.gs.collections.impl.block.function.PassThruFunction0;
+import com.gs.collections.impl.codec.BinaryCodecs;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.math.IntegerSum;
 import com.gs.collections.impl.math.Sum;
@@ -72,6 +79,27 @@ public class UnifiedMapTest extends UnifiedMapTestCase
         return UnifiedMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
     }
 
+    @Test
+    public void binaryRoundTrip() throws IOException
+    {
+        UnifiedMap<Integer, String> map = UnifiedMap.newWithKeysValues(COLLISION_1, "1", COLLISION_2, "2", COLLISION_3, null, COLLISION_4, "4");
+        map.put(COLLISION_5, "5");
+        map.put(null, "null");
+        map.put(100, "100");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        map.write(new DataOutputStream(bytes), BinaryCodecs.integers(), BinaryCodecs.strings());
+        UnifiedMap<Integer, String> copy = UnifiedMap.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), BinaryCodecs.integers(), BinaryCodecs.strings());
+        Assert.assertEquals(map, copy);
+        Assert.assertTrue(copy.containsKey(COLLISION_3));
+
+        ByteArrayOutputStream corrupt = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(corrupt);
+        out.writeByte(BinaryCodecs.FORMAT_VERSION);
+        out.writeInt(-1);
+        out.writeFloat(0.75f);
+        Verify.assertThrows(StreamCorruptedException.class, () -> UnifiedMap.read(new DataInputStream(new ByteArrayInputStream(corrupt.toByteArray())), BinaryCodecs.integers(), BinaryCodecs.strings()));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void newMapWithNegativeInitialCapacity()
     {
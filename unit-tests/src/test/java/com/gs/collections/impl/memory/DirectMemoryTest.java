@@ -0,0 +1,164 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.memory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DirectMemoryTest
+{
+    @Test
+    public void constructor_throws()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new DirectMemory(-1L));
+    }
+
+    @Test
+    public void getAndPut()
+    {
+        DirectMemory memory = new DirectMemory(64L);
+        Assert.assertEquals(64L, memory.sizeInBytes());
+        Assert.assertEquals(0L, memory.getLong(8L));
+        memory.putByte(0L, (byte) 1);
+        memory.putShort(2L, (short) 2);
+        memory.putChar(4L, 'c');
+        memory.putInt(8L, 3);
+        memory.putFloat(12L, 4.0f);
+        memory.putLong(16L, 5L);
+        memory.putDouble(24L, 6.0);
+        Assert.assertEquals((byte) 1, memory.getByte(0L));
+        Assert.assertEquals((short) 2, memory.getShort(2L));
+        Assert.assertEquals('c', memory.getChar(4L));
+        Assert.assertEquals(3, memory.getInt(8L));
+        Assert.assertEquals(4.0f, memory.getFloat(12L), 0.0f);
+        Assert.assertEquals(5L, memory.getLong(16L));
+        Assert.assertEquals(6.0, memory.getDouble(24L), 0.0);
+        memory.free();
+    }
+
+    @Test
+    public void copyTo()
+    {
+        DirectMemory source = new DirectMemory(32L);
+        DirectMemory target = new DirectMemory(32L);
+        for (int i = 0; i < 4; i++)
+        {
+            source.putLong(i * 8L, i + 1L);
+        }
+        source.copyTo(8L, target, 0L, 16L);
+        Assert.assertEquals(2L, target.getLong(0L));
+        Assert.assertEquals(3L, target.getLong(8L));
+        Assert.assertEquals(0L, target.getLong(16L));
+        source.free();
+        target.free();
+    }
+
+    @Test
+    public void free()
+    {
+        DirectMemory memory = new DirectMemory(8L);
+        Assert.assertFalse(memory.isFreed());
+        memory.free();
+        Assert.assertTrue(memory.isFreed());
+        memory.free();
+        Verify.assertThrows(IllegalStateException.class, () -> memory.getInt(0L));
+    }
+
+    @Test
+    public void bufferCleaner()
+    {
+        DirectMemory.BufferCleaner cleaner = DirectMemory.lookUpBufferCleaner("sun.nio.ch.DirectBuffer", "sun.misc.Cleaner", "sun.misc.Unsafe");
+        Assert.assertTrue(cleaner.isEager());
+        Assert.assertTrue(DirectMemory.isFreedEagerly());
+        cleaner.clean(ByteBuffer.allocateDirect(8));
+    }
+
+    @Test
+    public void bufferCleaner_invokeCleaner()
+    {
+        DirectMemory.BufferCleaner cleaner = DirectMemory.lookUpBufferCleaner(
+                "com.gs.collections.impl.memory.NoSuchBuffer",
+                "com.gs.collections.impl.memory.NoSuchCleaner",
+                FakeUnsafe.class.getName());
+        Assert.assertTrue(cleaner.isEager());
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+        cleaner.clean(buffer);
+        Assert.assertSame(buffer, FakeUnsafe.theUnsafe.cleaned);
+        FakeUnsafe.theUnsafe.cleaned = null;
+    }
+
+    @Test
+    public void bufferCleaner_fallsBackToGarbageCollection()
+    {
+        Assert.assertFalse(DirectMemory.lookUpBufferCleaner("java.lang.Object", "sun.misc.Cleaner", "java.lang.Object").isEager());
+
+        DirectMemory.BufferCleaner cleaner = DirectMemory.lookUpBufferCleaner(
+                "com.gs.collections.impl.memory.NoSuchBuffer",
+                "com.gs.collections.impl.memory.NoSuchCleaner",
+                "com.gs.collections.impl.memory.NoSuchUnsafe");
+        Assert.assertFalse(cleaner.isEager());
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+        cleaner.clean(buffer);
+        buffer.putLong(0, 1L);
+        Assert.assertEquals(1L, buffer.getLong(0));
+    }
+
+    @Test
+    public void map() throws IOException
+    {
+        File file = File.createTempFile(DirectMemoryTest.class.getSimpleName(), ".bin");
+        file.deleteOnExit();
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try
+        {
+            DirectMemory writable = DirectMemory.map(randomAccessFile.getChannel(), FileChannel.MapMode.READ_WRITE, 0L, 16L);
+            writable.putLong(8L, 42L);
+            writable.force();
+            writable.free();
+            Assert.assertEquals(16L, file.length());
+
+            DirectMemory readOnly = DirectMemory.map(randomAccessFile.getChannel(), FileChannel.MapMode.READ_ONLY, 8L, 8L);
+            Assert.assertEquals(42L, readOnly.getLong(0L));
+            Verify.assertThrows(ReadOnlyBufferException.class, () -> readOnly.putLong(0L, 1L));
+            readOnly.free();
+        }
+        finally
+        {
+            randomAccessFile.close();
+        }
+    }
+
+    public static final class FakeUnsafe
+    {
+        private static final FakeUnsafe theUnsafe = new FakeUnsafe();
+
+        private ByteBuffer cleaned;
+
+        public void invokeCleaner(ByteBuffer buffer)
+        {
+            this.cleaned = buffer;
+        }
+    }
+}
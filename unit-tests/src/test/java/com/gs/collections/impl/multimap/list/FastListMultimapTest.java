@@ -16,6 +16,9 @@
 
 package com.gs.collections.impl.multimap.list;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.multimap.list.MutableListMultimap;
 import com.gs.collections.api.tuple.Pair;
@@ -128,4 +131,26 @@ public class FastListMultimapTest extends AbstractMutableListMultimapTestCase
         Assert.assertEquals(FastList.newListWith("Three", "ThreeThree", "Three"), actual.get(Integer.valueOf(3)).toList());
         Assert.assertEquals(FastList.newListWith("Four", "FourFour", "Four"), actual.get(Integer.valueOf(4)).toList());
     }
+
+    @Test
+    public void asParallel()
+    {
+        FastListMultimap<Integer, Integer> multimap = FastListMultimap.newMultimap();
+        for (int i = 1; i <= 1000; i++)
+        {
+            multimap.put(i % 10, i);
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            Assert.assertEquals(multimap.keysView().toSet(), multimap.asParallel(executorService, 2).keysView().toSet());
+            Assert.assertEquals(
+                    multimap.valuesView().toBag(),
+                    multimap.asParallel(executorService, 2).valuesView().flatCollect(each -> each).toBag());
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveBatchSizerTest
+{
+    @Test
+    public void constructor_throws()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSizer(0L, 4));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSizer(1000L, 0));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSizer(1000L, 4, null));
+    }
+
+    @Test
+    public void defaults()
+    {
+        AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer();
+        Assert.assertEquals(AdaptiveBatchSizer.DEFAULT_TARGET_TASK_NANOS, batchSizer.getTargetTaskNanos());
+        Assert.assertEquals(ParallelIterate.getDefaultMaxThreadPoolSize(), batchSizer.getParallelism());
+        Assert.assertFalse(batchSizer.hasSamples());
+        Assert.assertSame(AdaptiveBatchSizer.SYSTEM_CLOCK, batchSizer.getClock());
+    }
+
+    @Test
+    public void batchSize_withoutSamples()
+    {
+        AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(1000000L, 4);
+        Assert.assertEquals(1, batchSizer.batchSize(0));
+        Assert.assertEquals(1, batchSizer.batchSize(1));
+        Assert.assertEquals(1, batchSizer.batchSize(7));
+        Assert.assertEquals(125, batchSizer.batchSize(1000));
+        Assert.assertEquals(126, batchSizer.batchSize(1001));
+        Assert.assertTrue(batchSizer.shouldFork(1000));
+    }
+
+    @Test
+    public void batchSize_withSamples()
+    {
+        AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(1000000L, 4);
+        batchSizer.recordSample(0, 5000L);
+        Assert.assertFalse(batchSizer.hasSamples());
+
+        batchSizer.recordSample(100, 100000L);
+        Assert.assertTrue(batchSizer.hasSamples());
+        Assert.assertEquals(1000, batchSizer.batchSize(100000));
+        Assert.assertEquals(1000, batchSizer.batchSize(1000));
+        Assert.assertEquals(500, batchSizer.batchSize(500));
+        Assert.assertFalse(batchSizer.shouldFork(500));
+        Assert.assertTrue(batchSizer.shouldFork(1001));
+
+        batchSizer.recordSample(10, 290000L);
+        Assert.assertEquals(66, batchSizer.batchSize(100000));
+
+        batchSizer.recordSample(1, 100000000L);
+        Assert.assertEquals(1, batchSizer.batchSize(100000));
+    }
+
+    @Test
+    public void recordSample_concurrently()
+    {
+        AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(1000000L, 4);
+        ParallelIterate.forEach(Interval.oneTo(10000), each -> batchSizer.recordSample(100, 100000L), 1);
+        Assert.assertEquals(1000, batchSizer.batchSize(100000));
+    }
+}
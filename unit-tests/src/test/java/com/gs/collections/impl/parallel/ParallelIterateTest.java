@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
@@ -267,6 +268,67 @@ public class ParallelIterateTest
         Assert.assertEquals(40, sum7.getSum());
     }
 
+    @Test
+    public void forEachAdaptive()
+    {
+        IntegerSum sum1 = new IntegerSum(0);
+        ParallelIterate.forEach(Interval.oneTo(20000).toList(), new SumProcedure(sum1), new SumCombiner(sum1), new AdaptiveBatchSizer(), this.executor);
+        Assert.assertEquals(200010000, sum1.getSum());
+
+        IntegerSum sum2 = new IntegerSum(0);
+        ParallelIterate.forEach(UnifiedSet.newSet(Interval.oneTo(100)), new SumProcedure(sum2), new SumCombiner(sum2), new AdaptiveBatchSizer(), this.executor);
+        Assert.assertEquals(5050, sum2.getSum());
+
+        IntegerSum sum3 = new IntegerSum(0);
+        ParallelIterate.forEach(FastList.<Integer>newList(), new SumProcedure(sum3), new SumCombiner(sum3), new AdaptiveBatchSizer(), this.executor);
+        Assert.assertEquals(0, sum3.getSum());
+
+        MutableList<Integer> list = Interval.oneTo(20000).toList();
+        MutableList<Integer> selected = FastList.newList();
+        ParallelIterate.forEach(
+                list,
+                new FastListSelectProcedureFactory<Integer>(Predicates.greaterThan(10), 100),
+                new FastListSelectProcedureCombiner<Integer>(list, selected, 10, false),
+                new AdaptiveBatchSizer(1L, 4),
+                this.executor);
+        Assert.assertEquals(Interval.fromTo(11, 20000), selected);
+    }
+
+    @Test
+    public void forEachAdaptive_cheapWorkIsNotForked()
+    {
+        AtomicInteger forkCount = new AtomicInteger();
+        AtomicInteger sum = new AtomicInteger();
+        AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(1000000L, 4, () -> 0L);
+        ParallelIterate.forEach(Interval.oneTo(100).toList(), sum::addAndGet, batchSizer, command -> {
+            forkCount.incrementAndGet();
+            this.executor.execute(command);
+        });
+        Assert.assertEquals(5050, sum.get());
+        Assert.assertEquals(0, forkCount.get());
+    }
+
+    @Test
+    public void forEachAdaptive_expensiveWorkIsForked()
+    {
+        AtomicInteger forkCount = new AtomicInteger();
+        AtomicInteger sum = new AtomicInteger();
+        AtomicLong nanos = new AtomicLong();
+        AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(1000000L, 2, nanos::get);
+        ParallelIterate.forEach(Interval.oneTo(64).toList(), each -> {
+            nanos.addAndGet(1000000L);
+            sum.addAndGet(each);
+        }, batchSizer, command -> {
+            forkCount.incrementAndGet();
+            this.executor.execute(command);
+        });
+        Assert.assertEquals(2080, sum.get());
+        Assert.assertTrue(batchSizer.hasSamples());
+        // Only the first element was sampled on the calling thread, and it took the whole target duration
+        Assert.assertEquals(1, batchSizer.batchSize(1000));
+        Assert.assertEquals(63, forkCount.get());
+    }
+
     @Test
     public void testForEachWithException()
     {
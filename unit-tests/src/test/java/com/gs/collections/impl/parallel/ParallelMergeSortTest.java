@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelMergeSortTest
+{
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @After
+    public void tearDown()
+    {
+        this.executor.shutdown();
+    }
+
+    @Test
+    public void sort_oddNumberOfMergeRounds()
+    {
+        MutableList<Integer> list = Interval.oneTo(1000).toList();
+        Collections.shuffle(list, new Random(42L));
+        Integer[] array = list.toArray(new Integer[1010]);
+        ParallelMergeSort.sort(array, 1000, null, this.executor, 8, 10);
+        Assert.assertEquals(Interval.oneTo(1000).toList(), FastList.newListWith(array).subList(0, 1000));
+        Assert.assertNull(array[1000]);
+    }
+
+    @Test
+    public void sort_evenNumberOfMergeRounds()
+    {
+        MutableList<Integer> list = Interval.oneTo(1001).toList();
+        Collections.shuffle(list, new Random(42L));
+        Integer[] array = list.toArray(new Integer[1001]);
+        ParallelMergeSort.sort(array, 1001, Collections.<Integer>reverseOrder(), this.executor, 4, 10);
+        Assert.assertEquals(Interval.fromToBy(1001, 1, -1).toList(), FastList.newListWith(array));
+    }
+
+    @Test
+    public void sort_stable()
+    {
+        MutableList<Integer> list = Interval.oneTo(2000).toList();
+        Collections.shuffle(list, new Random(42L));
+        Integer[] array = list.toArray(new Integer[2000]);
+        ParallelMergeSort.sort(array, 2000, Comparators.byFunction(each -> each % 7), this.executor, 16, 16);
+        Assert.assertEquals(list.sortThis(Comparators.byFunction(each -> each % 7)), FastList.newListWith(array));
+    }
+
+    @Test
+    public void sortPrimitive()
+    {
+        Random random = new Random(42L);
+        int[] array = new int[5000];
+        for (int i = 0; i < array.length; i++)
+        {
+            array[i] = random.nextInt();
+        }
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        ParallelIntMergeSort.sort(array, array.length, this.executor, 8, 100);
+        Assert.assertArrayEquals(expected, array);
+
+        double[] doubles = {3.0, Double.NaN, -0.0, 0.0, -1.0, Double.NEGATIVE_INFINITY, 2.0, Double.NaN, 0.0, -0.0};
+        double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedDoubles);
+        ParallelDoubleMergeSort.sort(doubles, doubles.length, this.executor, 2, 2);
+        Assert.assertArrayEquals(expectedDoubles, doubles, 0.0);
+    }
+
+    @Test
+    public void sortThis()
+    {
+        MutableList<Integer> list = Interval.oneTo(100).toList();
+        Collections.shuffle(list);
+        Assert.assertSame(list, ParallelMergeSort.sortThis(list, null));
+        Assert.assertEquals(Interval.oneTo(100).toList(), list);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import java.util.Random;
+
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieSet}.
+ */
+public class ImmutableHashTrieSetTest extends AbstractImmutableUnifiedSetTestCase
+{
+    @Override
+    public ImmutableSet<Integer> newSet(Integer... elements)
+    {
+        return ImmutableHashTrieSet.newSetWith(elements);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two, int three)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two, three);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int... littleElements)
+    {
+        Integer[] bigElements = new Integer[littleElements.length];
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            bigElements[i] = littleElements[i];
+        }
+        return ImmutableHashTrieSet.newSetWith(bigElements);
+    }
+
+    @Test
+    public void factorySelectsTrieAboveThreshold()
+    {
+        int threshold = ImmutableHashTrieSet.MINIMUM_SIZE;
+        ImmutableSet<Integer> small = Sets.immutable.withAll(Interval.oneTo(threshold - 1));
+        Verify.assertInstanceOf(ImmutableUnifiedSet.class, small);
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, Interval.oneTo(threshold).toSet().toImmutable());
+        ImmutableSet<Integer> grown = small.newWith(threshold);
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, grown);
+        Assert.assertEquals(Interval.oneTo(threshold).toSet(), grown);
+    }
+
+    @Test
+    public void randomUpdatesMatchUnifiedSet()
+    {
+        Random random = new Random(42L);
+        MutableSet<Integer> expected = UnifiedSet.newSet();
+        ImmutableSet<Integer> actual = ImmutableHashTrieSet.newSetWith();
+        for (int i = 0; i < 20000; i++)
+        {
+            Integer element = random.nextInt(5000) * 7919;
+            if (random.nextInt(3) == 0)
+            {
+                expected.remove(element);
+                actual = actual.newWithout(element);
+            }
+            else
+            {
+                expected.add(element);
+                actual = actual.newWith(element);
+            }
+        }
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        Verify.assertEmpty(actual.newWithoutAll(expected));
+        Verify.assertSize(expected.size(), actual.toList());
+    }
+
+    @Test
+    public void collidingElements()
+    {
+        // "Aa" and "BB" have the same hash code, so every element below collides with every other element
+        String[] elements = {"AaAaAa", "AaAaBB", "AaBBAa", "AaBBBB", "BBAaAa", "BBAaBB", "BBBBAa", "BBBBBB"};
+        ImmutableSet<String> set = ImmutableHashTrieSet.newSetWith("other");
+        for (String element : elements)
+        {
+            set = set.newWith(element);
+        }
+        Verify.assertSize(elements.length + 1, set);
+        Verify.assertContainsAll(set, elements);
+        Assert.assertFalse(set.contains("AaAa"));
+        Assert.assertSame(set, set.newWith(elements[2]));
+        for (int i = 0; i < elements.length; i++)
+        {
+            set = set.newWithout(elements[i]);
+            Verify.assertSize(elements.length - i, set);
+        }
+        Assert.assertEquals(UnifiedSet.newSetWith("other"), set);
+    }
+
+    @Test
+    public void updatesShareOriginal()
+    {
+        ImmutableSet<Integer> original = ImmutableHashTrieSet.newSetWith(Interval.oneTo(2000).toArray());
+        ImmutableSet<Integer> updated = original.newWith(0).newWithout(1).newWithAll(Interval.fromTo(2001, 2010));
+        Verify.assertSize(2000, original);
+        Verify.assertContains(1, original);
+        Verify.assertNotContains(0, original);
+        Verify.assertSize(2010, updated);
+        Verify.assertNotContains(1, updated);
+        Verify.assertContains(2010, updated);
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableSet<Integer> set = ImmutableHashTrieSet.newSetWith(Interval.oneTo(2000).toArray());
+        ImmutableSet<Integer> deserialized = SerializeTestHelper.serializeDeserialize(set);
+        Assert.assertEquals(set, deserialized);
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, deserialized);
+    }
+}
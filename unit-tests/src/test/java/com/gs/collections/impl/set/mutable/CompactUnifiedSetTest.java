@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test suite for {@link CompactUnifiedSet}.
+ */
+public class CompactUnifiedSetTest extends AbstractUnifiedSetTestCase
+{
+    @Override
+    protected <T> CompactUnifiedSet<T> newWith(T... littleElements)
+    {
+        return CompactUnifiedSet.newSetWith(littleElements);
+    }
+
+    @Test
+    public void constructor_throws()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new CompactUnifiedSet<Integer>(-1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new CompactUnifiedSet<Integer>(0, -1));
+    }
+
+    @Test
+    public void switchesToChainedAboveThreshold()
+    {
+        CompactUnifiedSet<Integer> set = CompactUnifiedSet.newSet(0, 10);
+        for (int i = 1; i <= 10; i++)
+        {
+            set.add(i);
+            Assert.assertTrue(set.isCompact());
+        }
+        set.add(11);
+        Assert.assertFalse(set.isCompact());
+        Assert.assertEquals(Interval.oneTo(11).toSet(), set);
+        Assert.assertFalse(set.add(11));
+        Assert.assertTrue(set.remove(11));
+        Assert.assertEquals(Interval.oneTo(10).toSet(), set);
+
+        set.clear();
+        Assert.assertTrue(set.isCompact());
+        Verify.assertEmpty(set);
+
+        Assert.assertFalse(CompactUnifiedSet.newSet(11, 10).isCompact());
+        Assert.assertTrue(CompactUnifiedSet.newSet(Interval.oneTo(CompactUnifiedSet.DEFAULT_THRESHOLD)).isCompact());
+        Assert.assertFalse(CompactUnifiedSet.newSet(Interval.oneTo(CompactUnifiedSet.DEFAULT_THRESHOLD + 1)).isCompact());
+    }
+
+    @Test
+    public void collisionsAndRemovalMatchUnifiedSet()
+    {
+        Random random = new Random(42L);
+        MutableSet<Integer> expected = UnifiedSet.newSet();
+        CompactUnifiedSet<Integer> actual = CompactUnifiedSet.newSet(0, Integer.MAX_VALUE);
+        for (int i = 0; i < 20000; i++)
+        {
+            // Multiples of 17 collide in small tables
+            Integer element = random.nextInt(300) * 17;
+            if (random.nextInt(3) == 0)
+            {
+                Assert.assertEquals(expected.remove(element), actual.remove(element));
+            }
+            else
+            {
+                Assert.assertEquals(expected.add(element), actual.add(element));
+            }
+        }
+        Assert.assertTrue(actual.isCompact());
+        Verify.assertEqualsAndHashCode(expected, actual);
+        for (int i = 0; i < 300; i++)
+        {
+            Assert.assertEquals(expected.contains(i * 17), actual.contains(i * 17));
+        }
+    }
+
+    @Test
+    public void iterator_remove()
+    {
+        for (int threshold : new int[]{CompactUnifiedSet.DEFAULT_THRESHOLD, 0})
+        {
+            CompactUnifiedSet<Integer> set = CompactUnifiedSet.newSet(0, threshold);
+            set.withAll(Interval.oneTo(40).collect(each -> each * 17)).with((Integer) null);
+            MutableSet<Integer> expected = UnifiedSet.newSet(set);
+            Iterator<Integer> iterator = set.iterator();
+            int visited = 0;
+            while (iterator.hasNext())
+            {
+                Integer each = iterator.next();
+                visited++;
+                if (each == null || each % 2 == 0)
+                {
+                    iterator.remove();
+                    expected.remove(each);
+                }
+            }
+            Assert.assertEquals(41, visited);
+            Assert.assertEquals(expected, set);
+            Verify.assertSize(20, set);
+        }
+    }
+
+    @Test
+    public void cloneAndSerializationKeepThreshold()
+    {
+        CompactUnifiedSet<Integer> set = CompactUnifiedSet.<Integer>newSet(0, 5).with(1, 2, 3);
+        CompactUnifiedSet<Integer> clone = set.clone();
+        clone.add(4);
+        Verify.assertSize(3, set);
+        Assert.assertEquals(5, clone.getThreshold());
+
+        CompactUnifiedSet<Integer> deserialized = SerializeTestHelper.serializeDeserialize(set);
+        Assert.assertEquals(set, deserialized);
+        Assert.assertEquals(5, deserialized.getThreshold());
+        Assert.assertEquals(5, set.newEmpty().getThreshold());
+    }
+}
@@ -16,6 +16,12 @@
 
 package com.gs.collections.impl.set.mutable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.concurrent.Executors;
@@ -24,6 +30,7 @@ import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.Pool;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.Procedures;
+import com.gs.collections.impl.codec.BinaryCodecs;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.factory.Sets;
 import com.gs.collections.impl.list.Interval;
@@ -559,4 +566,24 @@ public class UnifiedSetTest extends AbstractMutableSetTestCase
         chainedWithOneSlot.remove(COLLISION_2);
         Assert.assertSame(COLLISION_1, chainedWithOneSlot.getLast());
     }
+
+    @Test
+    public void binaryRoundTrip() throws IOException
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newSet(MORE_COLLISIONS);
+        set.addAll(Interval.fromTo(1000, 1100));
+        set.add(null);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        set.write(new DataOutputStream(bytes), BinaryCodecs.integers());
+        UnifiedSet<Integer> copy = UnifiedSet.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), BinaryCodecs.integers());
+        Assert.assertEquals(set, copy);
+        Assert.assertTrue(copy.contains(null));
+
+        ByteArrayOutputStream corrupt = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(corrupt);
+        out.writeByte(BinaryCodecs.FORMAT_VERSION);
+        out.writeInt(1);
+        out.writeFloat(Float.NaN);
+        Verify.assertThrows(StreamCorruptedException.class, () -> UnifiedSet.read(new DataInputStream(new ByteArrayInputStream(corrupt.toByteArray())), BinaryCodecs.integers()));
+    }
 }